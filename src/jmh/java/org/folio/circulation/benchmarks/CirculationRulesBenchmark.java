@@ -0,0 +1,127 @@
+package org.folio.circulation.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+
+import java.util.UUID;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.Text2Drools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import api.support.builders.LocationBuilder;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.CaseInsensitiveHeaders;
+
+/**
+ * Converting the circulation rules to drools, which happens whenever the rules
+ * are not already remembered, and applying them, which happens for every
+ * loan, request and notice policy lookup
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CirculationRulesBenchmark {
+  @Param({ "100", "1000" })
+  private int numberOfRules;
+
+  private String rulesText;
+  private Drools drools;
+  private MultiMap lastRuleParameters;
+  private MultiMap fallbackParameters;
+  private Location location;
+
+  @Setup
+  public void setUp() {
+    rulesText = rules(numberOfRules);
+    drools = new Drools(Text2Drools.convert(rulesText));
+
+    final int lastRule = numberOfRules - 1;
+
+    lastRuleParameters = parameters("material-type-" + lastRule,
+      "loan-type-" + lastRule, "patron-group-" + lastRule);
+
+    fallbackParameters = parameters("unknown-material-type",
+      "unknown-loan-type", "unknown-patron-group");
+
+    location = Location.from(new LocationBuilder()
+      .forInstitution(UUID.randomUUID())
+      .forCampus(UUID.randomUUID())
+      .forLibrary(UUID.randomUUID())
+      .create());
+  }
+
+  @Benchmark
+  public String convertRulesToDrools() {
+    return Text2Drools.convert(rulesText);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch loanPolicyMatchingLastRule() {
+    return drools.loanPolicy(lastRuleParameters, location);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch loanPolicyFallingBack() {
+    return drools.loanPolicy(fallbackParameters, location);
+  }
+
+  /**
+   * Rules for many material and loan types, some of which have nested
+   * rules for patron groups, similar to those used by large libraries
+   */
+  private static String rules(int numberOfRules) {
+    final StringBuilder rules = new StringBuilder()
+      .append("priority: t, s, c, b, a, m, g\n")
+      .append("fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item\n");
+
+    for (int rule = 0; rule < numberOfRules; rule++) {
+      rules.append(String.format("m material-type-%d + t loan-type-%d: %s%n",
+        rule, rule, policies(rule)));
+
+      if (rule % 2 == 1 || rule == numberOfRules - 1) {
+        rules.append(String.format("    g patron-group-%d: %s%n",
+          rule, policies(numberOfRules + rule)));
+      }
+    }
+
+    return rules.toString();
+  }
+
+  private static String policies(int number) {
+    return String.format(
+      "l loan-policy-%1$d r request-policy-%1$d n notice-policy-%1$d o overdue-policy-%1$d i lost-item-policy-%1$d",
+      number);
+  }
+
+  private static MultiMap parameters(String itemTypeId, String loanTypeId,
+    String patronGroupId) {
+
+    final MultiMap parameters = new CaseInsensitiveHeaders();
+
+    parameters.add(ITEM_TYPE_ID_NAME, itemTypeId);
+    parameters.add(LOAN_TYPE_ID_NAME, loanTypeId);
+    parameters.add(PATRON_TYPE_ID_NAME, patronGroupId);
+    parameters.add(LOCATION_ID_NAME, UUID.randomUUID().toString());
+
+    return parameters;
+  }
+}
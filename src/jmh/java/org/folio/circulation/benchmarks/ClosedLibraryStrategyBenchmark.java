@@ -0,0 +1,111 @@
+package org.folio.circulation.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.folio.circulation.domain.policy.LoanPolicyPeriod.HOURS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningHour;
+import org.folio.circulation.domain.policy.library.BeginningOfNextOpenHoursStrategy;
+import org.folio.circulation.domain.policy.library.ClosedLibraryStrategy;
+import org.folio.circulation.domain.policy.library.EndOfCurrentHoursStrategy;
+import org.folio.circulation.domain.policy.library.EndOfNextOpenDayStrategy;
+import org.folio.circulation.domain.policy.library.EndOfPreviousDayStrategy;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Moving a due date that falls on a closed day, using each of the closed
+ * library strategies, for libraries with few or many opening periods a day
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClosedLibraryStrategyBenchmark {
+  private static final DateTimeZone ZONE = DateTimeZone.forID("America/New_York");
+  private static final int OPEN_MINUTES_PER_DAY = 12 * 60;
+  private static final int MINUTES_BETWEEN_PERIODS = 10;
+
+  @Param({ "EndOfNextOpenDay", "EndOfPreviousDay", "BeginningOfNextOpenHours",
+    "EndOfCurrentHours" })
+  private String strategyName;
+
+  @Param({ "1", "12" })
+  private int openingPeriodsPerDay;
+
+  private ClosedLibraryStrategy strategy;
+  private AdjacentOpeningDays openingDays;
+  private DateTime requestedDate;
+
+  @Setup
+  public void setUp() {
+    final LocalDate closedDay = new LocalDate(2020, 11, 26);
+
+    openingDays = new AdjacentOpeningDays(
+      openDay(closedDay.minusDays(1)),
+      OpeningDay.createOpeningDay(Collections.emptyList(), closedDay, false,
+        false, ZONE),
+      openDay(closedDay.plusDays(1)));
+
+    requestedDate = closedDay.toDateTime(new LocalTime(14, 0), ZONE);
+
+    strategy = strategy(strategyName,
+      closedDay.minusDays(1).toDateTime(new LocalTime(9, 0), ZONE));
+  }
+
+  @Benchmark
+  public Result<DateTime> calculateDueDate() {
+    return strategy.calculateDueDate(requestedDate, openingDays);
+  }
+
+  private OpeningDay openDay(LocalDate date) {
+    final List<OpeningHour> periods = new ArrayList<>();
+    final int minutesPerPeriod = OPEN_MINUTES_PER_DAY / openingPeriodsPerDay;
+
+    for (int period = 0; period < openingPeriodsPerDay; period++) {
+      final LocalTime start = new LocalTime(8, 0)
+        .plusMinutes(period * minutesPerPeriod);
+
+      periods.add(new OpeningHour(start,
+        start.plusMinutes(minutesPerPeriod - MINUTES_BETWEEN_PERIODS)));
+    }
+
+    return OpeningDay.createOpeningDay(periods, date, false, true, ZONE);
+  }
+
+  private static ClosedLibraryStrategy strategy(String name, DateTime currentTime) {
+    switch (name) {
+      case "EndOfNextOpenDay":
+        return new EndOfNextOpenDayStrategy(ZONE);
+      case "EndOfPreviousDay":
+        return new EndOfPreviousDayStrategy(ZONE);
+      case "BeginningOfNextOpenHours":
+        return new BeginningOfNextOpenHoursStrategy(HOURS, 2, ZONE);
+      case "EndOfCurrentHours":
+        return new EndOfCurrentHoursStrategy(currentTime, ZONE);
+      default:
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+  }
+}
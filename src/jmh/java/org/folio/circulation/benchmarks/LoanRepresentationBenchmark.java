@@ -0,0 +1,135 @@
+package org.folio.circulation.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.LoanRepresentation;
+import org.folio.circulation.domain.User;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Interpreting a page of loans fetched from storage, and producing the
+ * representation of each loan returned to the client
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoanRepresentationBenchmark {
+  @Param({ "1000" })
+  private int pageSize;
+
+  private final LoanRepresentation loanRepresentation = new LoanRepresentation();
+
+  private List<JsonObject> storedLoans;
+  private List<Loan> loans;
+
+  @Setup
+  public void setUp() {
+    storedLoans = new ArrayList<>(pageSize);
+    loans = new ArrayList<>(pageSize);
+
+    // Many loans in a page are often for the same few patrons
+    final List<User> users = new ArrayList<>();
+
+    for (int userNumber = 0; userNumber < 50; userNumber++) {
+      users.add(new User(user(userNumber)));
+    }
+
+    for (int loanNumber = 0; loanNumber < pageSize; loanNumber++) {
+      final JsonObject item = item(loanNumber);
+      final User user = users.get(loanNumber % users.size());
+      final JsonObject loan = loan(item.getString("id"), user.getId(), loanNumber);
+
+      storedLoans.add(loan);
+
+      loans.add(Loan.from(loan.copy())
+        .withItem(Item.from(item))
+        .withUser(user));
+    }
+  }
+
+  @Benchmark
+  public void loansFromStorage(Blackhole blackhole) {
+    for (JsonObject storedLoan : storedLoans) {
+      blackhole.consume(Loan.from(storedLoan));
+    }
+  }
+
+  @Benchmark
+  public void extendedLoanRepresentations(Blackhole blackhole) {
+    for (Loan loan : loans) {
+      blackhole.consume(loanRepresentation.extendedLoan(loan));
+    }
+  }
+
+  private static JsonObject loan(String itemId, String userId, int number) {
+    final DateTime loanDate = new DateTime(2020, 10, 1, 10, 0, DateTimeZone.UTC)
+      .plusMinutes(number);
+
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("userId", userId)
+      .put("itemId", itemId)
+      .put("loanDate", loanDate.toString())
+      .put("dueDate", loanDate.plusWeeks(3).toString())
+      .put("action", "checkedout")
+      .put("status", new JsonObject().put("name", "Open"))
+      .put("itemStatus", "Checked out")
+      .put("loanPolicyId", UUID.randomUUID().toString())
+      .put("overdueFinePolicyId", UUID.randomUUID().toString())
+      .put("lostItemPolicyId", UUID.randomUUID().toString())
+      .put("checkoutServicePointId", UUID.randomUUID().toString())
+      .put("patronGroupIdAtCheckout", UUID.randomUUID().toString())
+      .put("renewalCount", number % 3)
+      .put("metadata", new JsonObject()
+        .put("createdDate", loanDate.toString())
+        .put("updatedDate", loanDate.toString()));
+  }
+
+  private static JsonObject item(int number) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("holdingsRecordId", UUID.randomUUID().toString())
+      .put("barcode", String.format("%010d", number))
+      .put("status", new JsonObject().put("name", "Checked out"))
+      .put("materialTypeId", UUID.randomUUID().toString())
+      .put("permanentLoanTypeId", UUID.randomUUID().toString())
+      .put("effectiveLocationId", UUID.randomUUID().toString())
+      .put("effectiveCallNumberComponents", new JsonObject()
+        .put("callNumber", "QA76.73.J38 " + number));
+  }
+
+  private static JsonObject user(int number) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("username", "patron-" + number)
+      .put("barcode", String.format("%08d", number))
+      .put("active", true)
+      .put("personal", new JsonObject()
+        .put("firstName", "Patron")
+        .put("lastName", String.valueOf(number)));
+  }
+}
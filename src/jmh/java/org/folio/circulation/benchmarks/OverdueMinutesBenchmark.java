@@ -0,0 +1,97 @@
+package org.folio.circulation.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.folio.circulation.domain.OpenMinutesIndex;
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.domain.OpeningHour;
+import org.joda.time.DateTimeConstants;
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.joda.time.LocalTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counting the minutes a service point was open while a loan was overdue,
+ * which is what an overdue fine is charged for when closed periods are not
+ * counted, for loans returned a month or a year late
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OverdueMinutesBenchmark {
+  @Param({ "31", "365" })
+  private int daysOverdue;
+
+  private List<OpeningDay> openingDays;
+  private OpenMinutesIndex openMinutes;
+  private LocalDateTime dueDate;
+  private LocalDateTime returnDate;
+
+  @Setup
+  public void setUp() {
+    final LocalDate firstDay = new LocalDate(2020, 1, 6);
+
+    openingDays = new ArrayList<>(daysOverdue + 1);
+
+    for (int day = 0; day <= daysOverdue; day++) {
+      openingDays.add(openingDay(firstDay.plusDays(day)));
+    }
+
+    openMinutes = new OpenMinutesIndex(openingDays);
+
+    dueDate = firstDay.toLocalDateTime(new LocalTime(12, 30));
+    returnDate = firstDay.plusDays(daysOverdue).toLocalDateTime(new LocalTime(15, 45));
+  }
+
+  @Benchmark
+  public int indexCalendarAndCountMinutesOpen() {
+    return new OpenMinutesIndex(openingDays).minutesOpenBetween(dueDate, returnDate);
+  }
+
+  @Benchmark
+  public int countMinutesOpen() {
+    return openMinutes.minutesOpenBetween(dueDate, returnDate);
+  }
+
+  /**
+   * Open with a lunch break on weekdays, for the morning on Saturdays and
+   * closed on Sundays
+   */
+  private static OpeningDay openingDay(LocalDate date) {
+    switch (date.getDayOfWeek()) {
+      case DateTimeConstants.SUNDAY:
+        return OpeningDay.createOpeningDay(new ArrayList<>(), date, false,
+          false, DateTimeZone.UTC);
+
+      case DateTimeConstants.SATURDAY:
+        return OpeningDay.createOpeningDay(Arrays.asList(
+          new OpeningHour(new LocalTime(9, 0), new LocalTime(13, 0))),
+          date, false, true, DateTimeZone.UTC);
+
+      default:
+        return OpeningDay.createOpeningDay(Arrays.asList(
+          new OpeningHour(new LocalTime(8, 0), new LocalTime(12, 0)),
+          new OpeningHour(new LocalTime(13, 0), new LocalTime(20, 0))),
+          date, false, true, DateTimeZone.UTC);
+    }
+  }
+}
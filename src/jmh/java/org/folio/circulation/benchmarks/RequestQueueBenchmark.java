@@ -0,0 +1,92 @@
+package org.folio.circulation.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.domain.Request;
+import org.folio.circulation.domain.RequestQueue;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Building a request queue from the requests fetched from storage, then
+ * fulfilling the first request and placing a new one, which resequences
+ * the whole queue, as happens during check out and request creation
+ *
+ * The requests are interpreted again for each invocation, as the queue
+ * changes the positions of the requests it holds
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestQueueBenchmark {
+  @Param({ "10", "100", "1000" })
+  private int queueLength;
+
+  private final String itemId = UUID.randomUUID().toString();
+
+  private List<JsonObject> storedRequests;
+  private JsonObject newRequest;
+
+  @Setup
+  public void setUp() {
+    storedRequests = new ArrayList<>(queueLength);
+
+    // Stored in a different order to their positions
+    for (int position = queueLength; position >= 1; position--) {
+      storedRequests.add(request(position));
+    }
+
+    newRequest = request(queueLength + 1);
+  }
+
+  @Benchmark
+  public Collection<Request> fulfilFirstAndPlaceNewRequest() {
+    final RequestQueue queue = new RequestQueue(storedRequests.stream()
+      .map(JsonObject::copy)
+      .map(Request::from)
+      .collect(toList()));
+
+    final Request first = queue.getRequests().iterator().next();
+
+    queue.remove(first);
+    queue.add(Request.from(newRequest.copy()));
+
+    return queue.getRequestsWithChangedPosition();
+  }
+
+  private JsonObject request(int position) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("requestType", "Hold")
+      .put("requestDate", new DateTime(2020, 10, 1, 10, 0, DateTimeZone.UTC)
+        .plusMinutes(position).toString())
+      .put("itemId", itemId)
+      .put("requesterId", UUID.randomUUID().toString())
+      .put("fulfilmentPreference", "Hold Shelf")
+      .put("pickupServicePointId", UUID.randomUUID().toString())
+      .put("status", "Open - Not yet filled")
+      .put("position", position);
+  }
+}
@@ -0,0 +1,123 @@
+package org.folio.circulation.benchmarks;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * The latency added by each stage of an asynchronous pipeline built using
+ * Result.after, which continues on the Vert.x context the request is being
+ * handled on, compared with handing every stage to the common fork join pool
+ * (which is what the *Async variants of CompletableFuture without an executor do)
+ *
+ * Each stage either completes immediately, or on another context (as a
+ * response from another module might)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultPipelineBenchmark {
+  @Param({ "1", "10" })
+  private int stages;
+
+  private Vertx vertx;
+  private Context requestContext;
+  private Context storageContext;
+
+  @Setup
+  public void setUp() {
+    vertx = Vertx.vertx();
+    requestContext = vertx.getOrCreateContext();
+    storageContext = vertx.getOrCreateContext();
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public Result<Integer> stagesCompletedImmediatelyOutsideOfContext() {
+    return pipeline(value -> completedFuture(succeeded(value + 1))).join();
+  }
+
+  @Benchmark
+  public Result<Integer> stagesCompletedImmediatelyOnRequestContext() {
+    return onRequestContext(() -> pipeline(
+      value -> completedFuture(succeeded(value + 1))));
+  }
+
+  @Benchmark
+  public Result<Integer> stagesCompletedOnStorageContext() {
+    return onRequestContext(() -> pipeline(this::incrementOnStorageContext));
+  }
+
+  @Benchmark
+  public Result<Integer> stagesCompletedOnStorageContextUsingCommonPool() {
+    return onRequestContext(() -> {
+      CompletableFuture<Result<Integer>> pipeline = completedFuture(succeeded(0));
+
+      for (int stage = 0; stage < stages; stage++) {
+        pipeline = pipeline.thenComposeAsync(result ->
+          incrementOnStorageContext(result.value()));
+      }
+
+      return pipeline;
+    });
+  }
+
+  private CompletableFuture<Result<Integer>> pipeline(
+    Function<Integer, CompletableFuture<Result<Integer>>> stage) {
+
+    CompletableFuture<Result<Integer>> pipeline = completedFuture(succeeded(0));
+
+    for (int stageNumber = 0; stageNumber < stages; stageNumber++) {
+      pipeline = pipeline.thenCompose(result -> result.after(stage));
+    }
+
+    return pipeline;
+  }
+
+  private CompletableFuture<Result<Integer>> incrementOnStorageContext(Integer value) {
+    final CompletableFuture<Result<Integer>> response = new CompletableFuture<>();
+
+    storageContext.runOnContext(notUsed -> response.complete(succeeded(value + 1)));
+
+    return response;
+  }
+
+  private Result<Integer> onRequestContext(
+    Supplier<CompletableFuture<Result<Integer>>> pipeline) {
+
+    final CompletableFuture<Result<Integer>> completed = new CompletableFuture<>();
+
+    requestContext.runOnContext(notUsed -> pipeline.get()
+      .thenAccept(completed::complete));
+
+    return completed.join();
+  }
+}
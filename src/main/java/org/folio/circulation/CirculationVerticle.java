@@ -1,6 +1,9 @@
 package org.folio.circulation;
 
+import static org.folio.circulation.support.writebehind.WriteBehindQueue.writeBehindQueue;
+
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.resources.ChangeDueDateResource;
 import org.folio.circulation.resources.CheckInByBarcodeResource;
@@ -38,6 +41,7 @@ import org.folio.circulation.resources.handlers.LoanRelatedFeeFineClosedHandlerR
 import org.folio.circulation.resources.renewal.OverrideRenewalByBarcodeResource;
 import org.folio.circulation.resources.renewal.RenewByBarcodeResource;
 import org.folio.circulation.resources.renewal.RenewByIdResource;
+import org.folio.circulation.services.PubSubOutbox;
 import org.folio.circulation.support.logging.Logging;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +54,8 @@ import io.vertx.core.http.HttpServer;
 import io.vertx.ext.web.Router;
 
 public class CirculationVerticle extends AbstractVerticle {
+  private static final long QUEUED_WRITES_TIMEOUT_MILLISECONDS = 30000;
+
   private HttpServer server;
 
   @Override
@@ -154,11 +160,27 @@ public class CirculationVerticle extends AbstractVerticle {
       server.close(result -> {
         if (result.succeeded()) {
           log.info("Stopped listening on {}", server.actualPort());
-          stopFuture.complete();
+          waitForQueuedWrites(log, stopFuture);
         } else {
           stopFuture.fail(result.cause());
         }
       });
     }
   }
+
+  private void waitForQueuedWrites(Logger log, Promise<Void> stopFuture) {
+    final long timerId = vertx.setTimer(QUEUED_WRITES_TIMEOUT_MILLISECONDS,
+      notUsed -> {
+        log.warn("Stopped before all queued writes were made or events published");
+
+        stopFuture.tryComplete();
+      });
+
+    CompletableFuture.allOf(writeBehindQueue().whenWritten(),
+      PubSubOutbox.whenAllPublished())
+      .thenRun(() -> {
+        vertx.cancelTimer(timerId);
+        stopFuture.tryComplete();
+      });
+  }
 }
@@ -36,8 +36,10 @@ public class Launcher {
     Runtime.getRuntime().addShutdownHook(new Thread(launcher::stop));
 
     Integer port = Integer.getInteger("port", 9801);
+    Integer instances = Integer.getInteger("instances",
+      Runtime.getRuntime().availableProcessors());
 
-    launcher.start(port).get(10, TimeUnit.SECONDS);
+    launcher.start(port, instances).get(10, TimeUnit.SECONDS);
   }
 
   private void stop() {
@@ -53,20 +55,28 @@ public class Launcher {
   }
 
   public CompletableFuture<Void> start(Integer port) {
+    return start(port, 1);
+  }
+
+  public CompletableFuture<Void> start(Integer port, Integer instances) {
 
     if(port == null) {
       throw new IllegalArgumentException("port should not be null");
     }
 
+    if(instances == null || instances < 1) {
+      throw new IllegalArgumentException("instances should be at least 1");
+    }
+
     vertxAssistant.start();
 
-    log.info("Server Starting");
+    log.info("Server Starting with {} instance(s)", instances);
 
     JsonObject config = new JsonObject();
     write(config, "port", port);
 
     CompletableFuture<String> deployed =
-      vertxAssistant.deployVerticle(CirculationVerticle.class, config);
+      vertxAssistant.deployVerticle(CirculationVerticle.class, config, instances);
 
     return deployed
       .thenApply(result -> moduleDeploymentId = result)
@@ -43,7 +43,7 @@ public class StoreLoanAndItem {
 
     //TODO: What should happen if updating the item fails?
     return updateItem(loan.getItem())
-      .thenComposeAsync(response -> loanRepository.updateLoan(loan));
+      .thenCompose(response -> loanRepository.updateLoan(loan));
   }
 
   private CompletableFuture<Result<Response>> updateItem(Item item) {
@@ -177,6 +177,10 @@ public class Account {
     return creationDate;
   }
 
+  public boolean hasFeeFineActions() {
+    return !feeFineActions.isEmpty();
+  }
+
   public Account withFeeFineActions(Collection<FeeFineAction> actions) {
     return new Account(id, relatedRecordsInfo, amount, remaining, status, paymentStatus, actions,
       creationDate);
@@ -200,6 +200,15 @@ public class CheckInContext {
     return inHouseUse;
   }
 
+  /**
+   * An available item without an open loan or any requests, checked in at a
+   * service point for its home location (e.g. when it is being shelved), only
+   * needs the check in to be logged and the item to be updated
+   */
+  public boolean isItemOnlyCheckIn() {
+    return inHouseUse && loan == null;
+  }
+
   public String getCheckInRequestBarcode() {
     return checkInRequest.getItemBarcode();
   }
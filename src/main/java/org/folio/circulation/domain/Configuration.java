@@ -3,14 +3,21 @@ package org.folio.circulation.domain;
 import io.vertx.core.json.JsonObject;
 
 public class Configuration {
+  private static final String ID_KEY = "id";
   private static final String VALUE_KEY = "value";
 
+  private String id;
   private String value;
 
   public Configuration(JsonObject jsonObject) {
+    id = jsonObject.getString(ID_KEY);
     value = jsonObject.getString(VALUE_KEY);
   }
 
+  public String getId() {
+    return id;
+  }
+
   public String getValue() {
     return value;
   }
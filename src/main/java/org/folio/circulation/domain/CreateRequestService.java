@@ -57,17 +57,17 @@ public class CreateRequestService {
       .next(RequestServiceUtility::refuseWhenUserIsInactive)
       .next(RequestServiceUtility::refuseWhenUserHasAlreadyRequestedItem)
       .after(requestLoanValidator::refuseWhenUserHasAlreadyBeenLoanedItem)
-      .thenComposeAsync(r -> r.after(userManualBlocksValidator::refuseWhenUserIsBlocked))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(userManualBlocksValidator::refuseWhenUserIsBlocked))
+      .thenCompose(r -> r.after(
         automatedPatronBlocksValidator::refuseWhenRequestActionIsBlockedForPatron))
-      .thenComposeAsync(r -> r.after(requestPolicyRepository::lookupRequestPolicy))
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
+      .thenCompose(r -> r.after(requestPolicyRepository::lookupRequestPolicy))
+      .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         RequestAndRelatedRecords::withTimeZone))
       .thenApply(r -> r.next(RequestServiceUtility::refuseWhenRequestCannotBeFulfilled))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateItem::onRequestCreateOrUpdate))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate))
-      .thenComposeAsync(r -> r.after(requestRepository::create))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateRequestQueue::onCreate))
+      .thenCompose(r -> r.after(updateUponRequest.updateItem::onRequestCreateOrUpdate))
+      .thenCompose(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate))
+      .thenCompose(r -> r.after(requestRepository::create))
+      .thenCompose(r -> r.after(updateUponRequest.updateRequestQueue::onCreate))
       .thenApply(r -> r.next(requestNoticeSender::sendNoticeOnRequestCreated));
   }
 
@@ -1,8 +1,11 @@
 package org.folio.circulation.domain;
 
-import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
 
 public enum ItemStatus {
   NONE(""),
@@ -21,14 +24,22 @@ public enum ItemStatus {
   LOST_AND_PAID("Lost and paid"),
   AGED_TO_LOST("Aged to lost");
 
+  // Item statuses are looked up for every item fetched, so avoid searching
+  private static final Map<String, ItemStatus> byLowerCaseValue = Arrays.stream(values())
+    .collect(toMap(status -> status.getValue().toLowerCase(Locale.ROOT), identity()));
+
   public static ItemStatus from(String value, String date) {
-    return Arrays.stream(values())
-      .filter(status -> status.valueMatches(value))
-      .findFirst().map(status -> {
-        status.setDate(date);
-        return status;
-      })
-      .orElse(NONE);
+    final ItemStatus status = value == null
+      ? null
+      : byLowerCaseValue.get(value.toLowerCase(Locale.ROOT));
+
+    if (status == null) {
+      return NONE;
+    }
+
+    status.setDate(date);
+
+    return status;
   }
 
   private final String value;
@@ -50,8 +61,4 @@ public enum ItemStatus {
   void setDate(String date) {
     this.date = date;
   }
-
-  private boolean valueMatches(String value) {
-    return equalsIgnoreCase(getValue(), value);
-  }
 }
@@ -0,0 +1,55 @@
+package org.folio.circulation.domain;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.joda.time.LocalDate;
+
+/**
+ * Opening days of a service point for a range of dates, so that several
+ * calculations can be made from one fetch of the calendar. The minutes open
+ * are indexed when the timetable is created, as it is usually remembered
+ * and used for many calculations.
+ */
+public class LibraryTimetable {
+  private final LocalDate firstDate;
+  private final LocalDate lastDate;
+  private final List<OpeningDay> openingDays;
+  private final OpenMinutesIndex openMinutes;
+
+  public LibraryTimetable(LocalDate firstDate, LocalDate lastDate,
+    Collection<OpeningDay> openingDays) {
+
+    this.firstDate = firstDate;
+    this.lastDate = lastDate;
+    this.openingDays = openingDays.stream()
+      .filter(day -> day.getDate() != null)
+      .collect(toList());
+    this.openMinutes = new OpenMinutesIndex(this.openingDays);
+  }
+
+  public boolean covers(LocalDate startDate, LocalDate endDate) {
+    return !startDate.isBefore(firstDate) && !endDate.isAfter(lastDate);
+  }
+
+  public Collection<OpeningDay> openingDaysBetween(LocalDate startDate, LocalDate endDate) {
+    return openingDays.stream()
+      .filter(day -> !day.getDate().isBefore(startDate))
+      .filter(day -> !day.getDate().isAfter(endDate))
+      .collect(toList());
+  }
+
+  public OpenMinutesIndex getOpenMinutes() {
+    return openMinutes;
+  }
+
+  public LocalDate getFirstDate() {
+    return firstDate;
+  }
+
+  public LocalDate getLastDate() {
+    return lastDate;
+  }
+}
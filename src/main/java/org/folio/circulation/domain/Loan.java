@@ -1,7 +1,7 @@
 package org.folio.circulation.domain;
 
 import static java.lang.Boolean.TRUE;
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static org.folio.circulation.domain.FeeAmount.noFeeAmount;
 import static org.folio.circulation.domain.LoanAction.CHECKED_IN;
@@ -34,6 +34,7 @@ import static org.folio.circulation.support.ClockManager.getClockManager;
 import static org.folio.circulation.support.JsonPropertyFetcher.getBooleanProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getDateTimeProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getIntegerProperty;
+import static org.folio.circulation.support.JsonPropertyFetcher.getNestedDateTimeProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getNestedStringProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getObjectProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getProperty;
@@ -52,6 +53,7 @@ import org.folio.circulation.domain.policy.LoanPolicy;
 import org.folio.circulation.domain.policy.OverdueFinePolicy;
 import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
 import org.folio.circulation.domain.representations.LoanProperties;
+import org.folio.circulation.support.ParsedDateTimeProperty;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 
@@ -74,6 +76,13 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   private final ServicePoint checkinServicePoint;
   private final Policies policies;
 
+  // Dates are asked for repeatedly, e.g. when checking whether a loan is overdue
+  private final ParsedDateTimeProperty dueDate = new ParsedDateTimeProperty(DUE_DATE);
+  private final ParsedDateTimeProperty loanDate = new ParsedDateTimeProperty("loanDate");
+  private final ParsedDateTimeProperty returnDate = new ParsedDateTimeProperty(RETURN_DATE);
+  private final ParsedDateTimeProperty systemReturnDate
+    = new ParsedDateTimeProperty(SYSTEM_RETURN_DATE);
+
   private Loan(JsonObject representation, Item item, User user, User proxy,
     ServicePoint checkinServicePoint, ServicePoint checkoutServicePoint,
     DateTime originalDueDate, Policies policies, Collection<Account> accounts) {
@@ -261,7 +270,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public DateTime getLoanDate() {
-    return getDateTimeProperty(representation, "loanDate");
+    return loanDate.get(representation);
   }
 
   @Override
@@ -298,15 +307,32 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public Loan withPatronGroupAtCheckout(PatronGroup patronGroup) {
-    if (nonNull(patronGroup)) {
-      JsonObject patronGroupAtCheckout = new JsonObject()
-        .put("id", patronGroup.getId())
-        .put("name", patronGroup.getGroup());
+    if (isNull(patronGroup)) {
+      return this;
+    }
+
+    // Copied so that loans this one was created from are left unchanged
+    final JsonObject newRepresentation = representation.copy();
+
+    write(newRepresentation, LoanProperties.PATRON_GROUP_AT_CHECKOUT, new JsonObject()
+      .put("id", patronGroup.getId())
+      .put("name", patronGroup.getGroup()));
 
-      write(representation, LoanProperties.PATRON_GROUP_AT_CHECKOUT,
-        patronGroupAtCheckout);
+    return new Loan(newRepresentation, item, user, proxy, checkinServicePoint,
+      checkoutServicePoint, originalDueDate, policies, accounts);
+  }
+
+  public PatronGroup getPatronGroupAtCheckout() {
+    final JsonObject patronGroupAtCheckout = getObjectProperty(representation,
+      LoanProperties.PATRON_GROUP_AT_CHECKOUT);
+
+    if (isNull(patronGroupAtCheckout)) {
+      return null;
     }
-    return this;
+
+    return PatronGroup.from(new JsonObject()
+      .put("id", patronGroupAtCheckout.getString("id"))
+      .put("group", patronGroupAtCheckout.getString("name")));
   }
 
   public User getProxy() {
@@ -481,7 +507,7 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public DateTime getDueDate() {
-    return getDateTimeProperty(representation, DUE_DATE);
+    return dueDate.get(representation);
   }
 
   private static void defaultStatusAndAction(JsonObject loan) {
@@ -507,11 +533,11 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
   }
 
   public DateTime getSystemReturnDate() {
-    return getDateTimeProperty(representation, SYSTEM_RETURN_DATE);
+    return systemReturnDate.get(representation);
   }
 
   public DateTime getReturnDate() {
-    return getDateTimeProperty(representation, RETURN_DATE);
+    return returnDate.get(representation);
   }
 
   public void changeItemStatus(String itemStatus) {
@@ -617,6 +643,11 @@ public class Loan implements ItemRelatedRecord, UserRelatedRecord {
     write(representation, AGED_TO_LOST_DELAYED_BILLING, delayedBilling);
   }
 
+  public DateTime getDateLostItemShouldBeBilled() {
+    return getNestedDateTimeProperty(representation, AGED_TO_LOST_DELAYED_BILLING,
+      DATE_LOST_ITEM_SHOULD_BE_BILLED);
+  }
+
   public Loan setLostItemHasBeenBilled() {
     final JsonObject delayedBilling = getObjectProperty(representation, AGED_TO_LOST_DELAYED_BILLING);
 
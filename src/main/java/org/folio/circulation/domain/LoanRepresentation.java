@@ -7,6 +7,7 @@ import org.folio.circulation.domain.policy.Policy;
 import org.folio.circulation.domain.representations.ItemSummaryRepresentation;
 import org.folio.circulation.domain.representations.LoanProperties;
 import org.folio.circulation.resources.context.RenewalContext;
+import org.folio.circulation.support.http.server.FieldSelection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -23,6 +24,14 @@ public class LoanRepresentation {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
   public JsonObject extendedLoan(Loan loan) {
+    return extendedLoan(loan, FieldSelection.everything());
+  }
+
+  /**
+   * @param selection the related records that were looked up, the policies
+   * which were not are left out, rather than being described by unknown policies
+   */
+  public JsonObject extendedLoan(Loan loan, FieldSelection selection) {
     if(loan == null) {
       return null;
     }
@@ -44,9 +53,11 @@ public class LoanRepresentation {
       extendedRepresentation.remove(BORROWER);
     }
 
-    addPolicy(extendedRepresentation, loan.getLoanPolicy(), LOAN_POLICY);
-    addPolicy(extendedRepresentation, loan.getOverdueFinePolicy(), OVERDUE_FINE_POLICY);
-    addPolicy(extendedRepresentation, loan.getLostItemPolicy(), LOST_ITEM_POLICY);
+    addPolicy(extendedRepresentation, loan.getLoanPolicy(), LOAN_POLICY, selection);
+    addPolicy(extendedRepresentation, loan.getOverdueFinePolicy(), OVERDUE_FINE_POLICY,
+      selection);
+    addPolicy(extendedRepresentation, loan.getLostItemPolicy(), LOST_ITEM_POLICY,
+      selection);
     additionalAccountProperties(extendedRepresentation, loan);
 
     extendedRepresentation.remove(PATRON_GROUP_ID_AT_CHECKOUT);
@@ -55,8 +66,10 @@ public class LoanRepresentation {
   }
 
   private void addPolicy(JsonObject extendedRepresentation, Policy policy,
-    String policyName) {
-    if (policy != null) {
+    String policyName, FieldSelection selection) {
+    if (!selection.includes(policyName)) {
+      extendedRepresentation.remove(policyName);
+    } else if (policy != null) {
       additionalPolicyProperties(extendedRepresentation, policy, policyName);
     } else {
       log.info("Unable to add {} properties to loan {}, {} is null",
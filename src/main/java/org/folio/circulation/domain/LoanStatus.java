@@ -1,11 +1,18 @@
 package org.folio.circulation.domain;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
 import java.util.Arrays;
+import java.util.Map;
 
 public enum LoanStatus {
   OPEN("Open"),
   CLOSED("Closed");
 
+  private static final Map<String, LoanStatus> byValue = Arrays.stream(values())
+    .collect(toMap(LoanStatus::getValue, identity()));
+
   private final String value;
 
   LoanStatus(String value) {
@@ -24,9 +31,6 @@ public enum LoanStatus {
    * the given value
    */
   public static LoanStatus fromValue(String value) {
-    return Arrays.stream(values())
-      .filter(enumElement -> enumElement.getValue().equals(value))
-      .findFirst()
-      .orElse(null);
+    return value == null ? null : byValue.get(value);
   }
 }
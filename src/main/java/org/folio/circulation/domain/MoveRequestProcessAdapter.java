@@ -26,7 +26,7 @@ public class MoveRequestProcessAdapter {
       RequestAndRelatedRecords requestAndRelatedRecords) {
     return itemRepository.fetchById(requestAndRelatedRecords.getDestinationItemId())
       .thenApply(r -> r.map(requestAndRelatedRecords::withItem))
-      .thenComposeAsync(r -> r.after(this::findLoanForItem));
+      .thenCompose(r -> r.after(this::findLoanForItem));
   }
 
   private CompletableFuture<Result<RequestAndRelatedRecords>> findLoanForItem(
@@ -45,7 +45,7 @@ public class MoveRequestProcessAdapter {
       RequestAndRelatedRecords requestAndRelatedRecords) {
     return itemRepository.fetchById(requestAndRelatedRecords.getSourceItemId())
       .thenApply(result -> result.map(requestAndRelatedRecords::withItem))
-      .thenComposeAsync(r -> r.after(this::findLoanForItem));
+      .thenCompose(r -> r.after(this::findLoanForItem));
   }
 
   CompletableFuture<Result<RequestAndRelatedRecords>> getSourceRequestQueue(
@@ -41,23 +41,23 @@ public class MoveRequestService {
   public CompletableFuture<Result<RequestAndRelatedRecords>> moveRequest(
       RequestAndRelatedRecords requestAndRelatedRecords) {
     return completedFuture(of(() -> requestAndRelatedRecords))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findDestinationItem))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::getDestinationRequestQueue))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::findDestinationItem))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::getDestinationRequestQueue))
       .thenApply(r -> r.map(this::pagedRequestIfDestinationItemAvailable))
       .thenCompose(r -> r.after(this::validateUpdateRequest))
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
+      .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         RequestAndRelatedRecords::withTimeZone))
       .thenCompose(r -> r.after(updateUponRequest.updateRequestQueue::onMovedTo))
-      .thenComposeAsync(r -> r.after(this::updateRelatedObjects))
+      .thenCompose(r -> r.after(this::updateRelatedObjects))
       .thenCompose(r -> r.after(requestRepository::update))
       .thenApply(r -> r.next(requestNoticeSender::sendNoticeOnRequestMoved))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findSourceItem))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::getSourceRequestQueue))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::findSourceItem))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::getSourceRequestQueue))
       .thenCompose(r -> r.after(updateUponRequest.updateRequestQueue::onMovedFrom))
-      .thenComposeAsync(r -> r.after(this::updateRelatedObjects))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::findDestinationItem))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::getDestinationRequestQueue))
-      .thenComposeAsync(r -> r.after(moveRequestProcessAdapter::getRequest));
+      .thenCompose(r -> r.after(this::updateRelatedObjects))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::findDestinationItem))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::getDestinationRequestQueue))
+      .thenCompose(r -> r.after(moveRequestProcessAdapter::getRequest));
   }
 
   private RequestAndRelatedRecords pagedRequestIfDestinationItemAvailable(
@@ -81,7 +81,7 @@ public class MoveRequestService {
       .next(RequestServiceUtility::refuseWhenItemIsNotValid)
       .next(RequestServiceUtility::refuseWhenUserHasAlreadyRequestedItem)
       .after(requestLoanValidator::refuseWhenUserHasAlreadyBeenLoanedItem)
-      .thenComposeAsync(r -> r.after(requestPolicyRepository::lookupRequestPolicy))
+      .thenCompose(r -> r.after(requestPolicyRepository::lookupRequestPolicy))
       .thenApply(r -> r.next(RequestServiceUtility::refuseWhenRequestCannotBeFulfilled));
   }
 
@@ -89,6 +89,6 @@ public class MoveRequestService {
       RequestAndRelatedRecords requestAndRelatedRecords) {
 
     return updateUponRequest.updateItem.onRequestCreateOrUpdate(requestAndRelatedRecords)
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate));
+      .thenCompose(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate));
   }
 }
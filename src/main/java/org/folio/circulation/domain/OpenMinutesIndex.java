@@ -0,0 +1,202 @@
+package org.folio.circulation.domain;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.ObjectUtils.allNotNull;
+import static org.joda.time.DateTimeConstants.MINUTES_PER_HOUR;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.joda.time.DateTime;
+import org.joda.time.LocalDateTime;
+import org.joda.time.Period;
+
+/**
+ * Number of minutes a service point is open, indexed by day, so that the
+ * minutes open between two dates are calculated from the running totals
+ * for the days entirely between them, and only the days either side
+ * (which the dates fall within) need to be looked at hour by hour.
+ *
+ * Opening hours are expected to fall within their own day, so that days
+ * do not overlap one another.
+ */
+public class OpenMinutesIndex {
+  private final List<OpenDay> days;
+  private final long[] minutesOpenBefore;
+
+  public OpenMinutesIndex(Collection<OpeningDay> openingDays) {
+    days = openingDays.stream()
+      .map(OpenDay::from)
+      .filter(Objects::nonNull)
+      .sorted(comparing(OpenDay::getStart))
+      .collect(toList());
+
+    minutesOpenBefore = new long[days.size() + 1];
+
+    for (int index = 0; index < days.size(); index++) {
+      minutesOpenBefore[index + 1] = minutesOpenBefore[index]
+        + days.get(index).getMinutesOpen();
+    }
+  }
+
+  public int minutesOpenBetween(LocalDateTime from, LocalDateTime to) {
+    if (from == null || to == null || days.isEmpty()) {
+      return 0;
+    }
+
+    final int firstStartingInside = firstDayStartingAtOrAfter(from);
+    final int firstStartingAfter = Math.max(firstStartingInside,
+      firstDayStartingAtOrAfter(to));
+
+    long minutes = 0;
+
+    // Days which start between the dates but finish after the later one
+    int firstEndingAfter = firstStartingAfter;
+
+    while (firstEndingAfter > firstStartingInside
+      && days.get(firstEndingAfter - 1).getEnd().isAfter(to)) {
+
+      firstEndingAfter--;
+      minutes += days.get(firstEndingAfter).minutesOpenBetween(from, to);
+    }
+
+    minutes += minutesOpenBefore[firstEndingAfter]
+      - minutesOpenBefore[firstStartingInside];
+
+    // Days which start before the earlier date but finish after it
+    for (int index = firstStartingInside - 1;
+      index >= 0 && days.get(index).getEnd().isAfter(from); index--) {
+
+      minutes += days.get(index).minutesOpenBetween(from, to);
+    }
+
+    return (int) minutes;
+  }
+
+  private int firstDayStartingAtOrAfter(LocalDateTime dateTime) {
+    int low = 0;
+    int high = days.size();
+
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+
+      if (days.get(middle).getStart().isBefore(dateTime)) {
+        low = middle + 1;
+      }
+      else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  private static class OpenDay {
+    private final List<OpenPeriod> periods;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final long minutesOpen;
+
+    private OpenDay(List<OpenPeriod> periods) {
+      this.periods = periods;
+
+      start = periods.stream()
+        .map(OpenPeriod::getStart)
+        .min(LocalDateTime::compareTo)
+        .orElse(null);
+
+      end = periods.stream()
+        .map(OpenPeriod::getEnd)
+        .max(LocalDateTime::compareTo)
+        .orElse(null);
+
+      minutesOpen = periods.stream()
+        .mapToLong(OpenPeriod::getMinutesOpen)
+        .sum();
+    }
+
+    static OpenDay from(OpeningDay openingDay) {
+      final DateTime datePart = openingDay.getDayWithTimeZone();
+
+      if (datePart == null || openingDay.getOpeningHour() == null) {
+        return null;
+      }
+
+      final List<OpenPeriod> periods = openingDay.getOpeningHour().stream()
+        .map(openingHour -> OpenPeriod.from(datePart, openingHour))
+        .filter(Objects::nonNull)
+        .collect(toList());
+
+      return periods.isEmpty() ? null : new OpenDay(periods);
+    }
+
+    LocalDateTime getStart() {
+      return start;
+    }
+
+    LocalDateTime getEnd() {
+      return end;
+    }
+
+    long getMinutesOpen() {
+      return minutesOpen;
+    }
+
+    long minutesOpenBetween(LocalDateTime from, LocalDateTime to) {
+      return periods.stream()
+        .mapToLong(period -> period.minutesOpenBetween(from, to))
+        .sum();
+    }
+  }
+
+  private static class OpenPeriod {
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    private OpenPeriod(LocalDateTime start, LocalDateTime end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    static OpenPeriod from(DateTime datePart, OpeningHour openingHour) {
+      if (!allNotNull(openingHour.getStartTime(), openingHour.getEndTime())) {
+        return null;
+      }
+
+      final LocalDateTime start = datePart.withTime(openingHour.getStartTime())
+        .withZone(UTC).toLocalDateTime();
+      final LocalDateTime end = datePart.withTime(openingHour.getEndTime())
+        .withZone(UTC).toLocalDateTime();
+
+      return end.isAfter(start) ? new OpenPeriod(start, end) : null;
+    }
+
+    LocalDateTime getStart() {
+      return start;
+    }
+
+    LocalDateTime getEnd() {
+      return end;
+    }
+
+    long getMinutesOpen() {
+      return minutesBetween(start, end);
+    }
+
+    long minutesOpenBetween(LocalDateTime from, LocalDateTime to) {
+      final LocalDateTime openFrom = start.isBefore(from) ? from : start;
+      final LocalDateTime openTo = end.isAfter(to) ? to : end;
+
+      return openTo.isAfter(openFrom) ? minutesBetween(openFrom, openTo) : 0;
+    }
+
+    private static long minutesBetween(LocalDateTime start, LocalDateTime end) {
+      final Period period = new Period(start, end);
+
+      return (long) period.getHours() * MINUTES_PER_HOUR + period.getMinutes();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package org.folio.circulation.domain;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.support.JsonPropertyWriter.write;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Position reached by a scheduled process which works through records
+ * sorted by id (optionally preceded by a date property), persisted between
+ * runs so that the next run can continue from where the previous one stopped
+ */
+public class ProcessingCursor {
+  private static final String LAST_DATE_KEY = "lastDate";
+  private static final String LAST_RECORD_ID_KEY = "lastRecordId";
+
+  private final String configurationId;
+  private final String name;
+  private final String lastDate;
+  private final String lastRecordId;
+
+  private ProcessingCursor(String configurationId, String name,
+    String lastDate, String lastRecordId) {
+
+    this.configurationId = configurationId;
+    this.name = name;
+    this.lastDate = lastDate;
+    this.lastRecordId = lastRecordId;
+  }
+
+  public static ProcessingCursor atStart(String name) {
+    return new ProcessingCursor(null, name, null, null);
+  }
+
+  public static ProcessingCursor from(String name, Configuration configuration) {
+    if (configuration == null || isBlank(configuration.getValue())) {
+      return atStart(name);
+    }
+
+    final JsonObject value = new JsonObject(configuration.getValue());
+
+    return new ProcessingCursor(configuration.getId(), name,
+      value.getString(LAST_DATE_KEY), value.getString(LAST_RECORD_ID_KEY));
+  }
+
+  public ProcessingCursor moveTo(String date, String recordId) {
+    return new ProcessingCursor(configurationId, name, date, recordId);
+  }
+
+  public ProcessingCursor moveTo(String recordId) {
+    return moveTo(null, recordId);
+  }
+
+  public ProcessingCursor backToStart() {
+    return new ProcessingCursor(configurationId, name, null, null);
+  }
+
+  public boolean isAtStart() {
+    return isBlank(lastRecordId);
+  }
+
+  public boolean isStored() {
+    return configurationId != null;
+  }
+
+  public ProcessingCursor withConfigurationId(String configurationId) {
+    return new ProcessingCursor(configurationId, name, lastDate, lastRecordId);
+  }
+
+  public String getConfigurationId() {
+    return configurationId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getLastDate() {
+    return lastDate;
+  }
+
+  public String getLastRecordId() {
+    return lastRecordId;
+  }
+
+  public JsonObject valueAsJson() {
+    final JsonObject value = new JsonObject();
+
+    write(value, LAST_DATE_KEY, lastDate);
+    write(value, LAST_RECORD_ID_KEY, lastRecordId);
+
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s cursor at date: `%s` record: `%s`",
+      name, lastDate, lastRecordId);
+  }
+}
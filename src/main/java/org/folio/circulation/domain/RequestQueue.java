@@ -5,7 +5,10 @@ import static org.folio.circulation.domain.ItemStatus.AVAILABLE;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -13,6 +16,9 @@ import java.util.stream.Collectors;
 public class RequestQueue {
 
   private List<Request> requests;
+  // Positions of the requests when the queue was fetched, so that only the
+  // requests with a different position need to be stored again
+  private final Map<String, Integer> storedPositions;
 
   public RequestQueue(Collection<Request> requests) {
     this.requests = new ArrayList<>(requests);
@@ -23,6 +29,12 @@ public class RequestQueue {
       .comparingInt(request -> Optional.ofNullable(request.getPosition())
         .orElse(0)
       ));
+
+    this.storedPositions = new HashMap<>();
+
+    this.requests.stream()
+      .filter(request -> request.getId() != null && request.hasPosition())
+      .forEach(request -> storedPositions.put(request.getId(), request.getPosition()));
   }
 
   ItemStatus checkedInItemStatus() {
@@ -85,14 +97,23 @@ public class RequestQueue {
         .anyMatch(r -> r.getId().equals(request.getId()));
   }
 
+  /**
+   * Requests in a different position to when the queue was fetched, a request
+   * moved and then moved back again is not included
+   */
   public Collection<Request> getRequestsWithChangedPosition() {
     return requests.stream()
       .filter(Request::hasChangedPosition)
+      .filter(this::isInDifferentPositionToStored)
       // order by position descending
       .sorted((req1, req2) -> req2.getPosition().compareTo(req1.getPosition()))
       .collect(Collectors.toList());
   }
 
+  private boolean isInDifferentPositionToStored(Request request) {
+    return !Objects.equals(storedPositions.get(request.getId()), request.getPosition());
+  }
+
   //TODO: Encapsulate this better
   public Collection<Request> getRequests() {
     return requests;
@@ -48,7 +48,7 @@ public class UpdateLoan {
 
     if (request.getRequestType() == RequestType.RECALL && loan != null) {
       return loanRepository.getById(loan.getId())
-          .thenComposeAsync(r -> r.after(l -> recall(l, requestAndRelatedRecords, request)));
+          .thenCompose(r -> r.after(l -> recall(l, requestAndRelatedRecords, request)));
     } else {
       return completedFuture(succeeded(requestAndRelatedRecords));
     }
@@ -77,8 +77,8 @@ public class UpdateLoan {
           .after(loanPolicyRepository::lookupLoanPolicy)
           .thenApply(r -> r.next(this::recall))
           .thenApply(r -> r.next(recallResult -> updateLoanAction(recallResult, request)))
-          .thenComposeAsync(r -> r.after(closedLibraryStrategyService::applyClosedLibraryDueDateManagement))
-          .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
+          .thenCompose(r -> r.after(closedLibraryStrategyService::applyClosedLibraryDueDateManagement))
+          .thenCompose(r -> r.after(loanRepository::updateLoan))
           .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
           .thenApply(r -> r.map(v -> requestAndRelatedRecords.withRequest(request.withLoan(v.getLoan()))));
     }
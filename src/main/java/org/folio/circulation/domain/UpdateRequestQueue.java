@@ -103,7 +103,7 @@ public class UpdateRequestQueue {
     }
 
     return updatedReq
-      .thenComposeAsync(r -> r.after(requestRepository::update))
+      .thenCompose(r -> r.after(requestRepository::update))
       .thenApply(result -> result.map(v -> requestQueue));
   }
 
@@ -114,7 +114,7 @@ public class UpdateRequestQueue {
       String pickupServicePointId = request.getPickupServicePointId();
 
       return servicePointRepository.getServicePointById(pickupServicePointId)
-        .thenCombineAsync(configurationRepository.findTimeZoneConfiguration(),
+        .thenCombine(configurationRepository.findTimeZoneConfiguration(),
           Result.combined((servicePoint, tenantTimeZone) ->
             populateHoldShelfExpirationDate(
               request.withPickupServicePoint(servicePoint),
@@ -182,7 +182,7 @@ public class UpdateRequestQueue {
       requestQueue.remove(firstRequest);
 
       return requestRepository.update(firstRequest)
-        .thenComposeAsync(r -> r.after(v ->
+        .thenCompose(r -> r.after(v ->
           requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)));
 
     } else {
@@ -247,7 +247,7 @@ public class UpdateRequestQueue {
         requestQueue.remove(request);
         return requestQueue;
       }))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(
         requestQueueRepository::updateRequestsWithChangedPositions))
       .thenApply(r -> r.map(requestQueue -> request));
   }
@@ -36,9 +36,9 @@ public class UpdateRequestService {
 
     return closedRequestValidator.refuseWhenAlreadyClosed(requestAndRelatedRecords)
       .thenApply(r -> r.next(this::removeRequestQueuePositionWhenCancelled))
-      .thenComposeAsync(r -> r.after(requestRepository::update))
-      .thenComposeAsync(r -> r.after(updateRequestQueue::onCancellation))
-      .thenComposeAsync(r -> r.after(updateItem::onRequestCreateOrUpdate))
+      .thenCompose(r -> r.after(requestRepository::update))
+      .thenCompose(r -> r.after(updateRequestQueue::onCancellation))
+      .thenCompose(r -> r.after(updateItem::onRequestCreateOrUpdate))
       .thenApply(r -> r.next(requestNoticeSender::sendNoticeOnRequestUpdated));
   }
 
@@ -17,7 +17,12 @@ import org.slf4j.LoggerFactory;
 public class LoanAnonymization {
   private final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-  public static final PageLimit FETCH_LOANS_PAGE_LIMIT = limit(5000);
+  public static final int FETCH_LOANS_PAGE_SIZE = 5000;
+  public static final PageLimit FETCH_LOANS_PAGE_LIMIT = limit(FETCH_LOANS_PAGE_SIZE);
+  public static final int MAXIMUM_PAGES_PER_RUN = 20;
+  public static final String ANONYMIZATION_CURSOR_NAME = "anonymization_cursor";
+  public static final String RECENTLY_RETURNED_ANONYMIZATION_CURSOR_NAME =
+    "anonymization_recently_returned_cursor";
 
   private final Clients clients;
   private LoanAnonymizationFinderService loansFinderService;
@@ -41,10 +46,10 @@ public class LoanAnonymization {
       LoanAnonymizationConfiguration config) {
     log.info("Initializing loan anonymization for current tenant");
 
-    loansFinderService = new LoansForTenantFinder(clients);
     anonymizationCheckersService = new AnonymizationCheckersService(config);
 
-    return new DefaultLoanAnonymizationService(clients,
-        anonymizationCheckersService, loansFinderService);
+    return new TenantLoanAnonymizationService(clients,
+        anonymizationCheckersService, new LoansForTenantFinder(clients, config),
+        MAXIMUM_PAGES_PER_RUN);
   }
 }
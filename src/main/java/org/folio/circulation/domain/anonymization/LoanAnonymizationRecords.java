@@ -54,6 +54,27 @@ public class LoanAnonymizationRecords {
     return newRecords;
   }
 
+  /**
+   * Combines the outcomes of anonymizing two sets of loans. The loans found
+   * are not carried over, so that outcomes accumulated over many pages
+   * only hold loan IDs
+   */
+  public LoanAnonymizationRecords combine(LoanAnonymizationRecords other) {
+    LoanAnonymizationRecords newRecords = new LoanAnonymizationRecords();
+    newRecords.anonymizedLoans = new ArrayList<>(anonymizedLoans);
+    newRecords.anonymizedLoans.addAll(other.anonymizedLoans);
+    newRecords.notAnonymizedLoans = new HashMap<>(notAnonymizedLoans);
+
+    other.notAnonymizedLoans.forEach((reason, loanIds) ->
+      newRecords.notAnonymizedLoans.merge(reason, loanIds, (existing, additional) -> {
+        Collection<String> merged = new ArrayList<>(existing);
+        merged.addAll(additional);
+        return merged;
+      }));
+
+    return newRecords;
+  }
+
   public List<String> getAnonymizedLoans() {
     return anonymizedLoans;
   }
@@ -0,0 +1,260 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.ANONYMIZATION_CURSOR_NAME;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.FETCH_LOANS_PAGE_SIZE;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.RECENTLY_RETURNED_ANONYMIZATION_CURSOR_NAME;
+import static org.folio.circulation.domain.anonymization.LoanAnonymizationRecords.CAN_BE_ANONYMIZED_KEY;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.ProcessingCursor;
+import org.folio.circulation.domain.anonymization.service.AnonymizationCheckersService;
+import org.folio.circulation.domain.anonymization.service.LoansForTenantFinder;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.loans.AnonymizeStorageLoansRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.results.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Anonymizes the closed loans of the whole tenant page by page, continuing
+ * from the position reached by the previous run. The next page is fetched
+ * whilst the current one is being checked and anonymized, with no more than
+ * one page waiting, so that fetching and anonymizing overlap without loans
+ * accumulating in memory.
+ *
+ * When loans with fees and fines are anonymized based upon when those were
+ * closed, the loans returned too recently for the loan close period are worked
+ * through afterwards, with their own cursor.
+ *
+ * The IDs of the loans in each page are logged once that page is done,
+ * only the IDs from the first page are kept for the outcome of the run, the
+ * remaining pages are only counted.
+ *
+ * Only one run for a tenant happens at a time within this module instance,
+ * a run started whilst another is in progress does nothing, so that
+ * overlapping timer requests cannot both move the cursor. Runs in different
+ * instances of the module are not coordinated.
+ */
+public class TenantLoanAnonymizationService implements LoanAnonymizationService {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Set<String> TENANTS_IN_PROGRESS = ConcurrentHashMap.newKeySet();
+
+  private final String tenantId;
+  private final AnonymizationCheckersService anonymizationCheckersService;
+  private final LoansForTenantFinder loansFinder;
+  private final AnonymizeStorageLoansRepository anonymizeStorageLoansRepository;
+  private final ConfigurationRepository configurationRepository;
+  private final int maximumPagesPerRun;
+
+  TenantLoanAnonymizationService(Clients clients,
+    AnonymizationCheckersService anonymizationCheckersService,
+    LoansForTenantFinder loansFinder, int maximumPagesPerRun) {
+
+    this(clients.getTenantId(), anonymizationCheckersService, loansFinder,
+      new AnonymizeStorageLoansRepository(clients), new ConfigurationRepository(clients),
+      maximumPagesPerRun);
+  }
+
+  TenantLoanAnonymizationService(String tenantId,
+    AnonymizationCheckersService anonymizationCheckersService,
+    LoansForTenantFinder loansFinder,
+    AnonymizeStorageLoansRepository anonymizeStorageLoansRepository,
+    ConfigurationRepository configurationRepository, int maximumPagesPerRun) {
+
+    this.tenantId = tenantId;
+    this.anonymizationCheckersService = anonymizationCheckersService;
+    this.loansFinder = loansFinder;
+    this.anonymizeStorageLoansRepository = anonymizeStorageLoansRepository;
+    this.configurationRepository = configurationRepository;
+    this.maximumPagesPerRun = maximumPagesPerRun;
+  }
+
+  @Override
+  public CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoans() {
+    if (!TENANTS_IN_PROGRESS.add(tenantId)) {
+      log.info("Loan anonymization is already in progress for tenant {}, skipping", tenantId);
+
+      return completedFuture(succeeded(new LoanAnonymizationRecords()));
+    }
+
+    return completedFuture(tenantId)
+      .thenCompose(notUsed -> anonymizeLoansFromCursors())
+      .whenComplete((notUsed, error) -> TENANTS_IN_PROGRESS.remove(tenantId));
+  }
+
+  private CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoansFromCursors() {
+    final CompletableFuture<Result<LoanAnonymizationRecords>> closedLoans =
+      anonymizeLoansFromCursor(ANONYMIZATION_CURSOR_NAME, loansFinder::findLoansToAnonymize);
+
+    if (!loansFinder.findsRecentlyReturnedLoansWithFeesAndFines()) {
+      return closedLoans;
+    }
+
+    return closedLoans.thenCompose(r -> r.after(closedLoansRecords ->
+      anonymizeLoansFromCursor(RECENTLY_RETURNED_ANONYMIZATION_CURSOR_NAME,
+        loansFinder::findRecentlyReturnedLoansToAnonymize)
+        .thenApply(recent -> recent.map(closedLoansRecords::combine))));
+  }
+
+  private CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoansFromCursor(
+    String cursorName,
+    Function<ProcessingCursor, CompletableFuture<Result<Collection<Loan>>>> pageFinder) {
+
+    final long startedAt = System.currentTimeMillis();
+
+    return configurationRepository.findProcessingCursor(cursorName)
+      .thenCompose(r -> r.after(cursor -> {
+        log.info("Starting loan anonymization from {}", cursor);
+
+        return processPage(cursor, pageFinder, pageFinder.apply(cursor),
+          new PipelineProgress(startedAt));
+      }));
+  }
+
+  private CompletableFuture<Result<LoanAnonymizationRecords>> processPage(
+    ProcessingCursor cursor,
+    Function<ProcessingCursor, CompletableFuture<Result<Collection<Loan>>>> pageFinder,
+    CompletableFuture<Result<Collection<Loan>>> fetchedPage, PipelineProgress progress) {
+
+    return fetchedPage.thenCompose(r -> r.after(loans -> {
+      final ProcessingCursor nextCursor = nextCursor(cursor, loans);
+
+      final boolean hasMorePages = !nextCursor.isAtStart()
+        && progress.getPagesProcessed() + 1 < maximumPagesPerRun;
+
+      final CompletableFuture<Result<Collection<Loan>>> nextPage = hasMorePages
+        ? pageFinder.apply(nextCursor)
+        : null;
+
+      return anonymizePage(loans)
+        .thenApply(anonymized -> anonymized.map(this::logPage))
+        .thenCompose(anonymized -> anonymized.after(records ->
+          saveProgress(cursor, nextCursor)
+            .thenApply(saved -> saved.map(notUsed -> progress.afterPage(loans, records)))))
+        .thenCompose(updated -> updated.after(updatedProgress -> {
+          updatedProgress.logThroughput();
+
+          return hasMorePages
+            ? processPage(nextCursor, pageFinder, nextPage, updatedProgress)
+            : completedFuture(succeeded(updatedProgress.getRecords()));
+        }));
+    }));
+  }
+
+  private CompletableFuture<Result<LoanAnonymizationRecords>> anonymizePage(
+    Collection<Loan> loans) {
+
+    Map<String, Set<String>> segregatedLoans = anonymizationCheckersService
+      .segregateLoans(loans);
+
+    final LoanAnonymizationRecords records = new LoanAnonymizationRecords()
+      .withAnonymizedLoans(segregatedLoans.remove(CAN_BE_ANONYMIZED_KEY))
+      .withNotAnonymizedLoans(segregatedLoans);
+
+    return anonymizeStorageLoansRepository.postAnonymizeStorageLoans(records);
+  }
+
+  private LoanAnonymizationRecords logPage(LoanAnonymizationRecords records) {
+    log.info("Anonymized {} loans", records.getAnonymizedLoans().size());
+
+    records.getNotAnonymizedLoans().forEach((reason, loanIds) ->
+      log.info("Did not anonymize {} loans because {}", loanIds.size(), reason));
+
+    // A page can have thousands of loans, so only list them when debugging
+    if (log.isDebugEnabled()) {
+      log.debug("Anonymized loans {}", records.getAnonymizedLoans());
+
+      records.getNotAnonymizedLoans().forEach((reason, loanIds) ->
+        log.debug("Did not anonymize loans {} because {}", loanIds, reason));
+    }
+
+    return records;
+  }
+
+  private ProcessingCursor nextCursor(ProcessingCursor cursor, Collection<Loan> loans) {
+    if (loans.size() < FETCH_LOANS_PAGE_SIZE) {
+      return cursor.backToStart();
+    }
+
+    return loans.stream()
+      .reduce((previousLoan, nextLoan) -> nextLoan)
+      .map(lastLoan -> cursor.moveTo(lastLoan.getId()))
+      .orElseGet(cursor::backToStart);
+  }
+
+  private CompletableFuture<Result<Void>> saveProgress(ProcessingCursor cursor,
+    ProcessingCursor nextCursor) {
+
+    if (cursor.isAtStart() && nextCursor.isAtStart()) {
+      return completedFuture(succeeded(null));
+    }
+
+    return configurationRepository.saveProcessingCursor(nextCursor)
+      .thenApply(r -> r.map(notUsed -> null));
+  }
+
+  private static class PipelineProgress {
+    private final long startedAt;
+    private final int pagesProcessed;
+    private final int loansProcessed;
+    private final int loansAnonymized;
+    private final LoanAnonymizationRecords records;
+
+    PipelineProgress(long startedAt) {
+      this(startedAt, 0, 0, 0, new LoanAnonymizationRecords());
+    }
+
+    private PipelineProgress(long startedAt, int pagesProcessed,
+      int loansProcessed, int loansAnonymized, LoanAnonymizationRecords records) {
+
+      this.startedAt = startedAt;
+      this.pagesProcessed = pagesProcessed;
+      this.loansProcessed = loansProcessed;
+      this.loansAnonymized = loansAnonymized;
+      this.records = records;
+    }
+
+    PipelineProgress afterPage(Collection<Loan> loans,
+      LoanAnonymizationRecords pageRecords) {
+
+      // Only the first page's IDs are kept, later pages have already been logged
+      final LoanAnonymizationRecords keptRecords = pagesProcessed == 0
+        ? pageRecords
+        : records;
+
+      return new PipelineProgress(startedAt, pagesProcessed + 1,
+        loansProcessed + loans.size(),
+        loansAnonymized + pageRecords.getAnonymizedLoans().size(), keptRecords);
+    }
+
+    int getPagesProcessed() {
+      return pagesProcessed;
+    }
+
+    LoanAnonymizationRecords getRecords() {
+      return records;
+    }
+
+    void logThroughput() {
+      final long elapsedMilliseconds = Math.max(1,
+        System.currentTimeMillis() - startedAt);
+
+      log.info("Loan anonymization processed {} loans in {} pages, anonymized {}, "
+          + "took {} ms ({} loans per second)", loansProcessed, pagesProcessed,
+        loansAnonymized, elapsedMilliseconds,
+        loansProcessed * 1000L / elapsedMilliseconds);
+    }
+  }
+}
@@ -1,10 +1,15 @@
 package org.folio.circulation.domain.anonymization.config;
 
+import static org.folio.circulation.domain.anonymization.config.ClosingType.IMMEDIATELY;
+import static org.folio.circulation.domain.anonymization.config.ClosingType.INTERVAL;
 import static org.folio.circulation.support.JsonPropertyFetcher.getBooleanProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getNestedIntegerProperty;
 import static org.folio.circulation.support.JsonPropertyFetcher.getNestedStringProperty;
 
+import java.util.Optional;
+
 import org.folio.circulation.domain.policy.Period;
+import org.joda.time.DateTime;
 
 import io.vertx.core.json.JsonObject;
 
@@ -60,4 +65,43 @@ public class LoanAnonymizationConfiguration {
   public ClosingType getFeesAndFinesClosingType() {
     return feesAndFinesClosingType;
   }
+
+  public boolean canAnonymizeAnyLoans() {
+    return anonymizes(loanClosingType)
+      || (treatLoansWithFeesAndFinesDifferently && anonymizes(feesAndFinesClosingType));
+  }
+
+  /**
+   * Loans returned after this date cannot be anonymized yet based upon when
+   * they were closed. There is no such date when loans are anonymized immediately,
+   * or are only anonymized based upon when their fees and fines were closed
+   *
+   * @param now the date at which anonymization is taking place
+   * @return the latest return date of a loan that might be anonymized
+   */
+  public Optional<DateTime> latestReturnDateThatCanBeAnonymized(DateTime now) {
+    if (loanClosingType != INTERVAL) {
+      return Optional.empty();
+    }
+
+    return Optional.of(loanClosePeriod.latestStartDateHavingPassedBy(now));
+  }
+
+  /**
+   * Loans with fees and fines returned after the latest return date might
+   * still be anonymized based upon when their fees and fines were closed, so
+   * need to be found separately to the loans returned before it
+   */
+  public boolean anonymizesRecentlyReturnedLoansWithFeesAndFines() {
+    return loanClosingType == INTERVAL && treatLoansWithFeesAndFinesDifferently
+      && anonymizes(feesAndFinesClosingType);
+  }
+
+  public boolean anonymizesLoansWithFeesAndFinesAfterInterval() {
+    return treatLoansWithFeesAndFinesDifferently && feesAndFinesClosingType == INTERVAL;
+  }
+
+  private static boolean anonymizes(ClosingType closingType) {
+    return closingType == IMMEDIATELY || closingType == INTERVAL;
+  }
 }
@@ -52,7 +52,7 @@ public class AnonymizationCheckersService {
       AnonymizationChecker checker;
       if (config == null) {
         checker = manualAnonymizationChecker;
-      } else if (loan.hasAssociatedFeesAndFines() && config.treatLoansWithFeesAndFinesDifferently()) {
+      } else if (config.treatLoansWithFeesAndFinesDifferently() && loan.hasAssociatedFeesAndFines()) {
         checker = feesAndFinesCheckersFromLoanHistory;
       } else {
         checker = closedLoansCheckersFromLoanHistory;
@@ -13,7 +13,7 @@ import org.folio.circulation.support.results.Result;
 
 abstract class DefaultLoansFinder implements LoanAnonymizationFinderService {
 
-  private final AccountRepository accountRepository;
+  final AccountRepository accountRepository;
   protected Clients clients;
 
   DefaultLoansFinder(Clients clients) {
@@ -1,27 +1,126 @@
 package org.folio.circulation.domain.anonymization.service;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.ANONYMIZATION_CURSOR_NAME;
 import static org.folio.circulation.domain.anonymization.LoanAnonymization.FETCH_LOANS_PAGE_LIMIT;
+import static org.folio.circulation.support.ClockManager.getClockManager;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
+import org.folio.circulation.domain.Account;
 import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ProcessingCursor;
+import org.folio.circulation.domain.anonymization.config.LoanAnonymizationConfiguration;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
 
+/**
+ * Finds closed loans for the whole tenant which might be anonymized according
+ * to the loan history settings. Loans returned too recently to be anonymized
+ * are excluded by the query. When loans with fees and fines are anonymized
+ * based upon when those were closed, the recently returned loans are found
+ * separately, so that every closed loan is not fetched on every run. Fees and
+ * fines are only fetched when the settings treat loans with fees and fines
+ * differently. Fee fine actions (needed for when fees and fines were closed)
+ * are only fetched for loans whose fees and fines are all closed.
+ */
 public class LoansForTenantFinder extends DefaultLoansFinder {
 
   private final LoanRepository loanRepository;
+  private final LoanAnonymizationConfiguration config;
 
-  public LoansForTenantFinder(Clients clients) {
+  public LoansForTenantFinder(Clients clients, LoanAnonymizationConfiguration config) {
     super(clients);
+    this.config = config;
     loanRepository = new LoanRepository(clients);
   }
 
   @Override
   public CompletableFuture<Result<Collection<Loan>>> findLoansToAnonymize() {
-    return loanRepository.findLoansToAnonymize(FETCH_LOANS_PAGE_LIMIT)
-      .thenCompose(this::fetchAdditionalLoanInfo);
+    return findLoansToAnonymize(ProcessingCursor.atStart(ANONYMIZATION_CURSOR_NAME));
+  }
+
+  public CompletableFuture<Result<Collection<Loan>>> findLoansToAnonymize(
+    ProcessingCursor cursor) {
+
+    if (!config.canAnonymizeAnyLoans()) {
+      return completedFuture(succeeded(Collections.emptyList()));
+    }
+
+    return config.latestReturnDateThatCanBeAnonymized(getClockManager().getDateTime())
+      .map(returnedBefore -> loanRepository.findLoansToAnonymize(cursor,
+        returnedBefore, FETCH_LOANS_PAGE_LIMIT))
+      .orElseGet(() -> loanRepository.findLoansToAnonymize(cursor, FETCH_LOANS_PAGE_LIMIT))
+      .thenCompose(r -> r.after(this::fetchFeesAndFines));
+  }
+
+  public boolean findsRecentlyReturnedLoansWithFeesAndFines() {
+    return config.anonymizesRecentlyReturnedLoansWithFeesAndFines();
+  }
+
+  /**
+   * Finds the loans returned too recently to be anonymized based upon when
+   * they were closed, which might still be anonymized because of when their
+   * fees and fines were closed
+   */
+  public CompletableFuture<Result<Collection<Loan>>> findRecentlyReturnedLoansToAnonymize(
+    ProcessingCursor cursor) {
+
+    if (!findsRecentlyReturnedLoansWithFeesAndFines()) {
+      return completedFuture(succeeded(Collections.emptyList()));
+    }
+
+    return config.latestReturnDateThatCanBeAnonymized(getClockManager().getDateTime())
+      .map(returnedSince -> loanRepository.findLoansReturnedSinceToAnonymize(cursor,
+        returnedSince, FETCH_LOANS_PAGE_LIMIT))
+      .orElseGet(() -> completedFuture(succeeded(MultipleRecords.empty())))
+      .thenCompose(r -> r.after(this::fetchFeesAndFines));
+  }
+
+  private CompletableFuture<Result<Collection<Loan>>> fetchFeesAndFines(
+    MultipleRecords<Loan> loans) {
+
+    if (!config.treatLoansWithFeesAndFinesDifferently()) {
+      return completedFuture(succeeded(loans.getRecords()));
+    }
+
+    return accountRepository.findAccountsWithoutActionsForLoans(loans)
+      .thenCompose(r -> r.after(this::fetchFeeFineActionsForClosedFeesAndFines));
+  }
+
+  private CompletableFuture<Result<Collection<Loan>>> fetchFeeFineActionsForClosedFeesAndFines(
+    MultipleRecords<Loan> loans) {
+
+    if (!config.anonymizesLoansWithFeesAndFinesAfterInterval()) {
+      return completedFuture(succeeded(loans.getRecords()));
+    }
+
+    final List<Account> closedAccounts = loans.getRecords().stream()
+      .filter(loan -> loan.hasAssociatedFeesAndFines() && loan.allFeesAndFinesClosed())
+      .flatMap(loan -> loan.getAccounts().stream())
+      .collect(Collectors.toList());
+
+    return accountRepository.findFeeFineActionsForAccounts(
+        new MultipleRecords<>(closedAccounts, closedAccounts.size()))
+      .thenApply(r -> r.map(accounts -> accounts.getRecords().stream()
+        .collect(Collectors.groupingBy(Account::getLoanId))))
+      .thenApply(r -> r.map(accountsByLoan -> withAccounts(loans, accountsByLoan)));
+  }
+
+  private Collection<Loan> withAccounts(MultipleRecords<Loan> loans,
+    Map<String, List<Account>> accountsByLoan) {
+
+    return loans.mapRecords(loan -> accountsByLoan.containsKey(loan.getId())
+        ? loan.withAccounts(accountsByLoan.get(loan.getId()))
+        : loan)
+      .getRecords();
   }
 }
@@ -0,0 +1,64 @@
+package org.folio.circulation.domain.notice;
+
+import static org.folio.circulation.domain.notice.TemplateContextUtil.createLoanContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.User;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Builds the contexts for many loan notices, for example during a scheduled
+ * notice run, where many of the notices are for the same user or item.
+ *
+ * The user and item parts of the context are only built once for each user
+ * or item, and are shared by every context built, so must not be changed.
+ * A builder should only be used for one batch of notices, so that changes
+ * to users or items made between batches are included.
+ */
+public class LoanNoticeContextBuilder {
+  private static final String USER = "user";
+  private static final String ITEM = "item";
+  private static final String LOAN = "loan";
+
+  private final Map<String, JsonObject> userContexts = new ConcurrentHashMap<>();
+  private final Map<String, JsonObject> itemContexts = new ConcurrentHashMap<>();
+
+  public JsonObject createLoanNoticeContext(Loan loan) {
+    return new JsonObject()
+      .put(USER, createUserContext(loan.getUser()))
+      .put(ITEM, itemContextFor(loan.getItem()))
+      .put(LOAN, createLoanContext(loan));
+  }
+
+  public JsonObject createLoanNoticeContextWithoutUser(Loan loan) {
+    return new JsonObject()
+      .put(ITEM, itemContextFor(loan.getItem()))
+      .put(LOAN, createLoanContext(loan));
+  }
+
+  public JsonObject createUserContext(User user) {
+    return remembered(userContexts, user.getId(), user,
+      TemplateContextUtil::createUserContext);
+  }
+
+  private JsonObject itemContextFor(Item item) {
+    return remembered(itemContexts, item.getItemId(), item,
+      TemplateContextUtil::createItemContext);
+  }
+
+  private static <T> JsonObject remembered(Map<String, JsonObject> contexts,
+    String id, T record, Function<T, JsonObject> contextCreator) {
+
+    if (id == null) {
+      return contextCreator.apply(record);
+    }
+
+    return contexts.computeIfAbsent(id, notUsed -> contextCreator.apply(record));
+  }
+}
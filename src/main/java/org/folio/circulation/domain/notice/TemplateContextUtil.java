@@ -145,7 +145,7 @@ public class TemplateContextUtil {
     .put("barcode", user.getBarcode());
   }
 
-  private static JsonObject createItemContext(Item item) {
+  static JsonObject createItemContext(Item item) {
     String contributorNamesToken = JsonArrayHelper.toStream(item.getContributorNames())
       .map(o -> o.getString("name"))
       .collect(joining("; "));
@@ -224,7 +224,7 @@ public class TemplateContextUtil {
     return requestContext;
   }
 
-  private static JsonObject createLoanContext(Loan loan) {
+  static JsonObject createLoanContext(Loan loan) {
     JsonObject loanContext = new JsonObject();
 
     write(loanContext, "initialBorrowDate", loan.getLoanDate());
@@ -16,10 +16,10 @@ import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.notice.PatronNoticeService;
-import org.folio.circulation.domain.notice.TemplateContextUtil;
+import org.folio.circulation.domain.notice.LoanNoticeContextBuilder;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
+import org.folio.circulation.infrastructure.storage.notices.TemplateRepository;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 
@@ -35,43 +35,48 @@ public class DueDateNotRealTimeScheduledNoticeHandler {
       new LoanRepository(clients),
       new LoanPolicyRepository(clients),
       PatronNoticeService.using(clients),
-      clients.templateNoticeClient());
+      TemplateRepository.using(clients));
   }
 
   private final DueDateScheduledNoticeHandler dueDateScheduledNoticeHandler;
   private final LoanRepository loanRepository;
   private final LoanPolicyRepository loanPolicyRepository;
   private final PatronNoticeService patronNoticeService;
-  private final CollectionResourceClient templateNoticesClient;
+  private final TemplateRepository templateRepository;
 
   public DueDateNotRealTimeScheduledNoticeHandler(
     DueDateScheduledNoticeHandler dueDateScheduledNoticeHandler,
     LoanRepository loanRepository,
     LoanPolicyRepository loanPolicyRepository,
     PatronNoticeService patronNoticeService,
-    CollectionResourceClient templateNoticesClient) {
+    TemplateRepository templateRepository) {
 
     this.dueDateScheduledNoticeHandler = dueDateScheduledNoticeHandler;
     this.loanRepository = loanRepository;
     this.loanPolicyRepository = loanPolicyRepository;
     this.patronNoticeService = patronNoticeService;
-    this.templateNoticesClient = templateNoticesClient;
+    this.templateRepository = templateRepository;
   }
 
   public CompletableFuture<Result<Void>> handleNotices(
     List<List<ScheduledNotice>> noticeGroups) {
 
+    final LoanNoticeContextBuilder contextBuilder = new LoanNoticeContextBuilder();
+
     CompletableFuture<Result<Void>> future = completedFuture(succeeded(null));
     for (List<ScheduledNotice> noticeGroup : noticeGroups) {
-      future = future.thenCompose(r -> r.after(v -> handleNoticeGroup(noticeGroup)));
+      future = future.thenCompose(r -> r.after(v ->
+        handleNoticeGroup(noticeGroup, contextBuilder)));
     }
     return future.thenApply(mapResult(v -> null));
   }
 
-  private CompletableFuture<Result<Void>> handleNoticeGroup(List<ScheduledNotice> noticeGroup) {
-  return allResultsOf(noticeGroup, this::getContext)
+  private CompletableFuture<Result<Void>> handleNoticeGroup(List<ScheduledNotice> noticeGroup,
+    LoanNoticeContextBuilder contextBuilder) {
+
+    return allResultsOf(noticeGroup, this::getContext)
       .thenCompose(this::handleFailures)
-      .thenCompose(r -> r.after(this::sendGroupedNotice))
+      .thenCompose(r -> r.after(notices -> sendGroupedNotice(notices, contextBuilder)))
       .thenCompose(r -> r.after(this::updateGroupedNotice))
       .thenApply(mapResult(p -> null));
   }
@@ -86,11 +91,7 @@ public class DueDateNotRealTimeScheduledNoticeHandler {
   private CompletableFuture<Result<Pair<ScheduledNotice, LoanAndRelatedRecords>>> getContext(
     ScheduledNotice notice) {
 
-    String templateId = notice.getConfiguration().getTemplateId();
-
-    return templateNoticesClient.get(templateId)
-      .thenApply(r -> r.next(
-        response -> dueDateScheduledNoticeHandler.failIfTemplateNotFound(response, templateId)))
+    return templateRepository.failIfTemplateNotFound(notice.getConfiguration().getTemplateId())
       .thenCompose(r -> r.after(i -> loanRepository.getById(notice.getLoanId())))
       .thenCompose(r -> dueDateScheduledNoticeHandler.deleteNoticeIfLoanIsMissingOrIncomplete(r, notice))
       .thenApply(mapResult(LoanAndRelatedRecords::new))
@@ -99,7 +100,8 @@ public class DueDateNotRealTimeScheduledNoticeHandler {
   }
 
   private CompletableFuture<Result<List<Pair<ScheduledNotice, LoanAndRelatedRecords>>>> sendGroupedNotice(
-    List<Pair<ScheduledNotice, LoanAndRelatedRecords>> noticeGroup) {
+    List<Pair<ScheduledNotice, LoanAndRelatedRecords>> noticeGroup,
+    LoanNoticeContextBuilder contextBuilder) {
 
     List<Pair<ScheduledNotice, LoanAndRelatedRecords>> relevantNotices =
       noticeGroup.stream().filter(this::noticeIsRelevant).collect(Collectors.toList());
@@ -110,7 +112,7 @@ public class DueDateNotRealTimeScheduledNoticeHandler {
     List<JsonObject> loanContexts = relevantNotices.stream()
       .map(Pair::getRight)
       .map(LoanAndRelatedRecords::getLoan)
-      .map(TemplateContextUtil::createLoanNoticeContextWithoutUser)
+      .map(contextBuilder::createLoanNoticeContextWithoutUser)
       .collect(Collectors.toList());
 
     //All the notices have the same properties so we can get any of them
@@ -119,7 +121,7 @@ public class DueDateNotRealTimeScheduledNoticeHandler {
 
     User user = noticeRelatedRecords.getLoan().getUser();
     JsonObject noticeContext = new JsonObject()
-      .put("user", TemplateContextUtil.createUserContext(user))
+      .put("user", contextBuilder.createUserContext(user))
       .put("loans", new JsonArray(loanContexts));
 
     return patronNoticeService.acceptScheduledNoticeEvent(
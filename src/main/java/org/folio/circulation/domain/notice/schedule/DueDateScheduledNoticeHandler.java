@@ -13,17 +13,16 @@ import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
-import org.folio.circulation.domain.notice.TemplateContextUtil;
+import org.folio.circulation.domain.notice.LoanNoticeContextBuilder;
 import org.folio.circulation.domain.notice.NoticeTiming;
 import org.folio.circulation.domain.notice.PatronNoticeService;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.infrastructure.storage.notices.TemplateRepository;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.results.Result;
-import org.folio.circulation.support.http.client.Response;
 import org.joda.time.DateTime;
 
 import io.vertx.core.json.JsonObject;
@@ -39,7 +38,6 @@ public class DueDateScheduledNoticeHandler {
   private static final String TEMPLATE_RECORD_TYPE = "template";
   static final String[] REQUIRED_RECORD_TYPES = {USER_RECORD_TYPE,
     ITEM_RECORD_TYPE, LOAN_RECORD_TYPE, TEMPLATE_RECORD_TYPE};
-  private final CollectionResourceClient templateNoticesClient;
 
   public static DueDateScheduledNoticeHandler using(Clients clients, DateTime systemTime) {
     return new DueDateScheduledNoticeHandler(
@@ -48,7 +46,7 @@ public class DueDateScheduledNoticeHandler {
       new ConfigurationRepository(clients),
       PatronNoticeService.using(clients),
       ScheduledNoticesRepository.using(clients),
-      systemTime, clients.templateNoticeClient());
+      systemTime, TemplateRepository.using(clients));
   }
 
   private LoanRepository loanRepository;
@@ -57,13 +55,14 @@ public class DueDateScheduledNoticeHandler {
   private PatronNoticeService patronNoticeService;
   private ScheduledNoticesRepository scheduledNoticesRepository;
   private DateTime systemTime;
+  private final TemplateRepository templateRepository;
 
   public DueDateScheduledNoticeHandler(
     LoanRepository loanRepository, LoanPolicyRepository loanPolicyRepository,
     ConfigurationRepository configurationRepository,
     PatronNoticeService patronNoticeService,
     ScheduledNoticesRepository scheduledNoticesRepository, DateTime systemTime,
-    CollectionResourceClient templateNoticesClient) {
+    TemplateRepository templateRepository) {
 
     this.loanRepository = loanRepository;
     this.loanPolicyRepository = loanPolicyRepository;
@@ -71,50 +70,42 @@ public class DueDateScheduledNoticeHandler {
     this.patronNoticeService = patronNoticeService;
     this.scheduledNoticesRepository = scheduledNoticesRepository;
     this.systemTime = systemTime;
-    this.templateNoticesClient = templateNoticesClient;
+    this.templateRepository = templateRepository;
   }
 
   public CompletableFuture<Result<Collection<ScheduledNotice>>> handleNotices(Collection<ScheduledNotice> scheduledNotices) {
+    final LoanNoticeContextBuilder contextBuilder = new LoanNoticeContextBuilder();
+
     CompletableFuture<Result<ScheduledNotice>> future = completedFuture(succeeded(null));
     for (ScheduledNotice scheduledNotice : scheduledNotices) {
-      future = future.thenCompose(r -> handleNotice(scheduledNotice));
+      future = future.thenCompose(r -> handleNotice(scheduledNotice, contextBuilder));
     }
     return future.thenApply(r -> r.map(v -> scheduledNotices));
   }
 
-  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
+  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice,
+    LoanNoticeContextBuilder contextBuilder) {
+
     if (notice.getLoanId() != null) {
-      return handleDueDateNotice(notice);
+      return handleDueDateNotice(notice, contextBuilder);
     }
     return completedFuture(succeeded(notice));
   }
 
-  private CompletableFuture<Result<ScheduledNotice>> handleDueDateNotice(ScheduledNotice notice) {
+  private CompletableFuture<Result<ScheduledNotice>> handleDueDateNotice(ScheduledNotice notice,
+    LoanNoticeContextBuilder contextBuilder) {
 
-    String templateId = notice.getConfiguration().getTemplateId();
-
-    return templateNoticesClient.get(templateId)
-      .thenApply(r -> r.next(response -> failIfTemplateNotFound(response, templateId)))
+    return templateRepository.failIfTemplateNotFound(notice.getConfiguration().getTemplateId())
       .thenCompose(r -> r.after(i -> loanRepository.getById(notice.getLoanId())))
       .thenCompose(r -> deleteNoticeIfLoanIsMissingOrIncomplete(r, notice))
       .thenApply(r -> r.map(LoanAndRelatedRecords::new))
       .thenCompose(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
       .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration, LoanAndRelatedRecords::withTimeZone))
-      .thenCompose(r -> r.after(records -> sendNotice(records, notice)))
+      .thenCompose(r -> r.after(records -> sendNotice(records, notice, contextBuilder)))
       .thenCompose(r -> r.after(relatedRecords -> updateNotice(relatedRecords, notice)))
       .thenApply(r -> r.mapFailure(this::handleFailure));
   }
 
-  public Result<Response> failIfTemplateNotFound(
-    Response response, String templateId) {
-
-    if (response.getStatusCode() == 404) {
-      return failed(new RecordNotFoundFailure(TEMPLATE_RECORD_TYPE, templateId));
-    } else {
-      return succeeded(response);
-    }
-  }
-
   CompletableFuture<Result<Loan>> deleteNoticeIfLoanIsMissingOrIncomplete(
       Result<Loan> result, ScheduledNotice notice) {
 
@@ -155,14 +146,15 @@ public class DueDateScheduledNoticeHandler {
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> sendNotice(
-    LoanAndRelatedRecords relatedRecords, ScheduledNotice notice) {
+    LoanAndRelatedRecords relatedRecords, ScheduledNotice notice,
+    LoanNoticeContextBuilder contextBuilder) {
     Loan loan = relatedRecords.getLoan();
 
     if (noticeIsNotRelevant(notice, loan)) {
       return completedFuture(succeeded(relatedRecords));
     }
 
-    JsonObject loanNoticeContext = TemplateContextUtil.createLoanNoticeContext(loan);
+    JsonObject loanNoticeContext = contextBuilder.createLoanNoticeContext(loan);
 
     return patronNoticeService.acceptScheduledNoticeEvent(
       notice.getConfiguration(), relatedRecords.getUserId(), loanNoticeContext)
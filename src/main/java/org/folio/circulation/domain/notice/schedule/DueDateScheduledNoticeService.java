@@ -30,12 +30,15 @@ public class DueDateScheduledNoticeService {
 
   private final ScheduledNoticesRepository scheduledNoticesRepository;
   private final PatronNoticePolicyRepository noticePolicyRepository;
+  private final ScheduledNoticeSynchronizationService synchronizationService;
 
   public DueDateScheduledNoticeService(
     ScheduledNoticesRepository scheduledNoticesRepository,
     PatronNoticePolicyRepository noticePolicyRepository) {
     this.scheduledNoticesRepository = scheduledNoticesRepository;
     this.noticePolicyRepository = noticePolicyRepository;
+    this.synchronizationService = new ScheduledNoticeSynchronizationService(
+      scheduledNoticesRepository);
   }
 
   public Result<LoanAndRelatedRecords> scheduleNoticesForLoanDueDate(
@@ -53,13 +56,15 @@ public class DueDateScheduledNoticeService {
   private Result<PatronNoticePolicy> scheduleDueDateNoticesBasedOnPolicy(
     Loan loan, PatronNoticePolicy noticePolicy) {
 
-    List<ScheduledNotice> scheduledNotices = noticePolicy.getNoticeConfigurations().stream()
+    dueDateNoticesFor(loan, noticePolicy).forEach(scheduledNoticesRepository::create);
+    return succeeded(noticePolicy);
+  }
+
+  private List<ScheduledNotice> dueDateNoticesFor(Loan loan, PatronNoticePolicy noticePolicy) {
+    return noticePolicy.getNoticeConfigurations().stream()
       .filter(c -> c.getNoticeEventType() == NoticeEventType.DUE_DATE)
       .map(c -> createDueDateScheduledNotice(c, loan))
       .collect(Collectors.toList());
-
-    scheduledNotices.forEach(scheduledNoticesRepository::create);
-    return succeeded(noticePolicy);
   }
 
   private ScheduledNotice createDueDateScheduledNotice(NoticeConfiguration configuration, Loan loan) {
@@ -110,8 +115,9 @@ public class DueDateScheduledNoticeService {
 
   private <T> Result<T> rescheduleDueDateNotices(Loan loan, T mapTo) {
     if (!loan.isClosed()) {
-      scheduledNoticesRepository.deleteByLoanIdAndTriggeringEvent(loan.getId(), DUE_DATE)
-        .thenAccept(r -> r.next(v -> scheduleNoticesForLoanDueDate(loan)));
+      noticePolicyRepository.lookupPolicy(loan)
+        .thenCompose(r -> r.after(policy -> synchronizationService.synchronizeLoanNotices(
+          loan.getId(), DUE_DATE, dueDateNoticesFor(loan, policy))));
     }
 
     return succeeded(mapTo);
@@ -3,8 +3,10 @@ package org.folio.circulation.domain.notice.schedule;
 import static org.folio.circulation.domain.notice.NoticeTiming.UPON_AT;
 import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.folio.circulation.domain.CheckInContext;
 import org.folio.circulation.domain.Request;
@@ -27,12 +29,15 @@ public class RequestScheduledNoticeService {
 
   private final ScheduledNoticesRepository scheduledNoticesRepository;
   private final PatronNoticePolicyRepository noticePolicyRepository;
+  private final ScheduledNoticeSynchronizationService synchronizationService;
 
   private RequestScheduledNoticeService(
     ScheduledNoticesRepository scheduledNoticesRepository,
     PatronNoticePolicyRepository noticePolicyRepository) {
     this.scheduledNoticesRepository = scheduledNoticesRepository;
     this.noticePolicyRepository = noticePolicyRepository;
+    this.synchronizationService = new ScheduledNoticeSynchronizationService(
+      scheduledNoticesRepository);
   }
 
 
@@ -42,9 +47,7 @@ public class RequestScheduledNoticeService {
   }
 
   public Result<RequestAndRelatedRecords> rescheduleRequestNotices(RequestAndRelatedRecords relatedRecords) {
-    Request request = relatedRecords.getRequest();
-    scheduledNoticesRepository.deleteByRequestId(request.getId())
-      .thenAccept(r -> r.next(resp -> scheduleRequestNotices(request)));
+    rescheduleRequestNotices(relatedRecords.getRequest());
 
     return succeeded(relatedRecords);
   }
@@ -57,21 +60,28 @@ public class RequestScheduledNoticeService {
   }
 
   private void rescheduleRequestNotices(Request request) {
-    scheduledNoticesRepository.deleteByRequestId(request.getId())
-      .thenAccept(r -> r.next(resp -> scheduleRequestNotices(request)));
+    noticePolicyRepository.lookupPolicy(request)
+      .thenCompose(r -> r.after(policy -> synchronizationService.synchronizeRequestNotices(
+        request.getId(), requestNoticesFor(request, policy))));
   }
 
   private Result<PatronNoticePolicy> scheduleRequestNoticesBasedOnPolicy(
     Request request, PatronNoticePolicy noticePolicy) {
 
-    noticePolicy.getNoticeConfigurations()
+    requestNoticesFor(request, noticePolicy).forEach(scheduledNoticesRepository::create);
+
+    return succeeded(noticePolicy);
+  }
+
+  private List<ScheduledNotice> requestNoticesFor(Request request,
+    PatronNoticePolicy noticePolicy) {
+
+    return noticePolicy.getNoticeConfigurations()
       .stream()
       .map(cfg -> createRequestScheduledNoticeBasedOnNoticeConfig(cfg, request))
       .filter(Optional::isPresent)
       .map(Optional::get)
-      .forEach(scheduledNoticesRepository::create);
-
-    return succeeded(noticePolicy);
+      .collect(Collectors.toList());
   }
 
   private Optional<ScheduledNotice> createRequestScheduledNoticeBasedOnNoticeConfig(
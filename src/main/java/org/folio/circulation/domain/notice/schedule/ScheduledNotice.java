@@ -59,6 +59,11 @@ public class ScheduledNotice {
     return configuration;
   }
 
+  public ScheduledNotice withId(String id) {
+    return new ScheduledNotice(id, loanId, requestId, recipientUserId, feeFineActionId,
+      triggeringEvent, nextRunTime, configuration);
+  }
+
   public ScheduledNotice withNextRunTime(DateTime nextRunTime) {
     return new ScheduledNotice(id, loanId, requestId, recipientUserId, feeFineActionId,
       triggeringEvent, nextRunTime, configuration);
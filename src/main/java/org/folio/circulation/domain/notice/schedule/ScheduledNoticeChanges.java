@@ -0,0 +1,156 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.folio.circulation.domain.notice.NoticeFormat;
+import org.folio.circulation.domain.notice.NoticeTiming;
+import org.folio.circulation.domain.policy.Period;
+
+/**
+ * The notices that need to be created, updated or deleted in order for
+ * the notices already scheduled to become the notices that should be scheduled
+ *
+ * An existing notice is kept when a notice for the same loan or request,
+ * triggering event and notice configuration should be scheduled. It is only
+ * updated when it should be sent, or who to, has changed.
+ */
+public class ScheduledNoticeChanges {
+  private final List<ScheduledNotice> toCreate;
+  private final List<ScheduledNotice> toUpdate;
+  private final List<ScheduledNotice> toDelete;
+
+  private ScheduledNoticeChanges(List<ScheduledNotice> toCreate,
+    List<ScheduledNotice> toUpdate, List<ScheduledNotice> toDelete) {
+
+    this.toCreate = toCreate;
+    this.toUpdate = toUpdate;
+    this.toDelete = toDelete;
+  }
+
+  public static ScheduledNoticeChanges between(Collection<ScheduledNotice> existing,
+    Collection<ScheduledNotice> desired) {
+
+    final Map<NoticeKey, Deque<ScheduledNotice>> existingByKey = new LinkedHashMap<>();
+
+    existing.forEach(notice -> existingByKey
+      .computeIfAbsent(new NoticeKey(notice), key -> new LinkedList<>())
+      .add(notice));
+
+    final List<ScheduledNotice> toCreate = new ArrayList<>();
+    final List<ScheduledNotice> toUpdate = new ArrayList<>();
+
+    for (ScheduledNotice notice : desired) {
+      final Deque<ScheduledNotice> matching = existingByKey.get(new NoticeKey(notice));
+      final ScheduledNotice match = matching == null ? null : matching.poll();
+
+      if (match == null) {
+        toCreate.add(notice);
+      }
+      else if (hasChanged(match, notice)) {
+        toUpdate.add(notice.withId(match.getId()));
+      }
+    }
+
+    final List<ScheduledNotice> toDelete = new ArrayList<>();
+
+    existingByKey.values().forEach(toDelete::addAll);
+
+    return new ScheduledNoticeChanges(toCreate, toUpdate, toDelete);
+  }
+
+  public List<ScheduledNotice> getToCreate() {
+    return Collections.unmodifiableList(toCreate);
+  }
+
+  public List<ScheduledNotice> getToUpdate() {
+    return Collections.unmodifiableList(toUpdate);
+  }
+
+  public List<ScheduledNotice> getToDelete() {
+    return Collections.unmodifiableList(toDelete);
+  }
+
+  public boolean isEmpty() {
+    return toCreate.isEmpty() && toUpdate.isEmpty() && toDelete.isEmpty();
+  }
+
+  private static boolean hasChanged(ScheduledNotice existing, ScheduledNotice desired) {
+    return !sameTime(existing, desired)
+      || !Objects.equals(existing.getRecipientUserId(), desired.getRecipientUserId())
+      || !samePeriod(existing.getConfiguration().getRecurringPeriod(),
+        desired.getConfiguration().getRecurringPeriod());
+  }
+
+  private static boolean sameTime(ScheduledNotice existing, ScheduledNotice desired) {
+    if (existing.getNextRunTime() == null || desired.getNextRunTime() == null) {
+      return existing.getNextRunTime() == desired.getNextRunTime();
+    }
+
+    return existing.getNextRunTime().isEqual(desired.getNextRunTime());
+  }
+
+  private static boolean samePeriod(Period existing, Period desired) {
+    if (existing == null || desired == null) {
+      return existing == desired;
+    }
+
+    return existing.asJson().equals(desired.asJson());
+  }
+
+  private static class NoticeKey {
+    private final String loanId;
+    private final String requestId;
+    private final TriggeringEvent triggeringEvent;
+    private final String templateId;
+    private final NoticeTiming timing;
+    private final NoticeFormat format;
+    private final boolean sendInRealTime;
+
+    NoticeKey(ScheduledNotice notice) {
+      final ScheduledNoticeConfig configuration = notice.getConfiguration();
+
+      loanId = notice.getLoanId();
+      requestId = notice.getRequestId();
+      triggeringEvent = notice.getTriggeringEvent();
+      templateId = configuration.getTemplateId();
+      timing = configuration.getTiming();
+      format = configuration.getFormat();
+      sendInRealTime = configuration.sendInRealTime();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+
+      if (!(other instanceof NoticeKey)) {
+        return false;
+      }
+
+      final NoticeKey key = (NoticeKey) other;
+
+      return sendInRealTime == key.sendInRealTime
+        && Objects.equals(loanId, key.loanId)
+        && Objects.equals(requestId, key.requestId)
+        && triggeringEvent == key.triggeringEvent
+        && Objects.equals(templateId, key.templateId)
+        && timing == key.timing
+        && format == key.format;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(loanId, requestId, triggeringEvent, templateId,
+        timing, format, sendInRealTime);
+    }
+  }
+}
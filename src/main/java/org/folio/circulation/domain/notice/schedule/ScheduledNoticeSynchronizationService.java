@@ -0,0 +1,90 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
+import static org.folio.circulation.support.utils.CollectionUtil.uniqueSetOf;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Brings the notices scheduled for a loan or request in line with the notices
+ * that should be scheduled for it, by only creating, updating or deleting the
+ * notices that differ, rather than replacing all of them
+ *
+ * Notices that are no longer needed are deleted together
+ */
+public class ScheduledNoticeSynchronizationService {
+  private final ScheduledNoticesRepository scheduledNoticesRepository;
+
+  public ScheduledNoticeSynchronizationService(
+    ScheduledNoticesRepository scheduledNoticesRepository) {
+
+    this.scheduledNoticesRepository = scheduledNoticesRepository;
+  }
+
+  /**
+   * @param loanId the loan to change the scheduled notices for
+   * @param triggeringEvent only notices with this triggering event are changed
+   * @param desiredNotices the notices that should be scheduled for the loan
+   * @return the changes that have been made
+   */
+  public CompletableFuture<Result<ScheduledNoticeChanges>> synchronizeLoanNotices(
+    String loanId, TriggeringEvent triggeringEvent,
+    Collection<ScheduledNotice> desiredNotices) {
+
+    return scheduledNoticesRepository.findByLoanIdAndTriggeringEvent(loanId, triggeringEvent)
+      .thenApply(mapResult(existing -> changesFor(existing, desiredNotices)))
+      .thenCompose(r -> r.after(this::applyChanges));
+  }
+
+  /**
+   * @param requestId the request to change the scheduled notices for
+   * @param desiredNotices the notices that should be scheduled for the request
+   * @return the changes that have been made
+   */
+  public CompletableFuture<Result<ScheduledNoticeChanges>> synchronizeRequestNotices(
+    String requestId, Collection<ScheduledNotice> desiredNotices) {
+
+    return scheduledNoticesRepository.findByRequestId(requestId)
+      .thenApply(mapResult(existing -> changesFor(existing, desiredNotices)))
+      .thenCompose(r -> r.after(this::applyChanges));
+  }
+
+  private ScheduledNoticeChanges changesFor(
+    MultipleRecords<ScheduledNotice> existing, Collection<ScheduledNotice> desired) {
+
+    return ScheduledNoticeChanges.between(existing.getRecords(), desired);
+  }
+
+  private CompletableFuture<Result<ScheduledNoticeChanges>> applyChanges(
+    ScheduledNoticeChanges changes) {
+
+    if (changes.isEmpty()) {
+      return completedFuture(succeeded(changes));
+    }
+
+    return deleteNotices(changes.getToDelete())
+      .thenCompose(r -> r.after(notUsed -> allOf(changes.getToCreate(),
+        scheduledNoticesRepository::create)))
+      .thenCompose(r -> r.after(notUsed -> allOf(changes.getToUpdate(),
+        scheduledNoticesRepository::update)))
+      .thenApply(mapResult(notUsed -> changes));
+  }
+
+  private CompletableFuture<Result<Void>> deleteNotices(List<ScheduledNotice> notices) {
+    if (notices.isEmpty()) {
+      return completedFuture(succeeded(null));
+    }
+
+    return scheduledNoticesRepository.deleteByIds(uniqueSetOf(notices, ScheduledNotice::getId))
+      .thenApply(r -> r.<Void>map(notUsed -> null));
+  }
+}
@@ -0,0 +1,189 @@
+package org.folio.circulation.domain.notice.session;
+
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.partitioningBy;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.circulation.domain.notice.session.PatronActionType.ALL;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.circulation.domain.ProcessingCursor;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.sessions.PatronExpiredSessionRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ExpiredSessionProcessingService {
+  private static final Logger log = LoggerFactory.getLogger(ExpiredSessionProcessingService.class);
+
+  private static final String CURSOR_NAME = "expired_session_cursor";
+
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final int DEFAULT_PATRONS_PER_GROUP = 25;
+  private static final int DEFAULT_MAXIMUM_PAGES = 10;
+  private static final int MAXIMUM_FETCH_SIZE = 1000;
+
+  private final PatronExpiredSessionRepository expiredSessionRepository;
+  private final PatronActionSessionService patronActionSessionService;
+  private final ConfigurationRepository configurationRepository;
+  private final int pageSize;
+  private final int patronsPerGroup;
+  private final int maximumPages;
+
+  public static ExpiredSessionProcessingService using(Clients clients) {
+    return new ExpiredSessionProcessingService(
+      PatronExpiredSessionRepository.using(clients),
+      PatronActionSessionService.using(clients),
+      new ConfigurationRepository(clients),
+      DEFAULT_PAGE_SIZE, DEFAULT_PATRONS_PER_GROUP, DEFAULT_MAXIMUM_PAGES);
+  }
+
+  public ExpiredSessionProcessingService(
+    PatronExpiredSessionRepository expiredSessionRepository,
+    PatronActionSessionService patronActionSessionService,
+    ConfigurationRepository configurationRepository, int pageSize,
+    int patronsPerGroup, int maximumPages) {
+
+    this.expiredSessionRepository = expiredSessionRepository;
+    this.patronActionSessionService = patronActionSessionService;
+    this.configurationRepository = configurationRepository;
+    this.pageSize = pageSize;
+    this.patronsPerGroup = patronsPerGroup;
+    this.maximumPages = maximumPages;
+  }
+
+  /**
+   * Ends the sessions which have been inactive since the inactivity limit,
+   * a page of patrons at a time, up to a maximum number of pages per run.
+   * Each page is split into groups of patrons with the same action type which
+   * are ended in parallel. A group that cannot be ended is left for the next run,
+   * rather than stopping the other groups.
+   *
+   * Ended sessions are removed from storage, so each page fetches the sessions
+   * that remain. Patrons are processed in order of ID, starting after the last
+   * patron reached by the previous run, so that a run that is stopped short
+   * does not start with the same patrons every time.
+   *
+   * @param inactivityLimit sessions with no activity since this time have expired
+   */
+  public CompletableFuture<Result<Void>> endExpiredSessions(DateTime inactivityLimit) {
+    return configurationRepository.findProcessingCursor(CURSOR_NAME)
+      .thenCompose(r -> r.after(cursor -> endExpiredSessions(inactivityLimit,
+        cursor, new HashSet<>(), 1)
+        .thenCompose(movedResult -> movedResult.after(
+          movedCursor -> saveCursor(cursor, movedCursor)))));
+  }
+
+  private CompletableFuture<Result<ProcessingCursor>> endExpiredSessions(
+    DateTime inactivityLimit, ProcessingCursor cursor,
+    Set<String> attemptedSessions, int page) {
+
+    return expiredSessionRepository.findPatronExpiredSessions(ALL,
+      inactivityLimit.toString(), fetchSize(attemptedSessions))
+      .thenCompose(r -> r.after(expiredSessions -> {
+        final List<ExpiredSession> nextPage = nextPage(expiredSessions,
+          attemptedSessions, cursor);
+
+        if (nextPage.isEmpty()) {
+          return completedFuture(succeeded(cursor.backToStart()));
+        }
+
+        nextPage.forEach(session -> attemptedSessions.add(keyOf(session)));
+
+        final ProcessingCursor movedCursor = cursor.moveTo(
+          nextPage.get(nextPage.size() - 1).getPatronId());
+
+        return endSessionsInGroups(nextPage)
+          .thenCompose(ended -> ended.after(notUsed -> page < maximumPages
+            ? endExpiredSessions(inactivityLimit, movedCursor, attemptedSessions, page + 1)
+            : completedFuture(succeeded(movedCursor))));
+      }));
+  }
+
+  private int fetchSize(Set<String> attemptedSessions) {
+    // Sessions that could not be ended are still returned, so fetch past them
+    return Math.min(pageSize + attemptedSessions.size(), MAXIMUM_FETCH_SIZE);
+  }
+
+  private List<ExpiredSession> nextPage(List<ExpiredSession> expiredSessions,
+    Set<String> attemptedSessions, ProcessingCursor cursor) {
+
+    final List<ExpiredSession> notYetAttempted = expiredSessions.stream()
+      .filter(session -> StringUtils.isNotBlank(session.getPatronId()))
+      .filter(session -> !attemptedSessions.contains(keyOf(session)))
+      .sorted(comparing(ExpiredSession::getPatronId))
+      .collect(toList());
+
+    final String lastPatronId = cursor.getLastRecordId();
+
+    // Continue after the last patron processed, then wrap around to the rest
+    final Map<Boolean, List<ExpiredSession>> afterLastPatron = notYetAttempted.stream()
+      .collect(partitioningBy(session -> lastPatronId != null
+        && session.getPatronId().compareTo(lastPatronId) > 0));
+
+    final List<ExpiredSession> ordered = new ArrayList<>(afterLastPatron.get(true));
+    ordered.addAll(afterLastPatron.get(false));
+
+    return ordered.subList(0, Math.min(pageSize, ordered.size()));
+  }
+
+  private CompletableFuture<Result<Void>> endSessionsInGroups(
+    List<ExpiredSession> expiredSessions) {
+
+    // Sessions for different action types cannot be fetched together
+    final List<List<ExpiredSession>> groups = expiredSessions.stream()
+      .collect(groupingBy(ExpiredSession::getActionType))
+      .values().stream()
+      .flatMap(sessions -> partition(sessions, patronsPerGroup).stream())
+      .collect(toList());
+
+    return allOf(groups, this::endSessionsInGroup)
+      .thenApply(mapResult(notUsed -> null));
+  }
+
+  private CompletableFuture<Result<Void>> endSessionsInGroup(
+    List<ExpiredSession> expiredSessions) {
+
+    return patronActionSessionService.endSession(expiredSessions)
+      .thenApply(r -> {
+        if (r.failed()) {
+          log.warn("Failed to end {} expired sessions, starting with patron {}: {}",
+            expiredSessions.size(), expiredSessions.get(0).getPatronId(), r.cause());
+        }
+
+        return succeeded(null);
+      });
+  }
+
+  private CompletableFuture<Result<Void>> saveCursor(ProcessingCursor cursor,
+    ProcessingCursor movedCursor) {
+
+    if (cursor.isAtStart() && movedCursor.isAtStart()) {
+      return completedFuture(succeeded(null));
+    }
+
+    log.info("Moving expired session processing to {}", movedCursor);
+
+    return configurationRepository.saveProcessingCursor(movedCursor)
+      .thenApply(mapResult(notUsed -> null));
+  }
+
+  private static String keyOf(ExpiredSession session) {
+    return session.getPatronId() + ":" + session.getActionType();
+  }
+}
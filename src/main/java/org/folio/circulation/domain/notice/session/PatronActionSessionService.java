@@ -96,6 +96,10 @@ public class PatronActionSessionService {
   public CompletableFuture<Result<Void>> endSessionsForRecords(
     MultipleRecords<PatronSessionRecord> records) {
 
+    if (records == null) {
+      return completedFuture(succeeded(null));
+    }
+
     return sendNoticesForAllUsers(records)
       .thenCompose(r -> deleteRecords(records));
   }
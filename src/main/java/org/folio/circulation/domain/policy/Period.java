@@ -192,6 +192,22 @@ public class Period {
     return startPlusPeriod.isBefore(now) || startPlusPeriod.isEqual(now);
   }
 
+  /**
+   * Gets the latest start date from which this period has passed by the end date.
+   * Adding months to a date late in a month can round down to the end of a shorter
+   * month, so for month intervals up to three more days are allowed for.
+   *
+   * @param endDate the date by which the period should have passed
+   * @return the latest start date that could satisfy {@link #hasPassedSinceDateTillNow}
+   */
+  public DateTime latestStartDateHavingPassedBy(DateTime endDate) {
+    final DateTime startDate = endDate.minus(timePeriod());
+
+    return MONTHS.equals(interval)
+      ? startDate.plusDays(3)
+      : startDate;
+  }
+
   public boolean hasNotPassedSinceDateTillNow(DateTime startDate) {
     return !hasPassedSinceDateTillNow(startDate);
   }
@@ -144,15 +144,24 @@ public class LostItemPolicy extends Policy {
   }
 
   public boolean canAgeLoanToLost(DateTime loanDueDate) {
-    if (agedToLostAfterOverdueInterval.hasZeroDuration()) {
+    if (!canAgeLoansToLost()) {
       return false;
     }
 
-    if (actualCostFee.isChargeable()) {
-      // actual cost is not supported now
+    return agedToLostAfterOverdueInterval.hasPassedSinceDateTillNow(loanDueDate);
+  }
+
+  public boolean canAgeLoansToLost() {
+    if (agedToLostAfterOverdueInterval.hasZeroDuration()) {
       return false;
     }
-    return agedToLostAfterOverdueInterval.hasPassedSinceDateTillNow(loanDueDate);
+
+    // actual cost is not supported now
+    return !actualCostFee.isChargeable();
+  }
+
+  public DateTime latestDueDateThatCanBeAgedToLost(DateTime now) {
+    return agedToLostAfterOverdueInterval.latestStartDateHavingPassedBy(now);
   }
 
   public DateTime calculateDateTimeWhenPatronBilledForAgedToLost(DateTime loanDueDate) {
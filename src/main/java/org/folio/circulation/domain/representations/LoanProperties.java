@@ -3,6 +3,7 @@ package org.folio.circulation.domain.representations;
 public class LoanProperties {
   private LoanProperties() { }
 
+  public static final String ITEM = "item";
   public static final String ITEM_ID = "itemId";
   public static final String USER_ID = "userId";
   public static final String STATUS = "status";
@@ -13,6 +14,8 @@ public class LoanProperties {
   public static final String SYSTEM_RETURN_DATE = "systemReturnDate";
   public static final String CHECKIN_SERVICE_POINT_ID = "checkinServicePointId";
   public static final String CHECKOUT_SERVICE_POINT_ID = "checkoutServicePointId";
+  public static final String CHECKIN_SERVICE_POINT = "checkinServicePoint";
+  public static final String CHECKOUT_SERVICE_POINT = "checkoutServicePoint";
   public static final String ACTION_COMMENT = "actionComment";
   public static final String ITEM_LOCATION_ID_AT_CHECKOUT = "itemEffectiveLocationIdAtCheckOut";
   public static final String BORROWER = "borrower";
@@ -16,4 +16,9 @@ public class RequestProperties {
   public static final String CANCELLATION_REASON_NAME = "name";
   public static final String CANCELLATION_REASON_PUBLIC_DESCRIPTION = "publicDescription";
   public static final String REQUESTER_ID = "requesterId";
+  public static final String ITEM = "item";
+  public static final String LOAN = "loan";
+  public static final String REQUESTER = "requester";
+  public static final String PROXY = "proxy";
+  public static final String PICKUP_SERVICE_POINT = "pickupServicePoint";
 }
@@ -16,9 +16,15 @@ import io.vertx.core.json.JsonObject;
 public class StoredAccount extends JsonObject {
   public StoredAccount(Loan loan, Item item, FeeFineOwner feeFineOwner,
     FeeFine feeFine, FeeAmount amount) {
+
+    this(UUID.randomUUID().toString(), loan, item, feeFineOwner, feeFine, amount);
+  }
+
+  public StoredAccount(String id, Loan loan, Item item, FeeFineOwner feeFineOwner,
+    FeeFine feeFine, FeeAmount amount) {
     super();
 
-    this.put("id", UUID.randomUUID().toString());
+    this.put("id", id);
     this.put("ownerId", feeFineOwner.getId());
     this.put("feeFineId", feeFine.getId());
     this.put("amount", amount.toDouble());
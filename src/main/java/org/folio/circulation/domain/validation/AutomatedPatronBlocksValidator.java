@@ -57,9 +57,9 @@ public class AutomatedPatronBlocksValidator {
     Predicate<AutomatedPatronBlock> actionPredicate, T mapTo) {
 
     return ofAsync(() -> userId)
-      .thenComposeAsync(r -> r.after(automatedPatronBlocksRepository::findByUserId))
-      .thenComposeAsync(r -> r.after(blocks -> getActionBlock(blocks, actionPredicate)))
-      .thenComposeAsync(result -> result.failAfter(this::blocksExist,
+      .thenCompose(r -> r.after(automatedPatronBlocksRepository::findByUserId))
+      .thenCompose(r -> r.after(blocks -> getActionBlock(blocks, actionPredicate)))
+      .thenCompose(result -> result.failAfter(this::blocksExist,
         blockList -> actionIsBlockedForPatronErrorFunction.apply(
           blockList.stream()
             .map(AutomatedPatronBlock::getMessage)
@@ -26,7 +26,7 @@ public class ExistingOpenLoanValidator {
     LoanAndRelatedRecords loanAndRelatedRecords) {
 
     return ofAsync(() -> loanAndRelatedRecords.getLoan().getItemId())
-      .thenComposeAsync(result -> result.failAfter(loanRepository::hasOpenLoan,
+      .thenCompose(result -> result.failAfter(loanRepository::hasOpenLoan,
         v -> existingOpenLoanErrorFunction.apply(
           "Cannot check out item that already has an open loan")))
       .thenApply(result -> result.map(v -> loanAndRelatedRecords));
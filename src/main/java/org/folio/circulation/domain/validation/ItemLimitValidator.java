@@ -41,7 +41,7 @@ public class ItemLimitValidator {
     }
 
     return ofAsync(() -> loan.getLoanPolicy().getRuleConditions())
-      .thenComposeAsync(result -> result.failAfter(ruleConditions -> isLimitReached(ruleConditions, records),
+      .thenCompose(result -> result.failAfter(ruleConditions -> isLimitReached(ruleConditions, records),
         ruleConditions -> {
           String message = getErrorMessage(ruleConditions);
           return itemLimitErrorFunction.apply(String.format("Patron has reached maximum limit of %d items %s",
@@ -1,20 +1,26 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static org.folio.circulation.domain.OpeningDay.createClosedDay;
 import static org.folio.circulation.domain.OpeningDay.fromJsonByDefaultKey;
+import static org.folio.circulation.support.ClockManager.getClockManager;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.LibraryTimetable;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.OpenMinutesIndex;
 import org.folio.circulation.domain.OpeningDay;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.caching.ExpiringResultCache;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.server.ValidationError;
@@ -25,21 +31,60 @@ import org.joda.time.LocalDate;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
+/**
+ * Fetches service point calendars. Both the opening days adjacent to a date and
+ * the timetable of each service point (for a window around the current date)
+ * are remembered for each tenant for a short time, as the same calendars are
+ * needed for most check outs, renewals and overdue check ins.
+ */
 public class CalendarRepository {
 
   private static final String OPENING_PERIODS = "openingPeriods";
   private static final String OPENING_DAYS = "openingDays";
   private static final String PATH_PARAM_WITH_QUERY = "%s/calculateopening?requestedDate=%s";
 
+  private static final long REFRESH_AFTER_MILLISECONDS = 60000;
+  private static final long EXPIRE_AFTER_MILLISECONDS = 300000;
+  private static final int MAXIMUM_CACHED_ADJACENT_OPENING_DAYS = 10000;
+  private static final int MAXIMUM_CACHED_TIMETABLES = 1000;
+  private static final int TIMETABLE_DAYS_BEFORE_TODAY = 365;
+  private static final int TIMETABLE_DAYS_AFTER_TODAY = 31;
+
+  private static final ExpiringResultCache<String, AdjacentOpeningDays> adjacentOpeningDaysCache =
+    new ExpiringResultCache<>(REFRESH_AFTER_MILLISECONDS, EXPIRE_AFTER_MILLISECONDS,
+      MAXIMUM_CACHED_ADJACENT_OPENING_DAYS);
+
+  private static final ExpiringResultCache<String, LibraryTimetable> timetableCache =
+    new ExpiringResultCache<>(REFRESH_AFTER_MILLISECONDS, EXPIRE_AFTER_MILLISECONDS,
+      MAXIMUM_CACHED_TIMETABLES);
+
+  private final String tenantId;
   private final CollectionResourceClient calendarClient;
   private final ConfigurationRepository configurationRepository;
 
   public CalendarRepository(Clients clients) {
+    this.tenantId = clients.getTenantId();
     this.calendarClient = clients.calendarStorageClient();
     this.configurationRepository = new ConfigurationRepository(clients);
   }
 
+  /**
+   * Forget all of the calendars remembered, for example when the calendars
+   * in storage have been replaced
+   */
+  public static void clearCache() {
+    adjacentOpeningDaysCache.clear();
+    timetableCache.clear();
+  }
+
   public CompletableFuture<Result<AdjacentOpeningDays>> lookupOpeningDays(LocalDate requestedDate, String servicePointId) {
+    return adjacentOpeningDaysCache.get(cacheKey(servicePointId, requestedDate),
+      () -> fetchOpeningDays(requestedDate, servicePointId));
+  }
+
+  private CompletableFuture<Result<AdjacentOpeningDays>> fetchOpeningDays(
+    LocalDate requestedDate, String servicePointId) {
+
     String path = String.format(PATH_PARAM_WITH_QUERY, servicePointId, requestedDate);
 
     //TODO: Validation error should have parameters
@@ -54,16 +99,78 @@ public class CalendarRepository {
   public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
     String servicePointId, DateTime startDate, DateTime endDate, boolean includeClosedDays) {
 
+    final LocalDate firstDate = startDate.toLocalDate();
+    final LocalDate lastDate = endDate.toLocalDate().plusDays(1);
+
+    if (includeClosedDays) {
+      return fetchOpeningDaysBetweenDates(servicePointId, firstDate, lastDate, true);
+    }
+
+    return findTimetable(servicePointId, firstDate, lastDate)
+      .thenApply(r -> r.map(timetable -> timetable.openingDaysBetween(firstDate, lastDate)));
+  }
+
+  /**
+   * @return the minutes the service point is open, for at least the days between the dates
+   */
+  public CompletableFuture<Result<OpenMinutesIndex>> findOpenMinutesBetweenDates(
+    String servicePointId, DateTime startDate, DateTime endDate) {
+
+    return findTimetable(servicePointId, startDate.toLocalDate(),
+      endDate.toLocalDate().plusDays(1))
+      .thenApply(r -> r.map(LibraryTimetable::getOpenMinutes));
+  }
+
+  private CompletableFuture<Result<LibraryTimetable>> findTimetable(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate) {
+
+    final LocalDate today = getClockManager().getDateTime().toLocalDate();
+
+    // Only open days for dates around today are remembered,
+    // other dates are much less commonly needed
+    if (firstDate.isBefore(today.minusDays(TIMETABLE_DAYS_BEFORE_TODAY))
+      || lastDate.isAfter(today.plusDays(TIMETABLE_DAYS_AFTER_TODAY))) {
+
+      return fetchTimetable(servicePointId, firstDate, lastDate);
+    }
+
+    return timetableCache.get(cacheKey(servicePointId),
+      () -> fetchTimetable(servicePointId, today.minusDays(TIMETABLE_DAYS_BEFORE_TODAY),
+        today.plusDays(TIMETABLE_DAYS_AFTER_TODAY)))
+      .thenCompose(r -> r.after(timetable -> timetable.covers(firstDate, lastDate)
+        ? completedFuture(succeeded(timetable))
+        : fetchTimetable(servicePointId, firstDate, lastDate)));
+  }
+
+  private CompletableFuture<Result<LibraryTimetable>> fetchTimetable(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate) {
+
+    return fetchOpeningDaysBetweenDates(servicePointId, firstDate, lastDate, false)
+      .thenApply(r -> r.map(openingDays ->
+        new LibraryTimetable(firstDate, lastDate, openingDays)));
+  }
+
+  private CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
+    String servicePointId, LocalDate firstDate, LocalDate lastDate,
+    boolean includeClosedDays) {
+
     String params = String.format(
       "servicePointId=%s&startDate=%s&endDate=%s&includeClosedDays=%s&limit=%d",
-      servicePointId, startDate.toLocalDate(), endDate.toLocalDate().plusDays(1),
-      includeClosedDays, 10000);
+      servicePointId, firstDate, lastDate, includeClosedDays, 10000);
 
     return calendarClient.getManyWithRawQueryStringParameters(params)
-      .thenCombineAsync(configurationRepository.findTimeZoneConfiguration(),
+      .thenCombine(configurationRepository.findTimeZoneConfiguration(),
         Result.combined(this::getOpeningDaysFromOpeningPeriods));
   }
 
+  private String cacheKey(String servicePointId) {
+    return String.format("%s:%s", tenantId, servicePointId);
+  }
+
+  private String cacheKey(String servicePointId, LocalDate date) {
+    return String.format("%s:%s:%s", tenantId, servicePointId, date);
+  }
+
   private Result<Collection<OpeningDay>> getOpeningDaysFromOpeningPeriods(
     Response periodsResponse, DateTimeZone zone) {
 
@@ -19,6 +19,7 @@ import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ForwardOnFailure;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.caching.ExpiringResultCache;
 import org.folio.circulation.support.http.client.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,14 +30,33 @@ public abstract class CirculationPolicyRepository<T> {
   private static final String APPLIED_RULE_CONDITIONS = "appliedRuleConditions";
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final long REFRESH_AFTER_MILLISECONDS = 30000;
+  private static final long EXPIRE_AFTER_MILLISECONDS = 60000;
+  private static final int MAXIMUM_CACHED_POLICIES = 5000;
+
+  // Policies are needed for most check outs and renewals, and rarely change
+  private static final ExpiringResultCache<String, JsonObject> policiesCache =
+    new ExpiringResultCache<>(REFRESH_AFTER_MILLISECONDS, EXPIRE_AFTER_MILLISECONDS,
+      MAXIMUM_CACHED_POLICIES);
+
   private final CirculationRulesClient circulationRulesClient;
   protected final CollectionResourceClient policyStorageClient;
+  protected final String tenantId;
 
   protected CirculationPolicyRepository(
     CirculationRulesClient circulationRulesClient,
-    CollectionResourceClient policyStorageClient) {
+    CollectionResourceClient policyStorageClient, String tenantId) {
     this.circulationRulesClient = circulationRulesClient;
     this.policyStorageClient = policyStorageClient;
+    this.tenantId = tenantId;
+  }
+
+  /**
+   * Forget all of the policies remembered, for example when the policies
+   * in storage have been changed
+   */
+  public static void clearCache() {
+    policiesCache.clear();
   }
 
   public CompletableFuture<Result<T>> lookupPolicy(Loan loan) {
@@ -51,7 +71,7 @@ public abstract class CirculationPolicyRepository<T> {
     Item item, User user) {
 
     return lookupPolicyId(item, user)
-      .thenComposeAsync(r -> r.after(ruleMatchEntity -> lookupPolicy(
+      .thenCompose(r -> r.after(ruleMatchEntity -> lookupPolicy(
         ruleMatchEntity.getPolicyId(), ruleMatchEntity.getAppliedRuleConditions())));
   }
 
@@ -66,10 +86,15 @@ public abstract class CirculationPolicyRepository<T> {
   public CompletableFuture<Result<T>> lookupPolicy(String policyId, AppliedRuleConditions conditionsEntity) {
     log.info("Looking up policy with id {}", policyId);
 
-    return SingleRecordFetcher.json(policyStorageClient, "circulation policy",
-      response -> failedDueToServerError(getPolicyNotFoundErrorMessage(policyId)))
-      .fetch(policyId)
-      .thenApply(result -> result.next(json -> mapToPolicy(json, conditionsEntity)));
+    final String cacheKey = String.format("%s:%s:%s", tenantId,
+      getClass().getSimpleName(), policyId);
+
+    return policiesCache.get(cacheKey, () ->
+        SingleRecordFetcher.json(policyStorageClient, "circulation policy",
+          response -> failedDueToServerError(getPolicyNotFoundErrorMessage(policyId)))
+          .fetch(policyId))
+      // Policies may keep and change the representation they are built from
+      .thenApply(result -> result.next(json -> mapToPolicy(json.copy(), conditionsEntity)));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> lookupPolicyId(Item item, User user) {
@@ -1,7 +1,9 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static org.folio.circulation.domain.MultipleRecords.from;
+import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.utils.CollectionUtil.firstOrNull;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
@@ -10,12 +12,15 @@ import java.util.function.Function;
 import org.folio.circulation.domain.Configuration;
 import org.folio.circulation.domain.ConfigurationService;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ProcessingCursor;
 import org.folio.circulation.domain.anonymization.config.LoanAnonymizationConfiguration;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.caching.ExpiringResultCache;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.joda.time.DateTimeZone;
 
 import io.vertx.core.json.JsonObject;
@@ -24,28 +29,43 @@ public class ConfigurationRepository {
   private static final String CONFIGS_KEY = "configs";
   private static final String MODULE_NAME_KEY = "module";
   private static final String CONFIG_NAME_KEY = "configName";
+  private static final String VALUE_KEY = "value";
+  private static final String PROCESSING_CURSORS_MODULE_NAME = "CIRCULATION";
 
   private static final PageLimit DEFAULT_PAGE_LIMIT = PageLimit.one();
 
-  private final GetManyRecordsClient configurationClient;
+  private static final long REFRESH_AFTER_MILLISECONDS = 30000;
+  private static final long EXPIRE_AFTER_MILLISECONDS = 60000;
+  private static final int MAXIMUM_CACHED_CONFIGURATIONS = 1000;
+
+  private static final ExpiringResultCache<String, MultipleRecords<Configuration>> configurationsCache =
+    new ExpiringResultCache<>(REFRESH_AFTER_MILLISECONDS, EXPIRE_AFTER_MILLISECONDS,
+      MAXIMUM_CACHED_CONFIGURATIONS);
+
+  private final String tenantId;
+  private final CollectionResourceClient configurationClient;
 
   public ConfigurationRepository(Clients clients) {
+    tenantId = clients.getTenantId();
     configurationClient = clients.configurationStorageClient();
   }
 
-  public CompletableFuture<Result<PageLimit>> lookupSchedulerNoticesProcessingLimit() {
-    Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
-      "NOTIFICATION_SCHEDULER", "noticesLimit");
+  /**
+   * Forget all of the settings remembered, for example when the configuration
+   * in storage has been changed
+   */
+  public static void clearCache() {
+    configurationsCache.clear();
+  }
 
-    return lookupConfigurations(cqlQueryResult, applySearchSchedulerNoticesLimit())
+  public CompletableFuture<Result<PageLimit>> lookupSchedulerNoticesProcessingLimit() {
+    return lookupSettings("NOTIFICATION_SCHEDULER", "noticesLimit",
+      applySearchSchedulerNoticesLimit())
       .thenApply(result -> result.map(PageLimit::limit));
   }
 
   public CompletableFuture<Result<Integer>> lookupSessionTimeout() {
-    Result<CqlQuery> otherSettingsQuery = defineModuleNameAndConfigNameFilter(
-      "CHECKOUT", "other_settings");
-
-    return lookupConfigurations(otherSettingsQuery, applySessionTimeout());
+    return lookupSettings("CHECKOUT", "other_settings", applySessionTimeout());
   }
 
   /**
@@ -53,12 +73,8 @@ public class ConfigurationRepository {
    *
    */
   public CompletableFuture<Result<LoanAnonymizationConfiguration>> loanHistoryConfiguration() {
-    return defineModuleNameAndConfigNameFilter("LOAN_HISTORY", "loan_history")
-      .after(query -> configurationClient.getMany(query, DEFAULT_PAGE_LIMIT))
-      .thenApply(result -> result.next(response ->
-        MultipleRecords.from(response, Configuration::new, CONFIGS_KEY)))
-      .thenApply(r -> r.next(r1 -> r.map(MultipleRecords::getRecords)))
-      .thenApply(r -> r.map(ConfigurationRepository::getFirstConfiguration));
+    return lookupSettings("LOAN_HISTORY", "loan_history",
+      configurations -> getFirstConfiguration(configurations.getRecords()));
   }
 
   static LoanAnonymizationConfiguration getFirstConfiguration(
@@ -74,21 +90,79 @@ public class ConfigurationRepository {
   }
 
   public CompletableFuture<Result<DateTimeZone>> findTimeZoneConfiguration() {
-    Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
-      "ORG", "localeSettings");
+    return lookupSettings("ORG", "localeSettings", applySearchDateTimeZone());
+  }
+
+  /**
+   * Gets the position reached by a scheduled process during its previous run,
+   * or a cursor at the start when the process has not stored one yet
+   *
+   */
+  public CompletableFuture<Result<ProcessingCursor>> findProcessingCursor(String name) {
+    return lookupConfigurations(
+      defineModuleNameAndConfigNameFilter(PROCESSING_CURSORS_MODULE_NAME, name),
+      configurations -> ProcessingCursor.from(name, firstOrNull(configurations)));
+  }
+
+  public CompletableFuture<Result<ProcessingCursor>> saveProcessingCursor(
+    ProcessingCursor cursor) {
 
-    return lookupConfigurations(cqlQueryResult, applySearchDateTimeZone());
+    final JsonObject representation = new JsonObject()
+      .put(MODULE_NAME_KEY, PROCESSING_CURSORS_MODULE_NAME)
+      .put(CONFIG_NAME_KEY, cursor.getName())
+      .put(VALUE_KEY, cursor.valueAsJson().encode());
+
+    if (cursor.isStored()) {
+      representation.put("id", cursor.getConfigurationId());
+
+      final ResponseInterpreter<ProcessingCursor> interpreter =
+        new ResponseInterpreter<ProcessingCursor>()
+          .on(204, Result.succeeded(cursor))
+          .otherwise(forwardOnFailure());
+
+      return configurationClient.put(cursor.getConfigurationId(), representation)
+        .thenApply(interpreter::flatMap);
+    }
+
+    final ResponseInterpreter<ProcessingCursor> interpreter =
+      new ResponseInterpreter<ProcessingCursor>()
+        .flatMapOn(201, response -> Result.succeeded(
+          cursor.withConfigurationId(response.getJson().getString("id"))))
+        .otherwise(forwardOnFailure());
+
+    return configurationClient.post(representation)
+      .thenApply(interpreter::flatMap);
+  }
+
+  /**
+   * Settings are remembered for each tenant for a short time, as they are
+   * needed by most operations and rarely change
+   */
+  private <T> CompletableFuture<Result<T>> lookupSettings(String moduleName,
+    String configName, Function<MultipleRecords<Configuration>, T> searchStrategy) {
+
+    final String cacheKey = String.format("%s:%s:%s", tenantId, moduleName, configName);
+
+    return configurationsCache.get(cacheKey, () -> fetchConfigurations(
+        defineModuleNameAndConfigNameFilter(moduleName, configName)))
+      .thenApply(result -> result.map(searchStrategy));
   }
 
   private <T> CompletableFuture<Result<T>> lookupConfigurations(
     Result<CqlQuery> cqlQueryResult,
     Function<MultipleRecords<Configuration>, T> searchStrategy) {
 
+    return fetchConfigurations(cqlQueryResult)
+      .thenApply(result -> result.map(searchStrategy));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Configuration>>> fetchConfigurations(
+    Result<CqlQuery> cqlQueryResult) {
+
     return cqlQueryResult
       .after(query -> configurationClient.getMany(query, DEFAULT_PAGE_LIMIT))
       .thenApply(result -> result.next(response ->
-        from(response, Configuration::new, CONFIGS_KEY)))
-      .thenApply(result -> result.map(searchStrategy));
+        from(response, Configuration::new, CONFIGS_KEY)));
   }
 
   private Result<CqlQuery> defineModuleNameAndConfigNameFilter(String moduleName,
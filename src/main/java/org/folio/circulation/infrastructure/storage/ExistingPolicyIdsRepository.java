@@ -0,0 +1,88 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.JsonPropertyFetcher.getProperty;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Checks which of the policies referred to by circulation rules exist.
+ * Only the policies referred to are fetched, each of them once. Nothing is
+ * remembered between requests, so that rules referring to a policy which
+ * has just been deleted are not accepted.
+ */
+public class ExistingPolicyIdsRepository {
+  private static final Pattern UUID_PATTERN = Pattern.compile(
+    "^[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}$");
+
+  private final Map<String, FindWithMultipleCqlIndexValues<String>> findersByPolicyType;
+
+  public ExistingPolicyIdsRepository(Clients clients) {
+    findersByPolicyType = new HashMap<>();
+    findersByPolicyType.put("l", idFinder(clients.loanPoliciesStorage(), "loanPolicies"));
+    findersByPolicyType.put("n", idFinder(clients.patronNoticePolicesStorageClient(),
+      "patronNoticePolicies"));
+    findersByPolicyType.put("r", idFinder(clients.requestPoliciesStorage(), "requestPolicies"));
+    findersByPolicyType.put("o", idFinder(clients.overdueFinesPoliciesStorage(),
+      "overdueFinePolicies"));
+    findersByPolicyType.put("i", idFinder(clients.lostItemPoliciesStorage(),
+      "lostItemFeePolicies"));
+  }
+
+  /**
+   * @param policyIdsByType IDs of the policies referred to, by policy type
+   * @return the IDs of the policies referred to which exist, by policy type
+   */
+  public CompletableFuture<Result<Map<String, Set<String>>>> findExistingPolicyIds(
+    Map<String, Set<String>> policyIdsByType) {
+
+    return allOf(policyIdsByType.entrySet(), entry -> findExistingPolicyIds(
+      entry.getKey(), entry.getValue()))
+      .thenApply(r -> r.map(entries -> entries.stream()
+        .collect(toMap(Map.Entry::getKey, Map.Entry::getValue))));
+  }
+
+  private CompletableFuture<Result<Map.Entry<String, Set<String>>>> findExistingPolicyIds(
+    String policyType, Set<String> policyIds) {
+
+    final FindWithMultipleCqlIndexValues<String> finder = findersByPolicyType.get(policyType);
+
+    // Policy IDs which are not UUIDs cannot exist, and would make an invalid query
+    final Set<String> idsToFetch = policyIds.stream()
+      .filter(id -> UUID_PATTERN.matcher(id).matches())
+      .collect(toSet());
+
+    if (finder == null || idsToFetch.isEmpty()) {
+      return completedFuture(succeeded(
+        new SimpleImmutableEntry<>(policyType, Collections.emptySet())));
+    }
+
+    return finder.findByIds(idsToFetch)
+      .thenApply(r -> r.map(fetched -> new SimpleImmutableEntry<>(policyType,
+        new HashSet<>(fetched.getRecords()))));
+  }
+
+  private static FindWithMultipleCqlIndexValues<String> idFinder(
+    CollectionResourceClient client, String recordsPropertyName) {
+
+    return findWithMultipleCqlIndexValues(client, recordsPropertyName,
+      json -> getProperty(json, "id"));
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
@@ -9,6 +10,7 @@ import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -56,13 +58,20 @@ public class ServicePointRepository {
         .fetch(id);
   }
 
+  public CompletableFuture<Result<Map<String, ServicePoint>>> findServicePointsByIds(
+    Collection<String> ids) {
+
+    return createServicePointsFetcher().findByIds(ids)
+      .thenApply(mapResult(servicePoints -> servicePoints.toMap(ServicePoint::getId)));
+  }
+
   public CompletableFuture<Result<ServicePoint>> getServicePointForRequest(Request request) {
     return getServicePointById(request.getPickupServicePointId());
   }
 
   public CompletableFuture<Result<Loan>> findServicePointsForLoan(Result<Loan> loanResult) {
     return fetchCheckInServicePoint(loanResult)
-      .thenComposeAsync(this::fetchCheckOutServicePoint);
+      .thenCompose(this::fetchCheckOutServicePoint);
   }
 
   private CompletableFuture<Result<Loan>> fetchCheckOutServicePoint(Result<Loan> loanResult) {
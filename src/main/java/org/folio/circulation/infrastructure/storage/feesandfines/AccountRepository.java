@@ -90,20 +90,42 @@ public class AccountRepository {
           new ArrayList<>())))));
   }
 
-  private CompletableFuture<Result<Map<String, List<Account>>>> getAccountsForLoans(Collection<Loan> loans) {
+  /**
+   * Attaches accounts to the loans without their fee fine actions, for when
+   * only which accounts exist and whether they are closed is needed
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findAccountsWithoutActionsForLoans(
+    MultipleRecords<Loan> multipleLoans) {
 
-    final Set<String> loanIds =
-      loans.stream()
-        .filter(Objects::nonNull)
-        .map(Loan::getId)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toSet());
+    if (multipleLoans.getRecords().isEmpty()) {
+      return completedFuture(succeeded(multipleLoans));
+    }
+
+    return findWithMultipleCqlIndexValues(accountsStorageClient,
+        ACCOUNTS_COLLECTION_PROPERTY_NAME, Account::from)
+      .find(byIndex(LOAN_ID_FIELD_NAME, loanIdsOf(multipleLoans.getRecords())))
+      .thenApply(r -> r.map(accounts -> accounts.getRecords().stream()
+        .collect(Collectors.groupingBy(Account::getLoanId))))
+      .thenApply(r -> r.map(accountMap -> multipleLoans.mapRecords(
+        loan -> loan.withAccounts(accountMap.getOrDefault(loan.getId(),
+          new ArrayList<>())))));
+  }
+
+  private static Set<String> loanIdsOf(Collection<Loan> loans) {
+    return loans.stream()
+      .filter(Objects::nonNull)
+      .map(Loan::getId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+  }
+
+  private CompletableFuture<Result<Map<String, List<Account>>>> getAccountsForLoans(Collection<Loan> loans) {
 
     return findWithMultipleCqlIndexValues(accountsStorageClient,
         ACCOUNTS_COLLECTION_PROPERTY_NAME, Account::from)
-      .find(byIndex(LOAN_ID_FIELD_NAME, loanIds))
+      .find(byIndex(LOAN_ID_FIELD_NAME, loanIdsOf(loans)))
       .thenCompose(r -> r.after(this::findFeeFineActionsForAccounts))
-      .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(multipleRecords.getRecords()
+      .thenCompose(r -> r.after(multipleRecords -> completedFuture(succeeded(multipleRecords.getRecords()
         .stream()
         .collect(Collectors.groupingBy(Account::getLoanId))))));
   }
@@ -132,7 +154,7 @@ public class AccountRepository {
       .collect(Collectors.toSet());
 
     return createFeeFineActionFetcher().find(byIndex(ACCOUNT_ID_FIELD_NAME, loanIds))
-        .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(
+        .thenCompose(r -> r.after(multipleRecords -> completedFuture(succeeded(
             multipleRecords.getRecords().stream().collect(
                 Collectors.groupingBy(FeeFineAction::getAccountId))))));
   }
@@ -142,6 +164,16 @@ public class AccountRepository {
       "feefineactions", FeeFineAction::from);
   }
 
+  public CompletableFuture<Result<Map<String, Account>>> findAccountsAndActionsByIds(
+    Collection<String> accountIds) {
+
+    return findWithMultipleCqlIndexValues(accountsStorageClient,
+        ACCOUNTS_COLLECTION_PROPERTY_NAME, Account::from)
+      .findByIds(accountIds)
+      .thenCompose(r -> r.after(this::findFeeFineActionsForAccounts))
+      .thenApply(r -> r.map(accounts -> accounts.toMap(Account::getId)));
+  }
+
   public CompletableFuture<Result<Account>> findAccountForAction(FeeFineAction action) {
     if (isNull(action)) {
       return ofAsync(() -> null);
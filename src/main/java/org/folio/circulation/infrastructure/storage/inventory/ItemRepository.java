@@ -108,7 +108,7 @@ public class ItemRepository {
   private CompletableFuture<Result<Item>> fetchLocation(Result<Item> result) {
     return fetchLocation
       ? result.combineAfter(locationRepository::getLocation, Item::withLocation)
-          .thenComposeAsync(this::fetchPrimaryServicePoint)
+          .thenCompose(this::fetchPrimaryServicePoint)
       : completedFuture(result);
   }
 
@@ -157,12 +157,12 @@ public class ItemRepository {
 
   public CompletableFuture<Result<Item>> fetchByBarcode(String barcode) {
     return fetchItemByBarcode(barcode)
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+      .thenCompose(this::fetchItemRelatedRecords);
   }
 
   public CompletableFuture<Result<Item>> fetchById(String itemId) {
     return fetchItem(itemId)
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+      .thenCompose(this::fetchItemRelatedRecords);
   }
 
   private CompletableFuture<Result<Collection<Item>>> fetchLocations(
@@ -360,10 +360,10 @@ public class ItemRepository {
 
     return fetcher.findByQuery(queryResult)
       .thenApply(mapResult(MultipleRecords::getRecords))
-      .thenComposeAsync(this::fetchHoldingRecords)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes);
+      .thenCompose(this::fetchHoldingRecords)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes);
   }
 
   public CompletableFuture<Result<Collection<Item>>> findByIndexNameAndQuery(
@@ -375,21 +375,21 @@ public class ItemRepository {
 
     return fetcher.find(byIndex(indexName, ids).withQuery(query))
       .thenApply(mapResult(MultipleRecords::getRecords))
-      .thenComposeAsync(this::fetchHoldingRecords)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes)
-      .thenComposeAsync(this::fetchLoanTypes);
+      .thenCompose(this::fetchHoldingRecords)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes)
+      .thenCompose(this::fetchLoanTypes);
   }
 
   private CompletableFuture<Result<Collection<Item>>> fetchFor(
     Collection<String> itemIds) {
 
     return fetchItems(itemIds)
-      .thenComposeAsync(this::fetchHoldingRecords)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes);
+      .thenCompose(this::fetchHoldingRecords)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes);
   }
 
   private <T extends ItemRelatedRecord> List<String> getItemIds(MultipleRecords<T> records) {
@@ -415,10 +415,10 @@ public class ItemRepository {
     Result<Item> item) {
 
     return fetchHoldingsRecord(item)
-      .thenComposeAsync(this::fetchInstance)
-      .thenComposeAsync(this::fetchLocation)
-      .thenComposeAsync(this::fetchMaterialType)
-      .thenComposeAsync(this::fetchLoanType);
+      .thenCompose(this::fetchInstance)
+      .thenCompose(this::fetchLocation)
+      .thenCompose(this::fetchMaterialType)
+      .thenCompose(this::fetchLoanType);
   }
 
   public static ItemRepository noLocationMaterialTypeAndLoanTypeInstance(Clients clients) {
@@ -1,14 +1,18 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.JsonStringArrayHelper.toList;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.apache.commons.collections4.ListUtils;
 import org.folio.circulation.domain.anonymization.LoanAnonymizationRecords;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
@@ -20,37 +24,51 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class AnonymizeStorageLoansRepository {
+  private static final int MAXIMUM_LOANS_PER_REQUEST = 500;
+
   private final CollectionResourceClient loanStorageClient;
 
   public AnonymizeStorageLoansRepository(Clients clients) {
     loanStorageClient = clients.anonymizeStorageLoansClient();
   }
 
-  private static ResponseInterpreter<LoanAnonymizationRecords>
-    createStorageLoanResponseInterpreter(LoanAnonymizationRecords records) {
-
-    Function<Response, Result<LoanAnonymizationRecords>> mapper = mapUsingJson(
-        response -> records.withAnonymizedLoans(
-            toList(response.getJsonArray("anonymizedLoans")))
+  private static ResponseInterpreter<List<String>> createStorageLoanResponseInterpreter() {
+    Function<Response, Result<List<String>>> mapper = mapUsingJson(
+        response -> toList(response.getJsonArray("anonymizedLoans"))
     );
 
-    return new ResponseInterpreter<LoanAnonymizationRecords>().flatMapOn(200, mapper)
+    return new ResponseInterpreter<List<String>>().flatMapOn(200, mapper)
       .otherwise(forwardOnFailure());
   }
 
-  private static JsonObject createRequestPayload(LoanAnonymizationRecords records) {
+  private static JsonObject createRequestPayload(List<String> loanIds) {
     JsonObject jsonObject = new JsonObject();
-    jsonObject.put("loanIds", new JsonArray(records.getAnonymizedLoans()));
+    jsonObject.put("loanIds", new JsonArray(loanIds));
     return jsonObject;
   }
 
+  /**
+   * Anonymizes the loans in batches, so that a large number of loans
+   * does not produce a single oversized request to storage
+   */
   public CompletableFuture<Result<LoanAnonymizationRecords>>
     postAnonymizeStorageLoans(LoanAnonymizationRecords records) {
 
     if (records.getAnonymizedLoans().isEmpty()) {
       return completedFuture(succeeded(records));
     }
-    return loanStorageClient.post(createRequestPayload(records))
-      .thenApply(createStorageLoanResponseInterpreter(records)::flatMap);
+
+    return allOf(ListUtils.partition(records.getAnonymizedLoans(), MAXIMUM_LOANS_PER_REQUEST),
+      this::postAnonymizeStorageLoans)
+      .thenApply(r -> r.map(batches -> records.withAnonymizedLoans(batches.stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList()))));
+  }
+
+  private CompletableFuture<Result<List<String>>> postAnonymizeStorageLoans(
+    List<String> loanIds) {
+
+    return loanStorageClient.post(createRequestPayload(loanIds))
+      .thenApply(createStorageLoanResponseInterpreter()::flatMap);
   }
 }
@@ -28,18 +28,37 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.caching.ExpiringResultCache;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
 
 public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy> {
+  private static final long REFRESH_AFTER_MILLISECONDS = 30000;
+  private static final long EXPIRE_AFTER_MILLISECONDS = 60000;
+  private static final int MAXIMUM_CACHED_SCHEDULES = 1000;
+
+  // Schedules are needed whenever a loan policy with fixed due dates is used
+  private static final ExpiringResultCache<String, Map<String, FixedDueDateSchedules>> schedulesCache =
+    new ExpiringResultCache<>(REFRESH_AFTER_MILLISECONDS, EXPIRE_AFTER_MILLISECONDS,
+      MAXIMUM_CACHED_SCHEDULES);
+
   private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
 
   public LoanPolicyRepository(Clients clients) {
-    super(clients.circulationLoanRules(), clients.loanPoliciesStorage());
+    super(clients.circulationLoanRules(), clients.loanPoliciesStorage(),
+      clients.getTenantId());
     this.fixedDueDateSchedulesStorageClient = clients.fixedDueDateSchedules();
   }
 
+  /**
+   * Forget all of the fixed due date schedules remembered, for example when
+   * the schedules in storage have been changed
+   */
+  public static void clearSchedulesCache() {
+    schedulesCache.clear();
+  }
+
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupLoanPolicy(
     LoanAndRelatedRecords relatedRecords) {
 
@@ -104,7 +123,7 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
   @Override
   public CompletableFuture<Result<LoanPolicy>> lookupPolicy(Loan loan) {
     return super.lookupPolicy(loan)
-      .thenComposeAsync(r -> r.after(this::lookupSchedules));
+      .thenCompose(r -> r.after(this::lookupSchedules));
   }
 
   private CompletableFuture<Result<LoanPolicy>> lookupSchedules(LoanPolicy loanPolicy) {
@@ -146,8 +165,11 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       = findWithMultipleCqlIndexValues(fixedDueDateSchedulesStorageClient,
         "fixedDueDateSchedules", FixedDueDateSchedules::from);
 
-    return fetcher.findByIds(schedulesIds)
-      .thenApply(mapResult(schedules -> schedules.toMap(FixedDueDateSchedules::getId)));
+    final String cacheKey = String.format("%s:%s", tenantId,
+      String.join(",", schedulesIds));
+
+    return schedulesCache.get(cacheKey, () -> fetcher.findByIds(schedulesIds)
+      .thenApply(mapResult(schedules -> schedules.toMap(FixedDueDateSchedules::getId))));
   }
 
   @Override
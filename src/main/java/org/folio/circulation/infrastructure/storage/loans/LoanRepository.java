@@ -11,6 +11,8 @@ import static org.folio.circulation.domain.representations.LoanProperties.LOST_I
 import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_ID_AT_CHECKOUT;
+import static org.folio.circulation.domain.representations.LoanProperties.SYSTEM_RETURN_DATE;
+import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.CqlSortBy.descending;
 import static org.folio.circulation.support.JsonPropertyWriter.write;
 import static org.folio.circulation.support.results.Result.failed;
@@ -23,8 +25,12 @@ import static org.folio.circulation.support.http.CommonResponseInterpreters.noCo
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThanOrEqualTo;
+import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.PageLimit.one;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.joda.time.DateTimeZone.UTC;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
@@ -40,6 +46,7 @@ import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ProcessingCursor;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.policy.Policy;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
@@ -57,6 +64,7 @@ import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.utils.CollectionUtil;
+import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -111,7 +119,7 @@ public class LoanRepository {
 
     return loansStorageClient.put(loan.getId(), storageLoan)
       .thenApply(noContentRecordInterpreter(loan)::flatMap)
-      .thenComposeAsync(r -> r.after(this::refreshLoanRepresentation));
+      .thenCompose(r -> r.after(this::refreshLoanRepresentation));
   }
 
   /**
@@ -154,8 +162,8 @@ public class LoanRepository {
 
   public CompletableFuture<Result<Loan>> getById(String id) {
     return fetchLoan(id)
-      .thenComposeAsync(this::fetchItem)
-      .thenComposeAsync(this::fetchUser)
+      .thenCompose(this::fetchItem)
+      .thenCompose(this::fetchUser)
       .exceptionally(CommonFailures::failedDueToServerError);
   }
 
@@ -184,12 +192,44 @@ public class LoanRepository {
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findLoansToAnonymize(
-    PageLimit pageLimit) {
+    ProcessingCursor cursor, PageLimit pageLimit) {
 
-    Result<CqlQuery> cqlQuery = getStatusCQLQuery("Closed")
+    return queryLoanStorage(loansToAnonymizeQuery(cursor)
+      .map(query -> query.sortBy(ascending("id"))), pageLimit);
+  }
+
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findLoansToAnonymize(
+    ProcessingCursor cursor, DateTime returnedBefore, PageLimit pageLimit) {
+
+    final Result<CqlQuery> returnDateQuery = lessThan(SYSTEM_RETURN_DATE,
+      returnedBefore.withZone(UTC));
+
+    return queryLoanStorage(loansToAnonymizeQuery(cursor)
+      .combine(returnDateQuery, CqlQuery::and)
+      .map(query -> query.sortBy(ascending("id"))), pageLimit);
+  }
+
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findLoansReturnedSinceToAnonymize(
+    ProcessingCursor cursor, DateTime returnedSince, PageLimit pageLimit) {
+
+    final Result<CqlQuery> returnDateQuery = greaterThanOrEqualTo(SYSTEM_RETURN_DATE,
+      returnedSince.withZone(UTC));
+
+    return queryLoanStorage(loansToAnonymizeQuery(cursor)
+      .combine(returnDateQuery, CqlQuery::and)
+      .map(query -> query.sortBy(ascending("id"))), pageLimit);
+  }
+
+  private Result<CqlQuery> loansToAnonymizeQuery(ProcessingCursor cursor) {
+    final Result<CqlQuery> closedLoansQuery = getStatusCQLQuery("Closed")
       .combine(CqlQuery.hasValue(USER_ID), CqlQuery::and);
 
-    return queryLoanStorage(cqlQuery, pageLimit);
+    if (cursor.isAtStart()) {
+      return closedLoansQuery;
+    }
+
+    return closedLoansQuery.combine(greaterThan("id", cursor.getLastRecordId()),
+      CqlQuery::and);
   }
 
   private CompletableFuture<Result<MultipleRecords<Loan>>> queryLoanStorage(
@@ -211,9 +251,13 @@ public class LoanRepository {
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findBy(String query) {
     //TODO: Should fetch users for all loans
+    return findByWithoutItems(query)
+      .thenCompose(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+  }
+
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findByWithoutItems(String query) {
     return loansStorageClient.getManyWithRawQueryStringParameters(query)
-      .thenApply(flatMapResult(this::mapResponseToLoans))
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenApply(flatMapResult(this::mapResponseToLoans));
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findByIds(Collection<String> loanIds) {
@@ -221,7 +265,7 @@ public class LoanRepository {
       findWithMultipleCqlIndexValues(loansStorageClient, RECORDS_PROPERTY_NAME, Loan::from);
 
     return fetcher.findByIds(loanIds)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenCompose(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
   private Result<MultipleRecords<Loan>> mapResponseToLoans(Response response) {
@@ -364,7 +408,7 @@ public class LoanRepository {
       .combine(userIdQuery, CqlQuery::and);
 
     return queryLoanStorage(cqlQueryResult, loansLimit)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenCompose(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
   public CompletableFuture<Result<Loan>> findLastLoanForItem(String itemId) {
@@ -5,6 +5,7 @@ import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
+import static org.folio.circulation.support.http.client.PageLimit.maximumLimit;
 
 import java.util.Collection;
 import java.util.Map;
@@ -28,7 +29,8 @@ import io.vertx.core.json.JsonObject;
 public class LostItemPolicyRepository extends CirculationPolicyRepository<LostItemPolicy> {
 
   public LostItemPolicyRepository(Clients clients) {
-    super(clients.circulationLostItemRules(), clients.lostItemPoliciesStorage());
+    super(clients.circulationLostItemRules(), clients.lostItemPoliciesStorage(),
+      clients.getTenantId());
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupLostItemPolicy(
@@ -82,6 +84,12 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
       .thenApply(mapResult(r -> r.toMap(LostItemPolicy::getId)));
   }
 
+  public CompletableFuture<Result<MultipleRecords<LostItemPolicy>>> findAllLostItemPolicies() {
+    return policyStorageClient.get(maximumLimit())
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response,
+        LostItemPolicy::from, "lostItemFeePolicies")));
+  }
+
   private FindWithMultipleCqlIndexValues<LostItemPolicy> createLostItemPoliciesFetcher() {
     return findWithMultipleCqlIndexValues(policyStorageClient, "lostItemFeePolicies",
       LostItemPolicy::from);
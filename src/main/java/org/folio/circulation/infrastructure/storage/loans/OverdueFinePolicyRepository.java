@@ -27,7 +27,8 @@ import io.vertx.core.json.JsonObject;
 
 public class OverdueFinePolicyRepository extends CirculationPolicyRepository<OverdueFinePolicy> {
   public OverdueFinePolicyRepository(Clients clients) {
-    super(clients.circulationOverdueFineRules(), clients.overdueFinesPoliciesStorage());
+    super(clients.circulationOverdueFineRules(), clients.overdueFinesPoliciesStorage(),
+      clients.getTenantId());
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupOverdueFinePolicy(
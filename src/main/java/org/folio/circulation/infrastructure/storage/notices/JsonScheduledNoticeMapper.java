@@ -25,7 +25,7 @@ import io.vertx.core.json.JsonObject;
 public class JsonScheduledNoticeMapper {
   private static final String ID = "id";
   public static final String LOAN_ID = "loanId";
-  private static final String REQUEST_ID = "requestId";
+  public static final String REQUEST_ID = "requestId";
   private static final String FEE_FINE_ACTION_ID = "feeFineActionId";
   private static final String RECIPIENT_USER_ID = "recipientUserId";
   private static final String NEXT_RUN_TIME = "nextRunTime";
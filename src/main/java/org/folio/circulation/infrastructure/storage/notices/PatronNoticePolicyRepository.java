@@ -20,7 +20,8 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
   private PatronNoticePolicyRepository(
     Clients clients,
     Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper) {
-    super(clients.circulationNoticeRules(), clients.patronNoticePolicesStorageClient());
+    super(clients.circulationNoticeRules(), clients.patronNoticePolicesStorageClient(),
+      clients.getTenantId());
     this.patronNoticePolicyMapper = patronNoticePolicyMapper;
   }
 
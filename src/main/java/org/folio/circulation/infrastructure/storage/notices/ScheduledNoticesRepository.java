@@ -5,6 +5,7 @@ import static org.folio.circulation.domain.notice.NoticeTiming.AFTER;
 import static org.folio.circulation.domain.notice.NoticeTiming.UPON_AT;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.LOAN_ID;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.NOTICE_CONFIG;
+import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.REQUEST_ID;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TIMING;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.TRIGGERING_EVENT;
 import static org.folio.circulation.infrastructure.storage.notices.JsonScheduledNoticeMapper.mapToJson;
@@ -15,8 +16,10 @@ import static org.folio.circulation.support.http.ResponseMapping.flatMapUsingJso
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
+import static org.folio.circulation.support.http.client.PageLimit.maximumLimit;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -89,6 +92,21 @@ public class ScheduledNoticesRepository {
         JsonScheduledNoticeMapper::mapFromJson)));
   }
 
+  public CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> findByLoanIdAndTriggeringEvent(
+    String loanId, TriggeringEvent triggeringEvent) {
+
+    return exactMatch(LOAN_ID, loanId)
+      .combine(exactMatch(TRIGGERING_EVENT, triggeringEvent.getRepresentation()), CqlQuery::and)
+      .after(query -> findBy(query, maximumLimit()));
+  }
+
+  public CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> findByRequestId(
+    String requestId) {
+
+    return exactMatch(REQUEST_ID, requestId)
+      .after(query -> findBy(query, maximumLimit()));
+  }
+
   public CompletableFuture<Result<ScheduledNotice>> update(
     ScheduledNotice scheduledNotice) {
 
@@ -108,14 +126,6 @@ public class ScheduledNoticesRepository {
       .thenApply(flatMapResult(interpreter::apply));
   }
 
-  public CompletableFuture<Result<Response>> deleteByLoanIdAndTriggeringEvent(
-    String loanId, TriggeringEvent triggeringEvent) {
-
-    return exactMatch("loanId", loanId)
-      .combine(exactMatch("triggeringEvent", triggeringEvent.getRepresentation()), CqlQuery::and)
-      .after(this::deleteMany);
-  }
-
   public CompletableFuture<Result<Response>> deleteOverdueNotices(String loanId) {
 
     return exactMatch(LOAN_ID, loanId)
@@ -124,8 +134,8 @@ public class ScheduledNoticesRepository {
       .after(this::deleteMany);
   }
 
-  public CompletableFuture<Result<Response>> deleteByRequestId(String requestId) {
-    return exactMatch("requestId", requestId).after(this::deleteMany);
+  public CompletableFuture<Result<Response>> deleteByIds(Collection<String> ids) {
+    return exactMatchAny("id", ids).after(this::deleteMany);
   }
 
   private CompletableFuture<Result<Response>> deleteMany(CqlQuery cqlQuery) {
@@ -0,0 +1,69 @@
+package org.folio.circulation.infrastructure.storage.notices;
+
+import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.caching.ExpiringResultCache;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.Result;
+
+public class TemplateRepository {
+  private static final String TEMPLATE_RECORD_TYPE = "template";
+
+  private static final long REFRESH_AFTER_MILLISECONDS = 30000;
+  private static final long EXPIRE_AFTER_MILLISECONDS = 60000;
+  private static final int MAXIMUM_CACHED_TEMPLATES = 1000;
+
+  // Scheduled notice runs check the same few templates for every notice
+  private static final ExpiringResultCache<String, String> existingTemplatesCache =
+    new ExpiringResultCache<>(REFRESH_AFTER_MILLISECONDS, EXPIRE_AFTER_MILLISECONDS,
+      MAXIMUM_CACHED_TEMPLATES);
+
+  private final CollectionResourceClient templateNoticesClient;
+  private final String tenantId;
+
+  public static TemplateRepository using(Clients clients) {
+    return new TemplateRepository(clients.templateNoticeClient(),
+      clients.getTenantId());
+  }
+
+  public TemplateRepository(CollectionResourceClient templateNoticesClient,
+    String tenantId) {
+
+    this.templateNoticesClient = templateNoticesClient;
+    this.tenantId = tenantId;
+  }
+
+  /**
+   * Forget all of the templates known to exist, for example when the
+   * templates in storage have been changed
+   */
+  public static void clearCache() {
+    existingTemplatesCache.clear();
+  }
+
+  /**
+   * Templates known to exist are remembered for a short time, templates which
+   * are not found (or could not be fetched) are looked for again every time
+   *
+   * @param templateId ID of the template expected to exist
+   * @return the template ID, a record not found failure when there is
+   * no template with that ID, or the failed response from storage
+   */
+  public CompletableFuture<Result<String>> failIfTemplateNotFound(String templateId) {
+    final ResponseInterpreter<String> interpreter = new ResponseInterpreter<String>()
+      .on(200, succeeded(templateId))
+      .on(404, failed(new RecordNotFoundFailure(TEMPLATE_RECORD_TYPE, templateId)))
+      .otherwise(forwardOnFailure());
+
+    return existingTemplatesCache.get(tenantId + ":" + templateId,
+      () -> templateNoticesClient.get(templateId)
+        .thenApply(interpreter::flatMap));
+  }
+}
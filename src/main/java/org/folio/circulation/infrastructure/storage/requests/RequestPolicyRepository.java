@@ -51,7 +51,7 @@ public class RequestPolicyRepository {
     User user) {
 
     return lookupRequestPolicyId(item, user)
-      .thenComposeAsync(r -> r.after(this::lookupRequestPolicy))
+      .thenCompose(r -> r.after(this::lookupRequestPolicy))
       .thenApply(result -> result.map(RequestPolicy::from));
   }
 
@@ -86,7 +86,7 @@ public class RequestPolicyRepository {
       patronGroupId);
 
     return circulationRulesResponse
-      .thenComposeAsync(r -> r.after(this::processRulesResponse));
+      .thenCompose(r -> r.after(this::processRulesResponse));
   }
 
   private CompletableFuture<Result<String>> processRulesResponse(Response response) {
@@ -1,6 +1,12 @@
 package org.folio.circulation.infrastructure.storage.requests;
 
 import static java.util.Objects.isNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.representations.RequestProperties.ITEM;
+import static org.folio.circulation.domain.representations.RequestProperties.LOAN;
+import static org.folio.circulation.domain.representations.RequestProperties.PICKUP_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.RequestProperties.PROXY;
+import static org.folio.circulation.domain.representations.RequestProperties.REQUESTER;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -31,6 +37,8 @@ import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.fetching.ConcurrentEnrichment;
+import org.folio.circulation.support.http.server.FieldSelection;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
@@ -85,20 +93,68 @@ public class RequestRepository {
   }
 
   public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query) {
+    return findBy(query, FieldSelection.everything());
+  }
+
+  /**
+   * @param selection which of the related records to include
+   */
+  public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query,
+    FieldSelection selection) {
+
+    final boolean includeUsers = selection.includes(REQUESTER, PROXY);
+
     return requestsStorageClient.getManyWithRawQueryStringParameters(query)
       .thenApply(flatMapResult(this::mapResponseToRequests))
-      .thenComposeAsync(result -> itemRepository.fetchItemsFor(result, Request::withItem))
-      .thenComposeAsync(result -> result.after(loanRepository::findOpenLoansFor))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers));
+      .thenCompose(result -> result.after(relatedRecords(selection)::enrich))
+      .thenCompose(result -> includeUsers
+        ? result.after(patronGroupRepository::findPatronGroupsForRequestsUsers)
+        : completedFuture(result));
+  }
+
+  /**
+   * Records related to requests which only depend upon the requests themselves,
+   * so can be looked up at the same time. Patron groups depend upon the users
+   * so are looked up afterwards.
+   */
+  private ConcurrentEnrichment<Request> relatedRecords(FieldSelection selection) {
+    ConcurrentEnrichment<Request> relatedRecords = ConcurrentEnrichment
+      .forRecords("requests", Request::getId);
+
+    if (selection.includes(ITEM)) {
+      relatedRecords = relatedRecords.with("items",
+        requests -> itemRepository.fetchItemsFor(succeeded(requests), Request::withItem),
+        (request, enriched) -> enriched.getItem() == null
+          ? request
+          : request.withItem(enriched.getItem()));
+    }
+
+    if (selection.includes(LOAN)) {
+      relatedRecords = relatedRecords.with("open loans", loanRepository::findOpenLoansFor,
+        (request, enriched) -> request.withLoan(enriched.getLoan()));
+    }
+
+    if (selection.includes(PICKUP_SERVICE_POINT)) {
+      relatedRecords = relatedRecords.with("service points",
+        servicePointRepository::findServicePointsForRequests,
+        (request, enriched) -> request.withPickupServicePoint(enriched.getPickupServicePoint()));
+    }
+
+    if (selection.includes(REQUESTER, PROXY)) {
+      relatedRecords = relatedRecords.with("users", userRepository::findUsersForRequests,
+        (request, enriched) -> request
+          .withRequester(enriched.getRequester())
+          .withProxy(enriched.getProxy()));
+    }
+
+    return relatedRecords;
   }
 
   CompletableFuture<Result<MultipleRecords<Request>>> findBy(CqlQuery query,
     PageLimit pageLimit) {
 
     return findByWithoutItems(query, pageLimit)
-      .thenComposeAsync(requests ->
+      .thenCompose(requests ->
         itemRepository.fetchItemsFor(requests, Request::withItem));
   }
 
@@ -132,13 +188,13 @@ public class RequestRepository {
 
   public CompletableFuture<Result<Request>> getById(String id) {
     return fetchRequest(id)
-      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor,
+      .thenCompose(result -> result.combineAfter(itemRepository::fetchFor,
         Request::withItem))
-      .thenComposeAsync(this::fetchRequester)
-      .thenComposeAsync(this::fetchProxy)
-      .thenComposeAsync(this::fetchLoan)
-      .thenComposeAsync(this::fetchPickupServicePoint)
-      .thenComposeAsync(this::fetchPatronGroups);
+      .thenCompose(this::fetchRequester)
+      .thenCompose(this::fetchProxy)
+      .thenCompose(this::fetchLoan)
+      .thenCompose(this::fetchPickupServicePoint)
+      .thenCompose(this::fetchPatronGroups);
   }
 
   private CompletableFuture<Result<Request>> fetchRequest(String id) {
@@ -36,14 +36,22 @@ public class PatronExpiredSessionRepository {
   public CompletableFuture<Result<List<ExpiredSession>>> findPatronExpiredSessions(
     PatronActionType actionType, String sessionInactivityTime) {
 
-    return lookupExpiredSession(actionType.getRepresentation(), sessionInactivityTime)
+    return findPatronExpiredSessions(actionType, sessionInactivityTime,
+      EXPIRED_SESSIONS_LIMIT);
+  }
+
+  public CompletableFuture<Result<List<ExpiredSession>>> findPatronExpiredSessions(
+    PatronActionType actionType, String sessionInactivityTime, int limit) {
+
+    return lookupExpiredSession(actionType.getRepresentation(),
+      sessionInactivityTime, limit)
       .thenApply(result -> result.next(Result::succeeded));
   }
 
   private CompletableFuture<Result<List<ExpiredSession>>> lookupExpiredSession(
-    String actionType, String inactivityTimeLimit) {
+    String actionType, String inactivityTimeLimit, int limit) {
 
-    String path = String.format(PATH_PARAM_WITH_QUERY, actionType, inactivityTimeLimit, EXPIRED_SESSIONS_LIMIT);
+    String path = String.format(PATH_PARAM_WITH_QUERY, actionType, inactivityTimeLimit, limit);
 
     return FetchSingleRecord.<List<ExpiredSession>>forRecord(PATRON_ACTION_SESSIONS)
       .using(patronExpiredSessionsStorageClient)
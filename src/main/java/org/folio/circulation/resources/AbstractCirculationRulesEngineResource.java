@@ -6,9 +6,10 @@ import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.http.server.ServerErrorResponse.internalError;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.folio.circulation.domain.Location;
 import org.folio.circulation.rules.CirculationRuleMatch;
@@ -51,21 +52,25 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
   private final String applyAllPath;
 
   /** after this time the rules get loaded before executing the circulation rules engine */
-  private static long maxAgeInMilliseconds = 5000;
+  private static volatile long maxAgeInMilliseconds = 5000;
   /** after this time the circulation rules engine is executed first for a fast reply
    * and then the circulation rules get reloaded */
-  private static long triggerAgeInMilliseconds = 4000;
+  private static volatile long triggerAgeInMilliseconds = 4000;
 
-  private class Rules {
-    String rulesAsText = "";
-    String rulesAsDrools = "";
-    Drools drools;
+  /**
+   * Shared by all of the verticle instances, so each field can be read
+   * by one thread whilst another thread is reloading the rules
+   */
+  private static class Rules {
+    volatile String rulesAsText = "";
+    volatile String rulesAsDrools = "";
+    volatile Drools drools;
     /** System.currentTimeMillis() of the last load/reload of the rules from the storage */
-    long reloadTimestamp;
-    boolean reloadInitiated = false;
+    volatile long reloadTimestamp;
+    final AtomicBoolean reloadInitiated = new AtomicBoolean(false);
   }
   /** rules and Drools for each tenantId */
-  private static Map<String,Rules> rulesMap = new HashMap<>();
+  private static final Map<String,Rules> rulesMap = new ConcurrentHashMap<>();
 
   /**
    * Set the cache time.
@@ -99,6 +104,25 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
     rules.reloadTimestamp = 0;
   }
 
+  /**
+   * Use rules which have just been saved, and so have already been compiled,
+   * rather than loading and compiling them again upon the next request.
+   * @param tenantId  id of the tenant
+   * @param rulesAsText  the circulation rules in FOLIO syntax
+   * @param rulesAsDrools  the circulation rules converted to a Drools file
+   * @param drools  the compiled Drools rules
+   */
+  static void useCompiledRules(String tenantId, String rulesAsText,
+    String rulesAsDrools, Drools drools) {
+
+    Rules rules = new Rules();
+    rules.rulesAsText = rulesAsText;
+    rules.rulesAsDrools = rulesAsDrools;
+    rules.drools = drools;
+    rules.reloadTimestamp = System.currentTimeMillis();
+    rulesMap.put(tenantId, rules);
+  }
+
   /**
    * Create a circulation rules engine that listens at applyPath and applyAllPath.
    * @param applyPath  URL path for circulation rules triggering that returns the first match
@@ -134,15 +158,16 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
 
   /**
    * Reload is needed if the last reload is TRIGGER_AGE_IN_MILLISECONDS old
-   * and a reload hasn't been initiated yet.
+   * and a reload hasn't been initiated yet. Only one caller is told that
+   * a reload is needed, the reload is then regarded as initiated.
    * @param rules - rules to reload
    * @return whether reload is needed
    */
   private boolean reloadNeeded(Rules rules) {
-    if (rules.reloadInitiated) {
+    if (rules.reloadTimestamp + triggerAgeInMilliseconds >= System.currentTimeMillis()) {
       return false;
     }
-    return rules.reloadTimestamp + triggerAgeInMilliseconds < System.currentTimeMillis();
+    return rules.reloadInitiated.compareAndSet(false, true);
   }
 
   /**
@@ -169,8 +194,7 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
               return;
             }
 
-            rules.reloadTimestamp = System.currentTimeMillis();
-            rules.reloadInitiated = false;
+            rules.reloadInitiated.set(false);
             JsonObject circulationRules = new JsonObject(response.getBody());
             if (log.isDebugEnabled()) {
               log.debug("circulationRules = {}", circulationRules.encodePrettily());
@@ -180,13 +204,17 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
               throw new NullPointerException("rulesAsText");
             }
             if (rules.rulesAsText.equals(rulesAsText)) {
+              rules.reloadTimestamp = System.currentTimeMillis();
               done.handle(null);
               return;
             }
+            String rulesAsDrools = Text2Drools.convert(rulesAsText);
+            log.debug("rulesAsDrools = {}", rulesAsDrools);
+            rules.drools = new Drools(rulesAsDrools);
+            rules.rulesAsDrools = rulesAsDrools;
             rules.rulesAsText = rulesAsText;
-            rules.rulesAsDrools = Text2Drools.convert(rulesAsText);
-            log.debug("rulesAsDrools = {}", rules.rulesAsDrools);
-            rules.drools = new Drools(rules.rulesAsDrools);
+            // only regarded as current once compiled, as other threads may be reading them
+            rules.reloadTimestamp = System.currentTimeMillis();
             done.handle(null);
           }
           catch (Exception e) {
@@ -212,19 +240,14 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
       if (isCurrent(rules)) {
         droolsHandler.handle(rules.drools);
         if (reloadNeeded(rules)) {
-          rules.reloadInitiated = true;
           reloadRules(rules, routingContext, done -> {});
         }
         return;
       }
 
-      if (rules == null) {
-        rules = new Rules();
-        rulesMap.put(tenantId, rules);
-      }
-      Rules finalRules = rules;
+      Rules finalRules = rulesMap.computeIfAbsent(tenantId, id -> new Rules());
 
-      reloadRules(rules, routingContext, done -> {
+      reloadRules(finalRules, routingContext, done -> {
         try {
           droolsHandler.handle(finalRules.drools);
         } catch (Exception e) {
@@ -75,8 +75,8 @@ public class ChangeDueDateResource extends Resource {
       .thenApply(this::toLoanAndRelatedRecords)
       .thenApply(itemStatusValidator::refuseWhenItemStatusDoesNotAllowDueDateChange)
       .thenApply(r -> changeDueDate(r, request))
-      .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenCompose(r -> r.after(loanRepository::updateLoan))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice));
   }
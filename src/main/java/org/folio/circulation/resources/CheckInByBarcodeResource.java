@@ -1,6 +1,9 @@
 package org.folio.circulation.resources;
 
 import static org.folio.circulation.domain.validation.UserNotFoundValidator.refuseWhenLoggedInUserNotPresent;
+import static org.folio.circulation.support.metrics.CheckInMetrics.checkInMetrics;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.domain.CheckInContext;
 import org.folio.circulation.domain.notice.schedule.RequestScheduledNoticeService;
@@ -56,42 +59,68 @@ public class CheckInByBarcodeResource extends Resource {
         .withItem(item)
         .withItemStatusBeforeCheckIn(item.getStatus()))
       .thenApply(CheckInValidators::refuseWhenClaimedReturnedIsNotResolved)
-      .thenComposeAsync(findItemResult -> findItemResult.combineAfter(
-        processAdapter::getRequestQueue, CheckInContext::withRequestQueue))
+      .thenCompose(findItemResult -> findItemResult.after(
+        processAdapter::findRequestQueueAndSingleOpenLoan))
       .thenApply(findRequestQueueResult -> findRequestQueueResult.map(
         processAdapter::setInHouseUse))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
-      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation))
-      .thenComposeAsync(logCheckInResult -> logCheckInResult.combineAfter(
-        processAdapter::findSingleOpenLoan, CheckInContext::withLoan))
-      .thenComposeAsync(findLoanResult -> findLoanResult.combineAfter(
-        processAdapter::checkInLoan, CheckInContext::withLoan))
-      .thenComposeAsync(checkInLoan -> checkInLoan.combineAfter(
+      .thenApply(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
+      .thenCompose(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation))
+      .thenCompose(logCheckInResult -> logCheckInResult.after(records -> {
+        checkInMetrics().checkedIn(records.isItemOnlyCheckIn());
+
+        return records.isItemOnlyCheckIn()
+          ? checkInItemOnly(records, processAdapter)
+          : checkInLoanAndRequests(records, processAdapter, patronActionSessionService,
+              requestScheduledNoticeService, eventPublisher, context);
+      }))
+      .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
+      .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  /**
+   * Only the item needs to be updated, as there is no loan to close and no
+   * requests to fulfil
+   */
+  private CompletableFuture<Result<CheckInContext>> checkInItemOnly(
+    CheckInContext records, CheckInProcessAdapter processAdapter) {
+
+    return processAdapter.updateItem(records)
+      .thenApply(r -> r.map(records::withItem));
+  }
+
+  private CompletableFuture<Result<CheckInContext>> checkInLoanAndRequests(
+    CheckInContext records,
+    CheckInProcessAdapter processAdapter,
+    PatronActionSessionService patronActionSessionService,
+    RequestScheduledNoticeService requestScheduledNoticeService,
+    EventPublisher eventPublisher, WebContext context) {
+
+    return processAdapter.checkInLoan(records)
+      .thenApply(r -> r.map(records::withLoan))
+      .thenCompose(checkInLoan -> checkInLoan.combineAfter(
         processAdapter::updateRequestQueue, CheckInContext::withRequestQueue))
-      .thenComposeAsync(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
+      .thenCompose(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
         processAdapter::updateItem, CheckInContext::withItem))
       .thenApply(handleItemStatus -> handleItemStatus.next(processAdapter::sendItemStatusPatronNotice))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getDestinationServicePoint, CheckInContext::withItem))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
         processAdapter::updateLoan, CheckInContext::withLoan))
-      .thenComposeAsync(updateItemResult -> updateItemResult.after(
+      .thenCompose(updateItemResult -> updateItemResult.after(
         patronActionSessionService::saveCheckInSessionRecord))
-      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees))
-      .thenComposeAsync(r -> r.after(
-        records -> processAdapter.createOverdueFineIfNecessary(records, context)))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishItemCheckedInEvent))
-      .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
-      .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenCompose(r -> r.after(processAdapter::refundLostItemFees))
+      .thenCompose(r -> r.after(
+        checkInRecords -> processAdapter.createOverdueFineIfNecessary(checkInRecords, context)))
+      .thenCompose(r -> r.after(eventPublisher::publishItemCheckedInEvent))
+      .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices));
   }
 }
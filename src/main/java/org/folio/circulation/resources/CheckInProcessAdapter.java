@@ -141,6 +141,16 @@ class CheckInProcessAdapter {
     return requestQueueRepository.get(context.getItem().getItemId());
   }
 
+  CompletableFuture<Result<CheckInContext>> findRequestQueueAndSingleOpenLoan(
+    CheckInContext context) {
+
+    return getRequestQueue(context)
+      .thenCombine(findSingleOpenLoan(context), (requestQueueResult, loanResult) ->
+        requestQueueResult.combine(loanResult, (requestQueue, loan) -> context
+          .withRequestQueue(requestQueue)
+          .withLoan(loan)));
+  }
+
   CompletableFuture<Result<Item>> updateItem(CheckInContext context) {
     return updateItem.onCheckIn(context.getItem(), context.getRequestQueue(),
       context.getCheckInServicePointId(), context.getLoggedInUserId(),
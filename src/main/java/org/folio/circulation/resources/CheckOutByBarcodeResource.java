@@ -166,35 +166,35 @@ public class CheckOutByBarcodeResource extends Resource {
 
     completedFuture(succeeded(new LoanAndRelatedRecords(loan)))
       .thenApply(servicePointOfCheckoutPresentValidator::refuseCheckOutWhenServicePointIsNotPresent)
-      .thenCombineAsync(userRepository.getUserByBarcode(userBarcode), this::addUser)
-      .thenComposeAsync(r -> r.after(
+      .thenCombine(userRepository.getUserByBarcode(userBarcode), this::addUser)
+      .thenCompose(r -> r.after(
         automatedPatronBlocksValidator::refuseWhenCheckOutActionIsBlockedForPatron))
-      .thenCombineAsync(userRepository.getProxyUserByBarcode(proxyUserBarcode), this::addProxyUser)
+      .thenCombine(userRepository.getProxyUserByBarcode(proxyUserBarcode), this::addProxyUser)
       .thenApply(inactiveUserValidator::refuseWhenUserIsInactive)
       .thenApply(inactiveProxyUserValidator::refuseWhenUserIsInactive)
-      .thenCombineAsync(itemRepository.fetchByBarcode(itemBarcode), this::addItem)
+      .thenCombine(itemRepository.fetchByBarcode(itemBarcode), this::addItem)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenApply(alreadyCheckedOutValidator::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(itemStatusValidator::refuseWhenItemIsNotAllowedForCheckOut)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenComposeAsync(r -> r.after(openLoanValidator::refuseWhenHasOpenLoan))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
+      .thenCompose(r -> r.after(openLoanValidator::refuseWhenHasOpenLoan))
+      .thenCompose(r -> r.after(requestQueueRepository::get))
       .thenApply(requestedByAnotherPatronValidator::refuseWhenRequestedByAnotherPatron)
       .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         LoanAndRelatedRecords::withTimeZone))
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(itemLimitValidator::refuseWhenItemLimitIsReached))
-      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy))
+      .thenCompose(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
+      .thenCompose(r -> r.after(itemLimitValidator::refuseWhenItemLimitIsReached))
+      .thenCompose(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
+      .thenCompose(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy))
       .thenApply(r -> r.next(this::setItemLocationIdAtCheckout))
-      .thenComposeAsync(r -> r.after(relatedRecords -> checkOutStrategy.checkOut(relatedRecords, request, clients)))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(updateItem::onCheckOut))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(patronActionSessionService::saveCheckOutSessionRecord))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishItemCheckedOutEvent))
+      .thenCompose(r -> r.after(relatedRecords -> checkOutStrategy.checkOut(relatedRecords, request, clients)))
+      .thenCompose(r -> r.after(requestQueueUpdate::onCheckOut))
+      .thenCompose(r -> r.after(updateItem::onCheckOut))
+      .thenCompose(r -> r.after(loanService::truncateLoanWhenItemRecalled))
+      .thenCompose(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
+      .thenCompose(r -> r.after(loanRepository::createLoan))
+      .thenCompose(r -> r.after(patronActionSessionService::saveCheckOutSessionRecord))
+      .thenCompose(r -> r.after(eventPublisher::publishItemCheckedOutEvent))
       .thenApply(r -> r.next(scheduledNoticeService::scheduleNoticesForLoanDueDate))
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
@@ -1,13 +1,11 @@
 package org.folio.circulation.resources;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toSet;
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
-import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.clearCache;
-import static org.folio.circulation.support.JsonPropertyFetcher.getProperty;
-import static org.folio.circulation.support.results.Result.combine;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.useCompiledRules;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.http.server.JsonHttpResponse.ok;
 import static org.folio.circulation.support.http.server.JsonHttpResponse.unprocessableEntity;
@@ -15,24 +13,22 @@ import static org.folio.circulation.support.http.server.NoContentResponse.noCont
 import static org.folio.circulation.support.http.server.ServerErrorResponse.internalError;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
 
 import org.antlr.v4.runtime.Token;
-import org.apache.commons.collections4.MapUtils;
-import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.ExistingPolicyIdsRepository;
 import org.folio.circulation.rules.CirculationRulesException;
 import org.folio.circulation.rules.CirculationRulesParser;
+import org.folio.circulation.rules.Drools;
 import org.folio.circulation.rules.Text2Drools;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ForwardOnFailure;
 import org.folio.circulation.support.results.Result;
-import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.server.ForwardResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -54,7 +50,6 @@ public class CirculationRulesResource extends Resource {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
   private static final int FIRST_ELEMENT_OF_LIST = 0;
   private static final int POLICY_ID_POSITION_NUMBER = 1;
-  private static final PageLimit POLICY_PAGE_LIMIT = PageLimit.limit(1000);
   private final String rootPath;
 
   /**
@@ -112,7 +107,8 @@ public class CirculationRulesResource extends Resource {
   //Cannot combine exception catching as cannot resolve overloaded method for error
   @SuppressWarnings("squid:S2147")
   private void put(RoutingContext routingContext) {
-    final Clients clients = Clients.create(new WebContext(routingContext), client);
+    final WebContext webContext = new WebContext(routingContext);
+    final Clients clients = Clients.create(webContext, client);
     CollectionResourceClient loansRulesClient = clients.circulationRulesStorage();
 
     if (loansRulesClient == null) {
@@ -121,22 +117,16 @@ public class CirculationRulesResource extends Resource {
       return;
     }
 
-    getPolicyIdsByType(clients)
-      .thenAccept(result -> proceedWithUpdate(result.value(), routingContext, clients));
-  }
-
-  private void proceedWithUpdate(Map<String, Set<String>> existingPoliciesIds,
-    RoutingContext routingContext, Clients clients) {
+    final List<PolicyReference> policyReferences = new ArrayList<>();
+    final JsonObject rulesInput;
+    final String rulesAsDrools;
 
-    final WebContext webContext = new WebContext(routingContext);
-
-    JsonObject rulesInput;
     try {
-      // try to convert, do not safe if conversion fails
+      // try to convert, do not save if conversion fails
       rulesInput = routingContext.getBodyAsJson();
-      Text2Drools.convert(rulesInput.getString("rulesAsText"),
-        (policyType, policies, token) -> validatePolicy(
-          existingPoliciesIds, policyType, policies, token));
+      rulesAsDrools = Text2Drools.convert(rulesInput.getString("rulesAsText"),
+        (policyType, policies, token) -> policyReferences.add(
+          new PolicyReference(policyType, policies, token)));
     } catch (CirculationRulesException e) {
       circulationRulesError(routingContext.response(), e);
       return;
@@ -148,90 +138,61 @@ public class CirculationRulesResource extends Resource {
       return;
     }
 
-    clearCache(webContext.getTenantId());
-    clearCache(webContext.getTenantId());
-
-    clients.circulationRulesStorage().put(rulesInput.copy())
-      .thenApply(this::failWhenResponseOtherThanNoContent)
-      .thenApply(result -> result.map(response -> noContent()))
-      .thenAccept(webContext::writeResultToHttpResponse);
+    new ExistingPolicyIdsRepository(clients)
+      .findExistingPolicyIds(policyIdsByType(policyReferences))
+      .thenAccept(result -> result.applySideEffect(
+        existingPolicyIds -> proceedWithUpdate(existingPolicyIds, policyReferences,
+          rulesInput, rulesAsDrools, routingContext, clients),
+        cause -> cause.writeTo(routingContext.response())));
   }
 
-  private Result<Response> failWhenResponseOtherThanNoContent(Result<Response> result) {
-    return result.failWhen(
-      response -> of(() -> response.getStatusCode() != 204),
-      ForwardOnFailure::new);
-  }
+  private void proceedWithUpdate(Map<String, Set<String>> existingPolicyIds,
+    List<PolicyReference> policyReferences, JsonObject rulesInput,
+    String rulesAsDrools, RoutingContext routingContext, Clients clients) {
 
-  private void validatePolicy(Map<String, Set<String>> existingPoliciesIds,
-    String policyType, List<CirculationRulesParser.PolicyContext> policies, Token token) {
+    final WebContext webContext = new WebContext(routingContext);
 
-    if (!policyExists(existingPoliciesIds, policyType, policies)) {
-       throw new CirculationRulesException(
-         String.format("The policy %s does not exist", policyType),
-         token.getLine(), token.getCharPositionInLine());
-    }
-  }
+    final Optional<PolicyReference> missingPolicy = policyReferences.stream()
+      .filter(reference -> !reference.existsIn(existingPolicyIds))
+      .findFirst();
 
-  private boolean policyExists(Map<String, Set<String>> existingPolicyIds,
-    String policyType, List<CirculationRulesParser.PolicyContext> policies) {
+    if (missingPolicy.isPresent()) {
+      circulationRulesError(routingContext.response(), missingPolicy.get().notFound());
+      return;
+    }
 
-    return MapUtils.isNotEmpty(existingPolicyIds) && isNotEmpty(existingPolicyIds.get(policyType))
-        && existingPolicyIds.get(policyType).contains(
-          policies.get(FIRST_ELEMENT_OF_LIST)
-            .getChild(POLICY_ID_POSITION_NUMBER).getText());
-  }
+    final Drools drools;
 
-  private CompletableFuture<Result<Map<String, Set<String>>>> getPolicyIdsByType(Clients clients) {
-    CollectionResourceClient loanPolicyClient = clients.loanPoliciesStorage();
-    CollectionResourceClient noticePolicyClient = clients.patronNoticePolicesStorageClient();
-    CollectionResourceClient requestPolicyClient = clients.requestPoliciesStorage();
-    CollectionResourceClient overdueFinePolicyClient = clients.overdueFinesPoliciesStorage();
-    CollectionResourceClient lostItemFeePolicyClient = clients.lostItemPoliciesStorage();
-    Map<String, Set<String>> ids = new HashMap<>();
-
-    return Result.ofAsync(() -> ids)
-      .thenCombineAsync(
-        getPolicyIdsByType(loanPolicyClient, "loanPolicies", "l"),
-        (resultTotalIds, resultNewIds) -> combine(resultTotalIds, resultNewIds,
-          this::getTotalMap))
-      .thenCombineAsync(
-        getPolicyIdsByType(noticePolicyClient, "patronNoticePolicies", "n"),
-        (resultTotalIds, resultNewIds) -> combine(resultTotalIds, resultNewIds,
-          this::getTotalMap))
-      .thenCombineAsync(
-        getPolicyIdsByType(requestPolicyClient, "requestPolicies", "r"),
-        (resultTotalIds, resultNewIds) -> combine(resultTotalIds, resultNewIds,
-          this::getTotalMap))
-      .thenCombineAsync(
-        getPolicyIdsByType(overdueFinePolicyClient, "overdueFinePolicies", "o"),
-        (resultTotalIds, resultNewIds) -> combine(resultTotalIds, resultNewIds,
-          this::getTotalMap))
-      .thenCombineAsync(
-        getPolicyIdsByType(lostItemFeePolicyClient, "lostItemFeePolicies", "i"),
-        (resultTotalIds, resultNewIds) -> combine(resultTotalIds, resultNewIds,
-          this::getTotalMap));
-  }
+    try {
+      drools = new Drools(rulesAsDrools);
+    } catch (Exception e) {
+      internalError(routingContext.response(), getStackTrace(e));
+      return;
+    }
 
-  private Map<String, Set<String>> getTotalMap(Map<String, Set<String>> totalMap,
-    Map<String, Set<String>> newMap) {
+    clients.circulationRulesStorage().put(rulesInput.copy())
+      .thenApply(this::failWhenResponseOtherThanNoContent)
+      .thenApply(result -> result.map(response -> {
+        useCompiledRules(webContext.getTenantId(),
+          rulesInput.getString("rulesAsText"), rulesAsDrools, drools);
 
-    totalMap.putAll(newMap);
-    return totalMap;
+        return noContent();
+      }))
+      .thenAccept(webContext::writeResultToHttpResponse);
   }
 
-  private CompletableFuture<Result<Map<String, Set<String>>>> getPolicyIdsByType(
-    CollectionResourceClient client, String entityName, String policyType) {
-
-    return client.get(POLICY_PAGE_LIMIT)
-      .thenApply(r -> r.next(response -> mapResponseToIds(response, entityName)))
-      .thenApply(r -> r.map(MultipleRecords::getRecords))
-      .thenApply(r -> r.map(collection -> collection.stream()
-        .collect(groupingBy(id -> policyType, mapping(Function.identity(), toSet())))));
+  private Result<Response> failWhenResponseOtherThanNoContent(Result<Response> result) {
+    return result.failWhen(
+      response -> of(() -> response.getStatusCode() != 204),
+      ForwardOnFailure::new);
   }
 
-  private Result<MultipleRecords<String>> mapResponseToIds(Response response, String entityName) {
-    return MultipleRecords.from(response, v -> getProperty(v, "id"), entityName);
+  private static Map<String, Set<String>> policyIdsByType(
+    List<PolicyReference> policyReferences) {
+
+    return policyReferences.stream()
+      .collect(groupingBy(PolicyReference::getPolicyType,
+        mapping(PolicyReference::getPolicyId, toSet())));
   }
 
   private static void circulationRulesError(HttpServerResponse response, CirculationRulesException e) {
@@ -247,4 +208,37 @@ public class CirculationRulesResource extends Resource {
     body.put("message", e.getMessage());  // already contains line and column number
     unprocessableEntity(body).writeTo(response);
   }
+
+  private static class PolicyReference {
+    private final String policyType;
+    private final String policyId;
+    private final Token token;
+
+    PolicyReference(String policyType,
+      List<CirculationRulesParser.PolicyContext> policies, Token token) {
+
+      this.policyType = policyType;
+      this.policyId = policies.get(FIRST_ELEMENT_OF_LIST)
+        .getChild(POLICY_ID_POSITION_NUMBER).getText();
+      this.token = token;
+    }
+
+    String getPolicyType() {
+      return policyType;
+    }
+
+    String getPolicyId() {
+      return policyId;
+    }
+
+    boolean existsIn(Map<String, Set<String>> existingPolicyIds) {
+      return existingPolicyIds.getOrDefault(policyType, emptySet()).contains(policyId);
+    }
+
+    CirculationRulesException notFound() {
+      return new CirculationRulesException(
+        String.format("The policy %s does not exist", policyType),
+        token.getLine(), token.getCharPositionInLine());
+    }
+  }
 }
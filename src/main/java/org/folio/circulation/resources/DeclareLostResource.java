@@ -48,7 +48,7 @@ public class DeclareLostResource extends Resource {
 
     validateDeclaredLostRequest(routingContext)
       .after(request -> declareItemLost(request, clients, context))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDeclaredLostEvent))
+      .thenCompose(r -> r.after(eventPublisher::publishDeclaredLostEvent))
       .thenApply(r -> r.toFixedValue(NoContentResponse::noContent))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -1,17 +1,11 @@
 package org.folio.circulation.resources;
 
-import static org.folio.circulation.domain.notice.session.PatronActionType.ALL;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.safelyInitialise;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.StringUtils;
-import org.folio.circulation.domain.notice.session.ExpiredSession;
-import org.folio.circulation.domain.notice.session.PatronActionSessionService;
+import org.folio.circulation.domain.notice.session.ExpiredSessionProcessingService;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
-import org.folio.circulation.infrastructure.storage.sessions.PatronExpiredSessionRepository;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.ClockManager;
 import org.folio.circulation.support.results.Result;
@@ -46,18 +40,12 @@ public class ExpiredSessionProcessingResource extends Resource {
     final ConfigurationRepository configurationRepository
       = new ConfigurationRepository(clients);
 
-    final PatronActionSessionService patronSessionService
-      = PatronActionSessionService.using(clients);
-
-    final PatronExpiredSessionRepository patronExpiredSessionRepository
-      = PatronExpiredSessionRepository.using(clients);
+    final ExpiredSessionProcessingService expiredSessionProcessingService
+      = ExpiredSessionProcessingService.using(clients);
 
     safelyInitialise(configurationRepository::lookupSessionTimeout)
       .thenCompose(r -> r.after(this::defineExpiredTime))
-      .thenCompose(r -> r.after(inactivityTime ->
-        patronExpiredSessionRepository.findPatronExpiredSessions(ALL, inactivityTime.toString())))
-      .thenCompose(r -> r.after(expiredSessions -> attemptEndSession(
-        patronSessionService, expiredSessions)))
+      .thenCompose(r -> r.after(expiredSessionProcessingService::endExpiredSessions))
       .thenApply(r -> r.toFixedValue(NoContentResponse::noContent))
       .exceptionally(CommonFailures::failedDueToServerError)
       .thenAccept(context::writeResultToHttpResponse);
@@ -68,18 +56,4 @@ public class ExpiredSessionProcessingResource extends Resource {
     Result<DateTime> dateTimeResult = Result.succeeded(now.minusMinutes(timeout));
     return CompletableFuture.completedFuture(dateTimeResult);
   }
-
-  private CompletableFuture<Result<Void>> attemptEndSession(
-    PatronActionSessionService patronSessionService, List<ExpiredSession> expiredSessions) {
-
-    List<ExpiredSession> existingExpiredSessions = expiredSessions.stream()
-      .filter(session -> StringUtils.isNotBlank(session.getPatronId()))
-      .collect(Collectors.toList());
-
-    if (existingExpiredSessions.isEmpty()) {
-      return CompletableFuture.completedFuture(Result.succeeded(null));
-    }
-
-    return patronSessionService.endSession(expiredSessions);
-  }
 }
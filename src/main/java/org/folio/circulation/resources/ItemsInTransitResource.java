@@ -17,7 +17,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import org.folio.circulation.domain.InTransitReportEntry;
@@ -39,12 +38,11 @@ import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.ChunkedJsonHttpResponse;
+import org.folio.circulation.support.http.server.HttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
@@ -79,15 +77,14 @@ public class ItemsInTransitResource extends Resource {
     final Comparator<InTransitReportEntry> sortByCheckinServicePointComparator = sortByCheckinServicePointComparator();
 
     itemReportRepository.getAllItemsByField("status.name", IN_TRANSIT.getValue())
-      .thenComposeAsync(r -> r.after(itemsReportFetcher ->
+      .thenCompose(r -> r.after(itemsReportFetcher ->
         fetchItemsRelatedRecords(itemsReportFetcher, itemRepository, servicePointRepository)))
-      .thenComposeAsync(r -> r.after(inTransitReportEntries ->
+      .thenCompose(r -> r.after(inTransitReportEntries ->
         fetchLoans(loansStorageClient, servicePointRepository, inTransitReportEntries,
           sortByCheckinServicePointComparator)))
-      .thenComposeAsync(r -> findRequestsByItemsIds(requestsStorageClient, itemRepository,
+      .thenCompose(r -> findRequestsByItemsIds(requestsStorageClient, itemRepository,
         servicePointRepository, userRepository, patronGroupRepository, r.value()))
-      .thenApply(this::mapResultToJson)
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenApply(this::mapResultToResponse)
       .thenAccept(context::writeResultToHttpResponse);
   }
 
@@ -115,12 +112,12 @@ public class ItemsInTransitResource extends Resource {
                                                               ServicePointRepository servicePointRepository,
                                                               Item item) {
     return CompletableFuture.completedFuture(Result.succeeded(item))
-      .thenComposeAsync(itemRepository::fetchItemRelatedRecords)
-      .thenComposeAsync(result -> result
+      .thenCompose(itemRepository::fetchItemRelatedRecords)
+      .thenCompose(result -> result
         .combineAfter(currentItem -> servicePointRepository
           .getServicePointById(currentItem.getInTransitDestinationServicePointId()),
           Item::updateDestinationServicePoint))
-      .thenComposeAsync(result -> result
+      .thenCompose(result -> result
         .combineAfter(currentItem -> servicePointRepository
           .getServicePointById(currentItem.getLastCheckInServicePointId()),
           Item::updateLastCheckInServicePoint));
@@ -142,15 +139,15 @@ public class ItemsInTransitResource extends Resource {
       .map(q -> q.sortBy(ascending("position")));
 
     return fetcher.findByIdIndexAndQuery(mapToItemIdList(inTransitReportEntryList), ITEM_ID, cqlQueryResult)
-      .thenComposeAsync(requests ->
+      .thenCompose(requests ->
         itemRepository.fetchItemsFor(requests, Request::withItem))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(
+      .thenCompose(result -> result.after(servicePointRepository::findServicePointsForRequests))
+      .thenCompose(result -> result.after(userRepository::findUsersForRequests))
+      .thenCompose(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
+      .thenCompose(r -> r.after(multipleRecords -> completedFuture(succeeded(
         multipleRecords.getRecords().stream().collect(
           Collectors.groupingBy(Request::getItemId))))))
-      .thenComposeAsync(r -> mapRequestToInTransitReportEntry(inTransitReportEntryList, r.value()));
+      .thenCompose(r -> mapRequestToInTransitReportEntry(inTransitReportEntryList, r.value()));
   }
 
   private CompletableFuture<Result<List<InTransitReportEntry>>> fetchLoans(
@@ -229,16 +226,13 @@ public class ItemsInTransitResource extends Resource {
     return CompletableFuture.completedFuture(Result.succeeded(inTransitReportEntryList));
   }
 
-  private Result<JsonObject> mapResultToJson
+  private Result<HttpResponse> mapResultToResponse
     (Result<List<InTransitReportEntry>> inTransitReportEntry) {
 
-    return inTransitReportEntry.map(resultList -> resultList
-      .stream().map(itemAndRelatedRecord -> new ItemReportRepresentation()
-        .createItemReport(itemAndRelatedRecord))
-      .collect(Collector.of(JsonArray::new, JsonArray::add, JsonArray::add)))
-      .next(jsonArray -> Result.succeeded(new JsonObject()
-        .put("items", jsonArray)
-        .put("totalRecords", jsonArray.size())));
+    final ItemReportRepresentation itemReportRepresentation = new ItemReportRepresentation();
+
+    return inTransitReportEntry.map(resultList -> ChunkedJsonHttpResponse.ok(resultList,
+      itemReportRepresentation::createItemReport, "items", resultList.size()));
   }
 
   private Comparator<InTransitReportEntry> sortByCheckinServicePointComparator() {
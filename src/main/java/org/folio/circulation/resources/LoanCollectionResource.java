@@ -1,11 +1,21 @@
 package org.folio.circulation.resources;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.representations.LoanProperties.BORROWER;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKIN_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKOUT_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.FEESANDFINES;
+import static org.folio.circulation.domain.representations.LoanProperties.ITEM;
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_ID;
+import static org.folio.circulation.domain.representations.LoanProperties.LOAN_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.http.server.FieldSelection.withoutSelectionParameters;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -15,6 +25,7 @@ import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.domain.LoanRepresentation;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.LoanService;
 import org.folio.circulation.infrastructure.storage.users.PatronGroupRepository;
 import org.folio.circulation.domain.RequestQueue;
@@ -40,6 +51,9 @@ import org.folio.circulation.support.Clients;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.fetching.ConcurrentEnrichment;
+import org.folio.circulation.support.http.server.ChunkedJsonHttpResponse;
+import org.folio.circulation.support.http.server.FieldSelection;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -101,21 +115,21 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenNotOpenOrClosed)
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombine(itemRepository.fetchFor(loan), this::addItem)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenApply(this::refuseWhenHoldingDoesNotExist)
       .thenApply(alreadyCheckedOutValidator::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(itemStatusValidator::refuseWhenItemIsMissing)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
-      .thenCombineAsync(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser)
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
+      .thenCombine(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
+      .thenCombine(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser)
       .thenApply(requestedByAnotherPatronValidator::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(updateItem::onCheckOut))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenCompose(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
+      .thenCompose(r -> r.after(requestQueueUpdate::onCheckOut))
+      .thenCompose(r -> r.after(updateItem::onCheckOut))
+      .thenCompose(r -> r.after(loanService::truncateLoanWhenItemRecalled))
+      .thenCompose(r -> r.after(loanRepository::createLoan))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::created))
@@ -167,19 +181,19 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
       .thenApply(this::refuseWhenClosedAndNoCheckInServicePointId)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombine(itemRepository.fetchFor(loan), this::addItem)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenCompose(changeDueDateValidator::refuseChangeDueDateForItemInDisallowedStatus)
-      .thenCombineAsync(userRepository.getUser(loan.getUserId()), this::addUser)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
-      .thenComposeAsync(result -> result.after(requestQueueUpdate::onCheckIn))
-      .thenComposeAsync(result -> result.after(updateItem::onLoanUpdate))
+      .thenCombine(userRepository.getUser(loan.getUserId()), this::addUser)
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
+      .thenCombine(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
+      .thenCompose(result -> result.after(requestQueueUpdate::onCheckIn))
+      .thenCompose(result -> result.after(updateItem::onLoanUpdate))
       // Loan must be updated after item
       // due to snapshot of item status stored with the loan
       // as this is how the loan action history is populated
-      .thenComposeAsync(result -> result.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenCompose(result -> result.after(loanRepository::updateLoan))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice))
       .thenApply(r -> r.toFixedValue(NoContentResponse::noContent))
@@ -203,13 +217,13 @@ public class LoanCollectionResource extends CollectionResource {
     String id = routingContext.request().getParam("id");
 
     loanRepository.getById(id)
-      .thenComposeAsync(accountRepository::findAccountsAndActionsForLoan)
-      .thenComposeAsync(servicePointRepository::findServicePointsForLoan)
-      .thenComposeAsync(userRepository::findUserForLoan)
-      .thenComposeAsync(loanPolicyRepository::findPolicyForLoan)
-      .thenComposeAsync(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
-      .thenComposeAsync(patronGroupRepository::findGroupForLoan)
+      .thenCompose(accountRepository::findAccountsAndActionsForLoan)
+      .thenCompose(servicePointRepository::findServicePointsForLoan)
+      .thenCompose(userRepository::findUserForLoan)
+      .thenCompose(loanPolicyRepository::findPolicyForLoan)
+      .thenCompose(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
+      .thenCompose(lostItemPolicyRepository::findLostItemPolicyForLoan)
+      .thenCompose(patronGroupRepository::findGroupForLoan)
       .thenApply(loanResult -> loanResult.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
@@ -240,24 +254,68 @@ public class LoanCollectionResource extends CollectionResource {
     final AccountRepository accountRepository = new AccountRepository(clients);
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
 
-    loanRepository.findBy(routingContext.request().query())
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(accountRepository::findAccountsForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(servicePointRepository::findServicePointsForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(userRepository::findUsersForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(loanPolicyRepository::findLoanPoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(overdueFinePolicyRepository::findOverdueFinePoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(lostItemPolicyRepository::findLostItemPoliciesForLoans))
-      .thenCompose(multiLoanRecordsResult ->
-        multiLoanRecordsResult.after(patronGroupRepository::findPatronGroupsByIds))
-      .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(loans ->
-        loans.asJson(loanRepresentation::extendedLoan, "loans")))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+    final FieldSelection selection = FieldSelection.from(context);
+    final String query = withoutSelectionParameters(routingContext.request().query());
+
+    // Each of these only depend upon the loans, so can be looked up at the same time
+    ConcurrentEnrichment<Loan> relatedRecords = ConcurrentEnrichment
+      .forRecords("loans", Loan::getId);
+
+    if (selection.includes(FEESANDFINES)) {
+      relatedRecords = relatedRecords.with("accounts", accountRepository::findAccountsForLoans,
+        (loan, enriched) -> loan.withAccounts(enriched.getAccounts()));
+    }
+
+    if (selection.includes(CHECKIN_SERVICE_POINT, CHECKOUT_SERVICE_POINT)) {
+      relatedRecords = relatedRecords.with("service points",
+        servicePointRepository::findServicePointsForLoans,
+        (loan, enriched) -> loan
+          .withCheckinServicePoint(enriched.getCheckinServicePoint())
+          .withCheckoutServicePoint(enriched.getCheckoutServicePoint()));
+    }
+
+    if (selection.includes(BORROWER)) {
+      relatedRecords = relatedRecords.with("users", userRepository::findUsersForLoans,
+        (loan, enriched) -> loan.withUser(enriched.getUser()));
+    }
+
+    if (selection.includes(LOAN_POLICY)) {
+      relatedRecords = relatedRecords.with("loan policies",
+        loanPolicyRepository::findLoanPoliciesForLoans,
+        (loan, enriched) -> loan.withLoanPolicy(enriched.getLoanPolicy()));
+    }
+
+    if (selection.includes(OVERDUE_FINE_POLICY)) {
+      relatedRecords = relatedRecords.with("overdue fine policies",
+        overdueFinePolicyRepository::findOverdueFinePoliciesForLoans,
+        (loan, enriched) -> loan.withOverdueFinePolicy(enriched.getOverdueFinePolicy()));
+    }
+
+    if (selection.includes(LOST_ITEM_POLICY)) {
+      relatedRecords = relatedRecords.with("lost item policies",
+        lostItemPolicyRepository::findLostItemPoliciesForLoans,
+        (loan, enriched) -> loan.withLostItemPolicy(enriched.getLostItemPolicy()));
+    }
+
+    if (selection.includes(PATRON_GROUP_AT_CHECKOUT)) {
+      relatedRecords = relatedRecords.with("patron groups",
+        patronGroupRepository::findPatronGroupsByIds,
+        (loan, enriched) -> loan.withPatronGroupAtCheckout(
+          enriched.getPatronGroupAtCheckout()));
+    }
+
+    final ConcurrentEnrichment<Loan> selectedRecords = relatedRecords;
+
+    final CompletableFuture<Result<MultipleRecords<Loan>>> loans = selection.includes(ITEM)
+      ? loanRepository.findBy(query)
+      : loanRepository.findByWithoutItems(query);
+
+    loans
+      .thenCompose(r -> r.after(selectedRecords::enrich))
+      .thenApply(multipleLoanRecordsResult -> multipleLoanRecordsResult.map(records ->
+        ChunkedJsonHttpResponse.ok(records,
+          loan -> selection.select(loanRepresentation.extendedLoan(loan, selection)),
+          "loans")))
       .thenAccept(context::writeResultToHttpResponse);
   }
 
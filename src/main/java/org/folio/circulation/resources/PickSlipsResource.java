@@ -87,11 +87,11 @@ public class PickSlipsResource extends Resource {
       routingContext.request().getParam(SERVICE_POINT_ID_PARAM));
 
     fetchLocationsForServicePoint(servicePointId, clients)
-      .thenComposeAsync(r -> r.after(locations -> fetchPagedItemsForLocations(locations, clients)))
-      .thenComposeAsync(r -> r.after(items -> fetchOpenPageRequestsForItems(items, clients)))
-      .thenComposeAsync(r -> r.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
-      .thenComposeAsync(r -> r.after(servicePointRepository::findServicePointsForRequests))
+      .thenCompose(r -> r.after(locations -> fetchPagedItemsForLocations(locations, clients)))
+      .thenCompose(r -> r.after(items -> fetchOpenPageRequestsForItems(items, clients)))
+      .thenCompose(r -> r.after(userRepository::findUsersForRequests))
+      .thenCompose(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
+      .thenCompose(r -> r.after(servicePointRepository::findServicePointsForRequests))
       .thenApply(flatMapResult(this::mapResultToJson))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
@@ -122,7 +122,7 @@ public class PickSlipsResource extends Resource {
     Result<CqlQuery> statusQuery = exactMatch(STATUS_NAME_KEY, ItemStatus.PAGED.getValue());
 
     return itemRepository.findByIndexNameAndQuery(locationIds, EFFECTIVE_LOCATION_ID_KEY, statusQuery)
-      .thenComposeAsync(r -> r.after(items -> fetchLocationDetailsForItems(items, locations, clients)));
+      .thenCompose(r -> r.after(items -> fetchLocationDetailsForItems(items, locations, clients)));
   }
 
   private CompletableFuture<Result<Collection<Item>>> fetchLocationDetailsForItems(
@@ -144,9 +144,9 @@ public class PickSlipsResource extends Resource {
     final LocationRepository locationRepository = LocationRepository.using(clients);
 
     return completedFuture(succeeded(locationsForItems))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchLibraries))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchInstitutions))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchCampuses))
+      .thenCompose(r -> r.after(locationRepository::fetchLibraries))
+      .thenCompose(r -> r.after(locationRepository::fetchInstitutions))
+      .thenCompose(r -> r.after(locationRepository::fetchCampuses))
       .thenApply(flatMapResult(locations -> matchLocationsToItems(items, locations)));
   }
 
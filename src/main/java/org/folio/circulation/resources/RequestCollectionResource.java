@@ -4,6 +4,7 @@ import static org.folio.circulation.domain.representations.RequestProperties.PRO
 import static org.folio.circulation.support.JsonPropertyWriter.write;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithCqlQuery;
+import static org.folio.circulation.support.http.server.FieldSelection.withoutSelectionParameters;
 
 import org.folio.circulation.infrastructure.storage.AutomatedPatronBlocksRepository;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
@@ -37,6 +38,8 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.FindWithCqlQuery;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.support.http.server.ChunkedJsonHttpResponse;
+import org.folio.circulation.support.http.server.FieldSelection;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
@@ -104,9 +107,9 @@ public class RequestCollectionResource extends CollectionResource {
     final EventPublisher eventPublisher = new EventPublisher(routingContext);
 
     requestFromRepresentationService.getRequestFrom(representation)
-      .thenComposeAsync(r -> r.after(createRequestService::createRequest))
+      .thenCompose(r -> r.after(createRequestService::createRequest))
       .thenApply(r -> r.next(scheduledNoticeService::scheduleRequestNotices))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(
         records -> eventPublisher.publishDueDateChangedEvent(records, clients)))
       .thenApply(r -> r.map(RequestAndRelatedRecords::getRequest))
       .thenApply(r -> r.map(new RequestRepresentation()::extendedRepresentation))
@@ -172,10 +175,10 @@ public class RequestCollectionResource extends CollectionResource {
     final EventPublisher eventPublisher = new EventPublisher(routingContext);
 
     requestFromRepresentationService.getRequestFrom(representation)
-      .thenComposeAsync(r -> r.afterWhen(requestRepository::exists,
+      .thenCompose(r -> r.afterWhen(requestRepository::exists,
         updateRequestService::replaceRequest,
         createRequestService::createRequest))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(
         records -> eventPublisher.publishDueDateChangedEvent(records, clients)))
       .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
       .thenApply(r -> r.toFixedValue(NoContentResponse::noContent))
@@ -212,8 +215,8 @@ public class RequestCollectionResource extends CollectionResource {
     );
 
     requestRepository.getById(id)
-      .thenComposeAsync(r -> r.after(requestRepository::delete))
-      .thenComposeAsync(r -> r.after(updateRequestQueue::onDeletion))
+      .thenCompose(r -> r.after(requestRepository::delete))
+      .thenCompose(r -> r.after(updateRequestQueue::onDeletion))
       .thenApply(r -> r.toFixedValue(NoContentResponse::noContent))
       .thenAccept(context::writeResultToHttpResponse);
   }
@@ -225,10 +228,12 @@ public class RequestCollectionResource extends CollectionResource {
     final RequestRepository requestRepository = RequestRepository.using(clients);
     final RequestRepresentation requestRepresentation = new RequestRepresentation();
 
-    requestRepository.findBy(routingContext.request().query())
-      .thenApply(r -> r.map(requests ->
-        requests.asJson(requestRepresentation::extendedRepresentation, "requests")))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+    final FieldSelection selection = FieldSelection.from(context);
+
+    requestRepository.findBy(withoutSelectionParameters(routingContext.request().query()),
+        selection)
+      .thenApply(r -> r.map(requests -> ChunkedJsonHttpResponse.ok(requests, request ->
+        selection.select(requestRepresentation.extendedRepresentation(request)), "requests")))
       .thenAccept(context::writeResultToHttpResponse);
   }
 
@@ -282,8 +287,8 @@ public class RequestCollectionResource extends CollectionResource {
     requestRepository.getById(id)
       .thenApply(r -> r.map(RequestAndRelatedRecords::new))
       .thenApply(r -> r.map(rr -> asMove(rr, representation)))
-      .thenComposeAsync(r -> r.after(moveRequestService::moveRequest))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(moveRequestService::moveRequest))
+      .thenCompose(r -> r.after(
         records -> eventPublisher.publishDueDateChangedEvent(records, clients)))
       .thenApply(r -> r.map(RequestAndRelatedRecords::getRequest))
       .thenApply(r -> r.map(new RequestRepresentation()::extendedRepresentation))
@@ -59,16 +59,16 @@ class RequestFromRepresentationService {
       .thenApply(r -> r.next(this::validateStatus))
       .thenApply(r -> r.map(this::removeRelatedRecordInformation))
       .thenApply(r -> r.map(Request::from))
-      .thenComposeAsync(r -> r.combineAfter(itemRepository::fetchFor, Request::withItem))
-      .thenComposeAsync(r -> r.combineAfter(userRepository::getUser, Request::withRequester))
-      .thenComposeAsync(r -> r.combineAfter(userRepository::getProxyUser, Request::withProxy))
-      .thenComposeAsync(r -> r.combineAfter(servicePointRepository::getServicePointForRequest, Request::withPickupServicePoint))
-      .thenComposeAsync(r -> r.combineAfter(loanRepository::findOpenLoanForRequest, Request::withLoan))
-      .thenComposeAsync(r -> r.combineAfter(this::getUserForExistingLoan, this::addUserToLoan))
+      .thenCompose(r -> r.combineAfter(itemRepository::fetchFor, Request::withItem))
+      .thenCompose(r -> r.combineAfter(userRepository::getUser, Request::withRequester))
+      .thenCompose(r -> r.combineAfter(userRepository::getProxyUser, Request::withProxy))
+      .thenCompose(r -> r.combineAfter(servicePointRepository::getServicePointForRequest, Request::withPickupServicePoint))
+      .thenCompose(r -> r.combineAfter(loanRepository::findOpenLoanForRequest, Request::withLoan))
+      .thenCompose(r -> r.combineAfter(this::getUserForExistingLoan, this::addUserToLoan))
       .thenApply(r -> r.map(RequestAndRelatedRecords::new))
-      .thenComposeAsync(r -> r.combineAfter(requestQueueRepository::get,
+      .thenCompose(r -> r.combineAfter(requestQueueRepository::get,
         RequestAndRelatedRecords::withRequestQueue))
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
       .thenApply(servicePointPickupLocationValidator::checkServicePointPickupLocation);
   }
 
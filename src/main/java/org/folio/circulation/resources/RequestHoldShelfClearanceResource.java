@@ -37,12 +37,11 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.ChunkedJsonHttpResponse;
+import org.folio.circulation.support.http.server.HttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 
@@ -63,7 +62,6 @@ public class RequestHoldShelfClearanceResource extends Resource {
   private static final String REQUESTS_KEY = "requests";
   private static final String STATUS_KEY = "status";
   private static final String STATUS_NAME_KEY = "status.name";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String REQUEST_CLOSED_DATE_KEY = "awaitingPickupRequestClosedDate";
 
   private final String rootPath;
@@ -90,14 +88,13 @@ public class RequestHoldShelfClearanceResource extends Resource {
     final String servicePointId = routingContext.request().getParam(SERVICE_POINT_ID_PARAM);
 
     itemReportRepository.getAllItemsByField(STATUS_NAME_KEY, AWAITING_PICKUP.getValue())
-      .thenComposeAsync(r -> r.after(this::mapContextToItemIdList))
-      .thenComposeAsync(r -> r.after(this::mapItemIdsInBatchItemIds))
-      .thenComposeAsync(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()))
-      .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()))
+      .thenCompose(r -> r.after(this::mapContextToItemIdList))
+      .thenCompose(r -> r.after(this::mapItemIdsInBatchItemIds))
+      .thenCompose(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()))
+      .thenCompose(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()))
       .thenApply(r -> findExpiredOrCancelledRequestByServicePoint(servicePointId, r.value()))
       .thenCompose(r -> fetchItemToRequest(r, itemRepository))
-      .thenApply(this::mapResultToJson)
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenApply(this::mapResultToResponse)
       .thenAccept(context::writeResultToHttpResponse);
   }
 
@@ -241,23 +238,20 @@ public class RequestHoldShelfClearanceResource extends Resource {
       requests -> allOf(requests, request -> fetchItem(itemRepository, request)));
   }
 
-  private Result<JsonObject> mapResultToJson(Result<List<Request>> requestsResult) {
+  private Result<HttpResponse> mapResultToResponse(Result<List<Request>> requestsResult) {
     return requestsResult.map(this::toRequestsResponse);
   }
 
-  private JsonObject toRequestsResponse(List<Request> requests) {
-    final List<JsonObject> requestsRepresentations = requests.stream()
-      .map(request -> new RequestRepresentation().extendedRepresentation(request))
-      .collect(Collectors.toList());
+  private HttpResponse toRequestsResponse(List<Request> requests) {
+    final RequestRepresentation requestRepresentation = new RequestRepresentation();
 
-    return new JsonObject()
-      .put(REQUESTS_KEY, new JsonArray(requestsRepresentations))
-      .put(TOTAL_RECORDS_KEY, requestsRepresentations.size());
+    return ChunkedJsonHttpResponse.ok(requests,
+      requestRepresentation::extendedRepresentation, REQUESTS_KEY, requests.size());
   }
 
   private CompletableFuture<Result<Request>> fetchItem(ItemRepository itemRepository, Request request) {
     return CompletableFuture.completedFuture(Result.succeeded(request))
-      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem));
+      .thenCompose(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem));
   }
 
   private Result<MultipleRecords<Request>> mapResponseToRequest(Response response) {
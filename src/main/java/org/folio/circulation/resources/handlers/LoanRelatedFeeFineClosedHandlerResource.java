@@ -85,7 +85,7 @@ public class LoanRelatedFeeFineClosedHandlerResource extends Resource {
     final LostItemPolicyRepository lostItemPolicyRepository = new LostItemPolicyRepository(clients);
 
     return accountRepository.findAccountsForLoan(loan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
+      .thenCompose(lostItemPolicyRepository::findLostItemPolicyForLoan)
       .thenCompose(loanResult -> closeLoanAndUpdateItem(loanResult, clients));
   }
 
@@ -47,7 +47,7 @@ public class RenewByIdResource extends RenewalResource {
 
     return requestResult
       .after(checkInRequest -> itemFinder.findItemById(itemId))
-      .thenComposeAsync(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
+      .thenCompose(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
       .thenApply(UserNotFoundValidator::refuseWhenUserNotFound)
       .thenApply(loanResult -> loanResult.combineToResult(requestResult,
         this::refuseWhenUserDoesNotMatch));
@@ -93,17 +93,17 @@ public abstract class RenewalResource extends Resource {
 
     findLoanResult
       .thenApply(r -> r.map(loan -> RenewalContext.create(loan, bodyAsJson, webContext.getUserId())))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(
         automatedPatronBlocksValidator::refuseWhenRenewalActionIsBlockedForPatron))
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenCompose(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
+      .thenCompose(r -> r.after(requestQueueRepository::get))
       .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         RenewalContext::withTimeZone))
-      .thenComposeAsync(r -> r.after(context -> renewalStrategy.renew(context, clients)))
-      .thenComposeAsync(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage))
-      .thenComposeAsync(r -> r.after(context -> feeProcessing.processFeesFines(context, clients)))
-      .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenCompose(r -> r.after(context -> renewalStrategy.renew(context, clients)))
+      .thenCompose(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage))
+      .thenCompose(r -> r.after(context -> feeProcessing.processFeesFines(context, clients)))
+      .thenApply(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenApply(r -> r.next(loanNoticeSender::sendRenewalPatronNotice))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
@@ -98,7 +98,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
   }
   private LinkedList<Matcher> stack = new LinkedList<>();
-  private static Matcher defaultMatcher = new Matcher(0, Collections.emptySet(), 0, null);
+  private static final Matcher defaultMatcher = new Matcher(0, Collections.emptySet(), 0, null);
 
   private int indentation = 0;
 
@@ -54,9 +54,8 @@ public class EventPublisher {
       write(payloadJsonObject, LOAN_ID_FIELD, loan.getId());
       write(payloadJsonObject, DUE_DATE_FIELD, loan.getDueDate());
 
-      return pubSubPublishingService.publishEvent(
-        ITEM_CHECKED_OUT.name(), payloadJsonObject.encode())
-        .thenApply(r -> succeeded(loanAndRelatedRecords));
+      pubSubPublishingService.publishEventLater(loan.getId(),
+        ITEM_CHECKED_OUT.name(), payloadJsonObject.encode());
     }
     else {
       logger.error(FAILED_TO_PUBLISH_LOG_TEMPLATE, ITEM_CHECKED_OUT.name());
@@ -76,9 +75,8 @@ public class EventPublisher {
       write(payloadJsonObject, LOAN_ID_FIELD, loan.getId());
       write(payloadJsonObject, RETURN_DATE_FIELD, loan.getReturnDate());
 
-      return pubSubPublishingService.publishEvent(ITEM_CHECKED_IN.name(),
-        payloadJsonObject.encode())
-        .thenApply(r -> succeeded(checkInContext));
+      pubSubPublishingService.publishEventLater(loan.getId(),
+        ITEM_CHECKED_IN.name(), payloadJsonObject.encode());
     }
     else {
       logger.error(FAILED_TO_PUBLISH_LOG_TEMPLATE, ITEM_CHECKED_IN.name());
@@ -107,8 +105,10 @@ public class EventPublisher {
     write(payloadJson, USER_ID_FIELD, loan.getUserId());
     write(payloadJson, LOAN_ID_FIELD, loan.getId());
 
-    return pubSubPublishingService.publishEvent(eventName, payloadJson.encode())
-      .thenApply(r -> succeeded(loan));
+    pubSubPublishingService.publishEventLater(loan.getId(), eventName,
+      payloadJson.encode());
+
+    return completedFuture(succeeded(loan));
   }
 
   private CompletableFuture<Result<Loan>> publishDueDateChangedEvent(Loan loan) {
@@ -119,9 +119,10 @@ public class EventPublisher {
       write(payloadJsonObject, DUE_DATE_FIELD, loan.getDueDate());
       write(payloadJsonObject, DUE_DATE_CHANGED_BY_RECALL_FIELD, loan.wasDueDateChangedByRecall());
 
-      return pubSubPublishingService.publishEvent(LOAN_DUE_DATE_CHANGED.name(),
-        payloadJsonObject.encode())
-        .thenApply(r -> succeeded(loan));
+      pubSubPublishingService.publishEventLater(loan.getId(),
+        LOAN_DUE_DATE_CHANGED.name(), payloadJsonObject.encode());
+
+      return completedFuture(succeeded(loan));
     }
     else {
       logger.error(FAILED_TO_PUBLISH_LOG_TEMPLATE, LOAN_DUE_DATE_CHANGED.name());
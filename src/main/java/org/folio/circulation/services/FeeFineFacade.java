@@ -1,15 +1,23 @@
 package org.folio.circulation.services;
 
+import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.representations.StoredFeeFineAction.StoredFeeFineActionBuilder;
 import static org.folio.circulation.services.feefine.FeeRefundProcessor.createLostItemFeeRefundProcessor;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.utils.CollectionUtil.uniqueSetOf;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.folio.circulation.domain.Account;
 import org.folio.circulation.domain.ServicePoint;
@@ -52,8 +60,68 @@ public class FeeFineFacade {
       .exceptionally(CommonFailures::failedDueToServerError);
   }
 
+  /**
+   * Finds the accounts (and their actions) which have already been created
+   * for commands which carry an idempotency key as the account ID, so that
+   * the accounts for many commands can be looked up together
+   *
+   * @param accountAndActions commands with deterministic account IDs
+   * @return the accounts already in storage, by ID
+   */
+  public CompletableFuture<Result<Map<String, Account>>> findExistingAccounts(
+    Collection<CreateAccountCommand> accountAndActions) {
+
+    if (accountAndActions.isEmpty()) {
+      return completedFuture(succeeded(emptyMap()));
+    }
+
+    return accountRepository.findAccountsAndActionsByIds(uniqueSetOf(accountAndActions,
+      CreateAccountCommand::getAccountId));
+  }
+
+  /**
+   * Creates accounts for commands which carry an idempotency key as the account ID.
+   * Accounts (and their creation actions) left in storage by a previous,
+   * partially failed attempt are not created again, so a batch can be retried
+   *
+   * @param accountAndActions commands with deterministic account IDs
+   * @param existingAccounts accounts already in storage, found using
+   * {@link #findExistingAccounts(Collection)}
+   * @return success when every account and its creation action is in storage
+   */
+  public CompletableFuture<Result<Void>> createAccountsIdempotently(
+    Collection<CreateAccountCommand> accountAndActions,
+    Map<String, Account> existingAccounts) {
+
+    return allOf(accountAndActions,
+        creation -> createAccountUnlessExists(creation, existingAccounts))
+      .thenApply(r -> r.<Void>map(list -> null))
+      .exceptionally(CommonFailures::failedDueToServerError);
+  }
+
+  private CompletableFuture<Result<Void>> createAccountUnlessExists(
+    CreateAccountCommand creation, Map<String, Account> existingAccounts) {
+
+    final Account existingAccount = existingAccounts.get(creation.getAccountId());
+
+    if (existingAccount == null) {
+      return createAccount(creation);
+    }
+
+    if (!existingAccount.hasFeeFineActions()) {
+      return createAccountCreatedAction(existingAccount, creation);
+    }
+
+    return completedFuture(succeeded(null));
+  }
+
   private CompletableFuture<Result<Void>> createAccount(CreateAccountCommand creation) {
+    final String accountId = creation.getAccountId() != null
+      ? creation.getAccountId()
+      : UUID.randomUUID().toString();
+
     final StoredAccount account = new StoredAccount(
+      accountId,
       creation.getLoan(),
       creation.getItem(),
       creation.getFeeFineOwner(),
@@ -81,36 +149,72 @@ public class FeeFineFacade {
       .thenApply(r -> r.map(notUsed -> null));
   }
 
+  /**
+   * Refunds and closes all of the accounts together. The staff users and
+   * service points for all of the refunds are fetched once, and no actions
+   * are created or accounts updated unless every account can be refunded
+   *
+   * @param accounts accounts to refund and close, with who is refunding them
+   * @return success when every refund action is created and account updated
+   */
   public CompletableFuture<Result<Void>> refundAndCloseAccounts(List<RefundAccountCommand> accounts) {
-    return allOf(accounts, this::refundAndCloseAccount)
-      .thenApply(r -> r.<Void>map(list -> null))
+    if (accounts.isEmpty()) {
+      return completedFuture(succeeded(null));
+    }
+
+    final CompletableFuture<Result<Map<String, User>>> fetchedUsers =
+      userRepository.getUsersForUserIds(uniqueNonNullSetOf(accounts,
+        RefundAccountCommand::getStaffUserId));
+
+    final CompletableFuture<Result<Map<String, ServicePoint>>> fetchedServicePoints =
+      servicePointRepository.findServicePointsByIds(uniqueNonNullSetOf(accounts,
+        RefundAccountCommand::getServicePointId));
+
+    return fetchedUsers
+      .thenCombine(fetchedServicePoints, (usersResult, servicePointsResult) ->
+        usersResult.combine(servicePointsResult, (users, servicePoints) ->
+          toRefundContexts(accounts, users, servicePoints)))
+      .thenApply(r -> r.next(this::checkCanRefundAll))
+      .thenCompose(r -> r.after(this::createRefundAndCloseActions))
+      .thenCompose(r -> r.after(this::updateAccounts))
       .exceptionally(CommonFailures::failedDueToServerError);
   }
 
-  private CompletableFuture<Result<Void>> refundAndCloseAccount(RefundAccountCommand refund) {
-    final AccountRefundContext context = new AccountRefundContext(refund.getAccountToRefund());
+  private List<AccountRefundContext> toRefundContexts(
+    List<RefundAccountCommand> accounts, Map<String, User> users,
+    Map<String, ServicePoint> servicePoints) {
 
-    return fetchUser(refund.getStaffUserId())
-      .thenApply(r -> r.map(context::withUser))
-      .thenComposeAsync(r -> r.after(notUsed -> fetchServicePoint(refund.getServicePointId())))
-      .thenApply(r -> r.map(context::withServicePoint))
-      .thenCompose(r -> r.after(this::processRefundAndClose));
+    return accounts.stream()
+      .map(refund -> new AccountRefundContext(refund.getAccountToRefund())
+        .withUser(getOrNull(users, refund.getStaffUserId()))
+        .withServicePoint(getOrNull(servicePoints, refund.getServicePointId())))
+      .collect(Collectors.toList());
   }
 
-  private CompletableFuture<Result<Void>> processRefundAndClose(AccountRefundContext context) {
-    if (!lostItemRefundProcessor.canHandleAccountRefund(context.getAccount())) {
-      return completedFuture(noRefundProcessorForFeeType(context.getAccount().getFeeFineType()));
-    }
+  private Result<List<AccountRefundContext>> checkCanRefundAll(
+    List<AccountRefundContext> contexts) {
 
-    return createRefundAndCloseActions(context)
-      .thenCompose(r -> r.after(notUsed -> updateAccount(context)));
+    return contexts.stream()
+      .map(AccountRefundContext::getAccount)
+      .filter(account -> !lostItemRefundProcessor.canHandleAccountRefund(account))
+      .findFirst()
+      .map(account -> this.<List<AccountRefundContext>>noRefundProcessorForFeeType(
+        account.getFeeFineType()))
+      .orElseGet(() -> succeeded(contexts));
   }
 
-  private Result<Void> noRefundProcessorForFeeType(String feeFineType) {
+  private <T> Result<T> noRefundProcessorForFeeType(String feeFineType) {
     return failed(new ServerErrorFailure(
       "No refund processor available for fee/fine of type: " + feeFineType));
   }
 
+  private CompletableFuture<Result<Void>> updateAccounts(
+    List<AccountRefundContext> contexts) {
+
+    return allOf(contexts, this::updateAccount)
+      .thenApply(r -> r.<Void>map(list -> null));
+  }
+
   private CompletableFuture<Result<Void>> updateAccount(AccountRefundContext context) {
     final Account account = context.getAccount();
     if (account.hasTransferredAmount()) {
@@ -128,9 +232,23 @@ public class FeeFineFacade {
     return accountRepository.update(StoredAccount.fromAccount(context.getAccount()));
   }
 
-  private CompletableFuture<Result<Void>> createRefundAndCloseActions(
-    AccountRefundContext context) {
+  /**
+   * Creates the refund and close actions for all of the accounts in one step,
+   * there is no bulk interface for fee/fine actions, so they are still
+   * created individually
+   */
+  private CompletableFuture<Result<List<AccountRefundContext>>> createRefundAndCloseActions(
+    List<AccountRefundContext> contexts) {
+
+    contexts.forEach(this::addRefundAndCloseActions);
+
+    return feeFineActionRepository.createAll(contexts.stream()
+      .flatMap(context -> context.getActions().stream())
+      .collect(Collectors.toList()))
+      .thenApply(r -> r.map(notUsed -> contexts));
+  }
 
+  private void addRefundAndCloseActions(AccountRefundContext context) {
     final Account account = context.getAccount();
     if (account.hasTransferredAmount()) {
       lostItemRefundProcessor.onHasTransferAmount(context);
@@ -143,8 +261,6 @@ public class FeeFineFacade {
     if (account.hasRemainingAmount()) {
       lostItemRefundProcessor.onHasRemainingAmount(context);
     }
-
-    return feeFineActionRepository.createAll(context.getActions());
   }
 
   private CompletableFuture<Result<StoredFeeFineActionBuilder>> populateCreatedBy(
@@ -158,14 +274,23 @@ public class FeeFineFacade {
       .thenApply(r -> r.map(builder::withCreatedBy));
   }
 
-  private CompletableFuture<Result<User>> fetchUser(String userId) {
-    return userRepository.getUser(userId);
-  }
-
   private CompletableFuture<Result<ServicePoint>> fetchServicePoint(String servicePointId) {
     return servicePointRepository.getServicePointById(servicePointId);
   }
 
+  private static <T> Set<String> uniqueNonNullSetOf(Collection<T> collection,
+    Function<T, String> mapper) {
+
+    return collection.stream()
+      .map(mapper)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+  }
+
+  private static <T> T getOrNull(Map<String, T> records, String id) {
+    return id == null ? null : records.get(id);
+  }
+
   private CompletableFuture<Result<StoredFeeFineActionBuilder>> populateCreatedAt(
     StoredFeeFineActionBuilder builder, CreateAccountCommand command) {
 
@@ -1,5 +1,7 @@
 package org.folio.circulation.services;
 
+import static org.folio.circulation.support.writebehind.WriteBehindQueue.writeBehindQueue;
+
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.domain.CheckInContext;
@@ -29,7 +31,10 @@ public class LogCheckInService {
       .withRequestQueueSize(checkInContext.getRequestQueue().size())
       .build();
 
-    return checkInStorageRepository.createCheckInLogRecord(checkInRecord)
+    // The log is not part of the response, so there is no need to wait for it
+    return writeBehindQueue().write(
+        "check in record for item " + checkInContext.getItem().getItemId(),
+        () -> checkInStorageRepository.createCheckInLogRecord(checkInRecord))
       .thenApply(result -> result.map(notUsed -> checkInContext));
   }
 }
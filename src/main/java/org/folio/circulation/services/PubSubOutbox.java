@@ -0,0 +1,233 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.folio.rest.jaxrs.model.Event;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Holds events for a tenant until they are published, so that publishing does
+ * not hold up the request that caused them.
+ *
+ * Events are taken from the outbox in batches. Within a batch, events for
+ * different loans are published at the same time, and events for the same
+ * loan are published one after another, in the order they were added.
+ * Failed events are attempted again a few times, waiting a little longer
+ * before each attempt, before being given up on.
+ *
+ * Events are only held in memory, so any that have not been published when
+ * a module instance stops abruptly are lost.
+ */
+public class PubSubOutbox {
+  private static final Logger logger = LoggerFactory.getLogger(PubSubOutbox.class);
+
+  private static final int BATCH_SIZE = 50;
+  private static final int MAXIMUM_ATTEMPTS = 3;
+  private static final long RETRY_DELAY_MILLISECONDS = 1000;
+
+  private static final Map<String, PubSubOutbox> outboxes = new ConcurrentHashMap<>();
+
+  private final int batchSize;
+  private final int maximumAttempts;
+
+  private final Queue<OutboxEvent> waiting = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean publishing = new AtomicBoolean();
+  private final AtomicInteger unpublished = new AtomicInteger();
+  private final List<CompletableFuture<Void>> emptyListeners = new ArrayList<>();
+
+  PubSubOutbox(int batchSize, int maximumAttempts) {
+    this.batchSize = batchSize;
+    this.maximumAttempts = maximumAttempts;
+  }
+
+  public static PubSubOutbox forTenant(String tenantId) {
+    return outboxes.computeIfAbsent(tenantId,
+      tenant -> new PubSubOutbox(BATCH_SIZE, MAXIMUM_ATTEMPTS));
+  }
+
+  /**
+   * @return completes once the outboxes for all tenants are empty
+   */
+  public static CompletableFuture<Void> whenAllPublished() {
+    return CompletableFuture.allOf(outboxes.values().stream()
+      .map(PubSubOutbox::whenPublished)
+      .toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * @param orderingKey events with the same key are published in the order
+   * they are added, usually the ID of the loan the event is about
+   * @param event the event to publish
+   * @param publisher publishes a single event, may be called more than once
+   * if publishing fails
+   */
+  public void add(String orderingKey, Event event,
+    Function<Event, CompletableFuture<Boolean>> publisher) {
+
+    unpublished.incrementAndGet();
+    waiting.add(new OutboxEvent(orderingKey, event, publisher));
+
+    publishNextBatch();
+  }
+
+  /**
+   * @return completes once there are no events waiting to be published
+   */
+  public CompletableFuture<Void> whenPublished() {
+    final CompletableFuture<Void> published = new CompletableFuture<>();
+
+    synchronized (emptyListeners) {
+      emptyListeners.add(published);
+    }
+
+    notifyIfEmpty();
+
+    return published;
+  }
+
+  int getUnpublishedEvents() {
+    return unpublished.get();
+  }
+
+  private void publishNextBatch() {
+    if (waiting.isEmpty() || !publishing.compareAndSet(false, true)) {
+      return;
+    }
+
+    final Map<String, List<OutboxEvent>> batch = new LinkedHashMap<>();
+
+    for (int count = 0; count < batchSize; count++) {
+      final OutboxEvent next = waiting.poll();
+
+      if (next == null) {
+        break;
+      }
+
+      batch.computeIfAbsent(next.orderingKey, key -> new ArrayList<>()).add(next);
+    }
+
+    CompletableFuture.allOf(batch.values().stream()
+      .map(this::publishInOrder)
+      .toArray(CompletableFuture[]::new))
+      .whenComplete((notUsed, throwable) -> {
+        publishing.set(false);
+
+        notifyIfEmpty();
+        publishNextBatch();
+      });
+  }
+
+  private CompletableFuture<Void> publishInOrder(List<OutboxEvent> events) {
+    CompletableFuture<Void> previous = completedFuture(null);
+
+    for (OutboxEvent event : events) {
+      previous = previous.thenCompose(notUsed -> attempt(event));
+    }
+
+    return previous;
+  }
+
+  private CompletableFuture<Void> attempt(OutboxEvent outboxEvent) {
+    outboxEvent.attempts++;
+
+    CompletableFuture<Boolean> publication;
+
+    try {
+      publication = outboxEvent.publisher.apply(outboxEvent.event);
+    }
+    catch (RuntimeException e) {
+      publication = new CompletableFuture<>();
+      publication.completeExceptionally(e);
+    }
+
+    return publication
+      .handle((result, throwable) -> throwable == null && Boolean.TRUE.equals(result))
+      .thenCompose(published -> {
+        if (published) {
+          unpublished.decrementAndGet();
+          return completedFuture(null);
+        }
+
+        if (outboxEvent.attempts < maximumAttempts) {
+          logger.warn("Failed to publish {} event {}, attempt {} of {}",
+            outboxEvent.event.getEventType(), outboxEvent.event.getId(),
+            outboxEvent.attempts, maximumAttempts);
+
+          return retry(outboxEvent);
+        }
+
+        logger.error("Failed to publish {} event {} after {} attempts, payload: {}",
+          outboxEvent.event.getEventType(), outboxEvent.event.getId(),
+          outboxEvent.attempts, outboxEvent.event.getEventPayload());
+
+        unpublished.decrementAndGet();
+        return completedFuture(null);
+      });
+  }
+
+  private CompletableFuture<Void> retry(OutboxEvent outboxEvent) {
+    final Context context = Vertx.currentContext();
+
+    if (context == null) {
+      return attempt(outboxEvent);
+    }
+
+    final CompletableFuture<Void> retried = new CompletableFuture<>();
+
+    context.owner().setTimer(RETRY_DELAY_MILLISECONDS * outboxEvent.attempts,
+      timerId -> attempt(outboxEvent).whenComplete((notUsed, throwable) -> {
+        if (throwable != null) {
+          retried.completeExceptionally(throwable);
+        }
+        else {
+          retried.complete(null);
+        }
+      }));
+
+    return retried;
+  }
+
+  private void notifyIfEmpty() {
+    final List<CompletableFuture<Void>> notify = new ArrayList<>();
+
+    synchronized (emptyListeners) {
+      if (unpublished.get() == 0) {
+        notify.addAll(emptyListeners);
+        emptyListeners.clear();
+      }
+    }
+
+    notify.forEach(listener -> listener.complete(null));
+  }
+
+  private static class OutboxEvent {
+    private final String orderingKey;
+    private final Event event;
+    private final Function<Event, CompletableFuture<Boolean>> publisher;
+    private int attempts = 0;
+
+    OutboxEvent(String orderingKey, Event event,
+      Function<Event, CompletableFuture<Boolean>> publisher) {
+
+      this.orderingKey = orderingKey;
+      this.event = event;
+      this.publisher = publisher;
+    }
+  }
+}
@@ -33,7 +33,23 @@ public class PubSubPublishingService {
   }
 
   public CompletableFuture<Boolean> publishEvent(String eventType, String payload) {
-    Event event = new Event()
+    return publish(createEvent(eventType, payload));
+  }
+
+  /**
+   * Adds the event to the tenant's outbox, rather than waiting for it to be
+   * published
+   *
+   * @param orderingKey events with the same key are published in the order
+   * they are added
+   */
+  public void publishEventLater(String orderingKey, String eventType, String payload) {
+    PubSubOutbox.forTenant(okapiHeaders.get(OKAPI_TENANT_HEADER))
+      .add(orderingKey, createEvent(eventType, payload), this::publish);
+  }
+
+  private Event createEvent(String eventType, String payload) {
+    return new Event()
       .withId(UUID.randomUUID().toString())
       .withEventType(eventType)
       .withEventPayload(payload)
@@ -41,7 +57,9 @@ public class PubSubPublishingService {
         .withPublishedBy(PubSubClientUtils.constructModuleName())
         .withTenantId(okapiHeaders.get(OKAPI_TENANT_HEADER))
         .withEventTTL(1));
+  }
 
+  private CompletableFuture<Boolean> publish(Event event) {
     final CompletableFuture<Boolean> publishResult = new CompletableFuture<>();
 
     sendEventMessage(event)
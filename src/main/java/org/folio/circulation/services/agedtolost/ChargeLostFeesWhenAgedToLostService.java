@@ -32,6 +32,7 @@ import java.util.stream.Stream;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.folio.circulation.StoreLoanAndItem;
+import org.folio.circulation.domain.Account;
 import org.folio.circulation.domain.FeeFine;
 import org.folio.circulation.domain.FeeFineOwner;
 import org.folio.circulation.domain.Loan;
@@ -66,13 +67,32 @@ public class ChargeLostFeesWhenAgedToLostService {
   private final StoreLoanAndItem storeLoanAndItem;
 
   public ChargeLostFeesWhenAgedToLostService(Clients clients) {
-    this.lostItemPolicyRepository = new LostItemPolicyRepository(clients);
-    this.feeFineOwnerRepository = new FeeFineOwnerRepository(clients);
-    this.feeFineRepository = new FeeFineRepository(clients);
-    this.feeFineFacade = new FeeFineFacade(clients);
-    this.loanRepository = new LoanRepository(clients);
-    this.itemRepository = new ItemRepository(clients, true, false, false);
-    this.storeLoanAndItem = new StoreLoanAndItem(loanRepository, itemRepository);
+    this(new LostItemPolicyRepository(clients), new FeeFineOwnerRepository(clients),
+      new FeeFineRepository(clients), new FeeFineFacade(clients),
+      new LoanRepository(clients), new ItemRepository(clients, true, false, false));
+  }
+
+  private ChargeLostFeesWhenAgedToLostService(LostItemPolicyRepository lostItemPolicyRepository,
+    FeeFineOwnerRepository feeFineOwnerRepository, FeeFineRepository feeFineRepository,
+    FeeFineFacade feeFineFacade, LoanRepository loanRepository, ItemRepository itemRepository) {
+
+    this(lostItemPolicyRepository, feeFineOwnerRepository, feeFineRepository,
+      feeFineFacade, loanRepository, itemRepository,
+      new StoreLoanAndItem(loanRepository, itemRepository));
+  }
+
+  public ChargeLostFeesWhenAgedToLostService(LostItemPolicyRepository lostItemPolicyRepository,
+    FeeFineOwnerRepository feeFineOwnerRepository, FeeFineRepository feeFineRepository,
+    FeeFineFacade feeFineFacade, LoanRepository loanRepository, ItemRepository itemRepository,
+    StoreLoanAndItem storeLoanAndItem) {
+
+    this.lostItemPolicyRepository = lostItemPolicyRepository;
+    this.feeFineOwnerRepository = feeFineOwnerRepository;
+    this.feeFineRepository = feeFineRepository;
+    this.feeFineFacade = feeFineFacade;
+    this.loanRepository = loanRepository;
+    this.itemRepository = itemRepository;
+    this.storeLoanAndItem = storeLoanAndItem;
   }
 
   public CompletableFuture<Result<Void>> chargeFees() {
@@ -87,7 +107,7 @@ public class ChargeLostFeesWhenAgedToLostService {
 
         return succeeded(LoanToChargeFees.usingLoans(allLoans))
           .after(this::fetchFeeFineOwners)
-          .thenComposeAsync(this::fetchFeeFineTypes)
+          .thenCompose(this::fetchFeeFineTypes)
           .thenCompose(this::chargeLostFeesForLoans);
       }));
   }
@@ -95,24 +115,57 @@ public class ChargeLostFeesWhenAgedToLostService {
   private CompletableFuture<Result<Void>> chargeLostFeesForLoans(
     Result<List<LoanToChargeFees>> loansToChargeFeesResult) {
 
-    return loansToChargeFeesResult
-      .after(loansToChargeFees -> allOf(loansToChargeFees, this::chargeLostFeesForLoan))
+    return loansToChargeFeesResult.after(this::chargeLostFeesForLoans);
+  }
+
+  /**
+   * Charges the fees for each loan separately, so that a loan which cannot be
+   * charged does not stop the others from being billed. Account IDs are derived
+   * from the loan, fee type and billing date, so when charging a loan fails part way
+   * the next run creates only the accounts which are missing for that loan.
+   *
+   * The accounts already created for all of the loans are looked up together,
+   * rather than for each loan.
+   */
+  private CompletableFuture<Result<Void>> chargeLostFeesForLoans(
+    List<LoanToChargeFees> allLoans) {
+
+    final Map<String, Result<List<CreateAccountCommand>>> accountsToCreate =
+      allLoans.stream()
+        .filter(loanToChargeFees -> !loanToChargeFees.shouldCloseLoan())
+        .collect(Collectors.toMap(loanToChargeFees -> loanToChargeFees.getLoan().getId(),
+          this::createAccountsForLoan));
+
+    final List<CreateAccountCommand> allAccountsToCreate = accountsToCreate.values().stream()
+      .filter(Result::succeeded)
+      .flatMap(accounts -> accounts.value().stream())
+      .collect(Collectors.toList());
+
+    return feeFineFacade.findExistingAccounts(allAccountsToCreate)
+      .thenCompose(r -> r.after(existingAccounts -> allOf(allLoans,
+        loanToChargeFees -> chargeLostFeesForLoan(loanToChargeFees,
+          accountsToCreate.get(loanToChargeFees.getLoan().getId()), existingAccounts))))
       .thenApply(r -> r.map(notUsed -> null));
   }
 
-  private CompletableFuture<Result<Loan>> chargeLostFeesForLoan(LoanToChargeFees loanToChargeFees) {
+  private CompletableFuture<Result<Loan>> chargeLostFeesForLoan(
+    LoanToChargeFees loanToChargeFees, Result<List<CreateAccountCommand>> accountsToCreate,
+    Map<String, Account> existingAccounts) {
+
     // we can close loans that have no fee to charge
     // and billed immediately
-    if (loanToChargeFees.shouldCloseLoan()) {
-      log.info("No age to lost fees/fines to charge immediately, closing loan [{}]",
-        loanToChargeFees.getLoan().getId());
-
-      return closeLoanAsLostAndPaid(loanToChargeFees);
-    }
-
-    return createAccountsForLoan(loanToChargeFees)
-      .after(feeFineFacade::createAccounts)
-      .thenCompose(r -> r.after(notUsed -> updateLoanBillingInfo(loanToChargeFees)));
+    final CompletableFuture<Result<Loan>> chargeResult = loanToChargeFees.shouldCloseLoan()
+      ? closeLoanAsLostAndPaid(loanToChargeFees)
+      : accountsToCreate
+        .after(accounts -> feeFineFacade.createAccountsIdempotently(accounts, existingAccounts))
+        .thenCompose(r -> r.after(notUsed -> updateLoanBillingInfo(loanToChargeFees)));
+
+    return chargeResult.thenApply(r -> r.mapFailure(failure -> {
+      log.warn("Unable to charge lost fees for loan {}, skipping it: {}",
+        loanToChargeFees.getLoan().getId(), failure);
+
+      return failed(failure);
+    }));
   }
 
   private CompletableFuture<Result<Loan>> updateLoanBillingInfo(LoanToChargeFees loanToChargeFees) {
@@ -147,6 +200,7 @@ public class ChargeLostFeesWhenAgedToLostService {
     final FeeFine feeFineType = pair.getValue();
 
     return CreateAccountCommand.builder()
+      .withAccountId(loan.getIdempotentAccountId(feeFineType))
       .withAmount(feeToCharge.getAmount())
       .withCreatedByAutomatedProcess(true)
       .withFeeFine(feeFineType)
@@ -197,8 +251,8 @@ public class ChargeLostFeesWhenAgedToLostService {
   private CompletableFuture<Result<MultipleRecords<Loan>>> fetchLoansAndItems() {
     return loanFetchQuery()
       .after(query -> loanRepository.findByQuery(query, oneThousand()))
-      .thenComposeAsync(loansResult -> itemRepository.fetchItemsFor(loansResult, Loan::withItem))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans));
+      .thenCompose(loansResult -> itemRepository.fetchItemsFor(loansResult, Loan::withItem))
+      .thenCompose(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans));
   }
 
   private Result<CqlQuery> loanFetchQuery() {
@@ -254,6 +308,9 @@ public class ChargeLostFeesWhenAgedToLostService {
   private CompletableFuture<Result<Loan>> closeLoanAsLostAndPaid(LoanToChargeFees loanToChargeFees) {
     final Loan loan = loanToChargeFees.getLoan();
 
+    log.info("No age to lost fees/fines to charge immediately, closing loan [{}]",
+      loan.getId());
+
     loan.setLostItemHasBeenBilled();
     loan.closeLoanAsLostAndPaid();
 
@@ -1,5 +1,6 @@
 package org.folio.circulation.services.agedtolost;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.function.Function.identity;
 import static org.folio.circulation.domain.FeeFine.LOST_ITEM_FEE_TYPE;
 import static org.folio.circulation.domain.FeeFine.LOST_ITEM_PROCESSING_FEE_TYPE;
@@ -8,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.folio.circulation.domain.FeeFine;
@@ -51,6 +53,17 @@ final class LoanToChargeFees {
     return feeFineTypes.get(LOST_ITEM_PROCESSING_FEE_TYPE);
   }
 
+  /**
+   * Account ID used as an idempotency key, the same fee type charged for the
+   * same aged to lost billing of a loan always gets the same account ID
+   */
+  String getIdempotentAccountId(FeeFine feeFineType) {
+    final String key = String.join(":", loan.getId(), feeFineType.getId(),
+      String.valueOf(loan.getDateLostItemShouldBeBilled()));
+
+    return UUID.nameUUIDFromBytes(key.getBytes(UTF_8)).toString();
+  }
+
   LostItemPolicy getLostItemPolicy() {
     return loan.getLostItemPolicy();
   }
@@ -1,57 +1,122 @@
 package org.folio.circulation.services.agedtolost;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.ItemStatus.AGED_TO_LOST;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
+import static org.folio.circulation.domain.representations.LoanProperties.DUE_DATE;
 import static org.folio.circulation.infrastructure.storage.inventory.ItemRepository.noLocationMaterialTypeAndLoanTypeInstance;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.ClockManager.getClockManager;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
-import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.CqlQuery.lessThanOrEqualTo;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.util.Comparator;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.StoreLoanAndItem;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ProcessingCursor;
 import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyRepository;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CqlSortBy;
+import org.folio.circulation.support.CqlSortClause;
 import org.folio.circulation.support.http.client.CqlQuery;
-import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class MarkOverdueLoansAsAgedLostService {
+  private static final Logger log = LoggerFactory.getLogger(MarkOverdueLoansAsAgedLostService.class);
+
   private static final int DEFAULT_MAXIMUM_LOANS_TO_PROCESS = 1000;
+  private static final String CURSOR_NAME = "age_to_lost_cursor";
 
   private final LoanRepository loanRepository;
   private final LostItemPolicyRepository lostItemPolicyRepository;
   private final ItemRepository itemRepository;
+  private final ConfigurationRepository configurationRepository;
   private final StoreLoanAndItem storeLoanAndItem;
-  private final PageLimit maximumNumberOfLoansToProcess;
+  private final int maximumNumberOfLoansToProcess;
 
   public MarkOverdueLoansAsAgedLostService(Clients clients, int maximumNumberOfLoansToProcess) {
-    this.loanRepository = new LoanRepository(clients);
-    this.lostItemPolicyRepository = new LostItemPolicyRepository(clients);
-    this.itemRepository = noLocationMaterialTypeAndLoanTypeInstance(clients);
-    this.storeLoanAndItem = new StoreLoanAndItem(clients);
-    this.maximumNumberOfLoansToProcess = limit(maximumNumberOfLoansToProcess);
+    this(new LoanRepository(clients), new LostItemPolicyRepository(clients),
+      noLocationMaterialTypeAndLoanTypeInstance(clients),
+      new ConfigurationRepository(clients), new StoreLoanAndItem(clients),
+      maximumNumberOfLoansToProcess);
+  }
+
+  public MarkOverdueLoansAsAgedLostService(LoanRepository loanRepository,
+    LostItemPolicyRepository lostItemPolicyRepository, ItemRepository itemRepository,
+    ConfigurationRepository configurationRepository, StoreLoanAndItem storeLoanAndItem,
+    int maximumNumberOfLoansToProcess) {
+
+    this.loanRepository = loanRepository;
+    this.lostItemPolicyRepository = lostItemPolicyRepository;
+    this.itemRepository = itemRepository;
+    this.configurationRepository = configurationRepository;
+    this.storeLoanAndItem = storeLoanAndItem;
+    this.maximumNumberOfLoansToProcess = maximumNumberOfLoansToProcess;
   }
 
   public MarkOverdueLoansAsAgedLostService(Clients clients) {
     this(clients, DEFAULT_MAXIMUM_LOANS_TO_PROCESS);
   }
 
+  /**
+   * Ages to lost a bounded number of overdue loans, continuing from the
+   * position reached by the previous run. Loans due too recently to be aged
+   * to lost by any policy are not fetched. Once the end of the overdue loans is
+   * reached, the next run starts from the earliest due date again, so that
+   * loans skipped because their own policy's interval had not passed are revisited.
+   */
   public CompletableFuture<Result<Void>> processAgeToLost() {
-    return fetchOverdueLoans()
-      .thenCompose(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans))
-      .thenApply(this::getLoansThatHaveToBeAgedToLost)
-      .thenCompose(loansResult -> itemRepository.fetchItemsFor(loansResult, Loan::withItem))
+    return lostItemPolicyRepository.findAllLostItemPolicies()
+      .thenCompose(r -> r.after(this::processAgeToLost));
+  }
+
+  private CompletableFuture<Result<Void>> processAgeToLost(
+    MultipleRecords<LostItemPolicy> allPolicies) {
+
+    final DateTime latestDueDate = latestDueDateThatCanBeAgedToLost(allPolicies);
+
+    if (latestDueDate == null) {
+      log.info("No lost item policy ages loans to lost, skipping processing");
+      return completedFuture(succeeded(null));
+    }
+
+    final Map<String, LostItemPolicy> policies = allPolicies.toMap(LostItemPolicy::getId);
+
+    return configurationRepository.findProcessingCursor(CURSOR_NAME)
+      .thenCompose(r -> r.after(cursor -> fetchOverdueLoans(cursor, latestDueDate)
+        .thenCompose(loansResult -> loansResult.after(loans ->
+          ageLoansToLost(loans, policies)
+            .thenCompose(ageResult -> ageResult.after(
+              notUsed -> moveCursor(cursor, loans)))))));
+  }
+
+  private CompletableFuture<Result<Void>> ageLoansToLost(MultipleRecords<Loan> overdueLoans,
+    Map<String, LostItemPolicy> policies) {
+
+    final MultipleRecords<Loan> loansToAge = overdueLoans
+      .mapRecords(loan -> loan.withLostItemPolicy(policies.getOrDefault(
+        loan.getLostItemPolicyId(), LostItemPolicy.unknown(loan.getLostItemPolicyId()))))
+      .filter(this::shouldAgeLoanToLost);
+
+    log.info("{} of {} overdue loans fetched can be aged to lost",
+      loansToAge.getRecords().size(), overdueLoans.getRecords().size());
+
+    return itemRepository.fetchItemsFor(succeeded(loansToAge), Loan::withItem)
       .thenApply(this::markLoansAsAgedToLost)
       .thenCompose(this::updateLoansAndItemsInStorage);
   }
@@ -81,31 +146,111 @@ public class MarkOverdueLoansAsAgedLostService {
       .thenApply(r -> r.map(notUsed -> null));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Loan>>> fetchOverdueLoans() {
-    return loanFetchQuery().after(
-      query -> loanRepository.findByQuery(query, maximumNumberOfLoansToProcess));
+  private CompletableFuture<Result<MultipleRecords<Loan>>> fetchOverdueLoans(
+    ProcessingCursor cursor, DateTime latestDueDate) {
+
+    log.info("Fetching overdue loans due no later than {} from {}", latestDueDate, cursor);
+
+    if (cursor.isAtStart()) {
+      return fetchOverdueLoans(loanFetchQuery(latestDueDate), maximumNumberOfLoansToProcess);
+    }
+
+    // Loans due at the same time as the last one processed are fetched separately,
+    // so the cursor can move past them even when more than a page share that due date
+    return fetchOverdueLoans(loansDueWithLastProcessedQuery(cursor, latestDueDate),
+      maximumNumberOfLoansToProcess)
+      .thenCompose(r -> r.after(dueWithLastProcessed ->
+        fetchOverdueLoansDueAfterLastProcessed(cursor, latestDueDate, dueWithLastProcessed)));
   }
 
-  private Result<MultipleRecords<Loan>> getLoansThatHaveToBeAgedToLost(
-    Result<MultipleRecords<Loan>> loans) {
+  private CompletableFuture<Result<MultipleRecords<Loan>>> fetchOverdueLoansDueAfterLastProcessed(
+    ProcessingCursor cursor, DateTime latestDueDate, MultipleRecords<Loan> dueWithLastProcessed) {
+
+    final int remainingLimit = maximumNumberOfLoansToProcess
+      - dueWithLastProcessed.getRecords().size();
+
+    if (remainingLimit <= 0) {
+      return completedFuture(succeeded(dueWithLastProcessed));
+    }
 
-    return loans.map(multipleRecords ->
-      multipleRecords.filter(this::shouldAgeLoanToLost));
+    return fetchOverdueLoans(loansDueAfterLastProcessedQuery(cursor, latestDueDate), remainingLimit)
+      .thenApply(r -> r.map(dueWithLastProcessed::combine));
+  }
+
+  private CompletableFuture<Result<MultipleRecords<Loan>>> fetchOverdueLoans(
+    Result<CqlQuery> query, int maximumNumberOfLoans) {
+
+    return query.after(q -> loanRepository.findByQuery(q, limit(maximumNumberOfLoans)));
+  }
+
+  private CompletableFuture<Result<Void>> moveCursor(ProcessingCursor cursor,
+    MultipleRecords<Loan> fetchedLoans) {
+
+    final ProcessingCursor movedCursor = fetchedLoans.getRecords().size() < maximumNumberOfLoansToProcess
+      ? cursor.backToStart()
+      : fetchedLoans.getRecords().stream()
+        .reduce((previousLoan, nextLoan) -> nextLoan)
+        .map(lastLoan -> cursor.moveTo(lastLoan.asJson().getString(DUE_DATE), lastLoan.getId()))
+        .orElseGet(cursor::backToStart);
+
+    if (cursor.isAtStart() && movedCursor.isAtStart()) {
+      return completedFuture(succeeded(null));
+    }
+
+    log.info("Moving age to lost processing to {}", movedCursor);
+
+    return configurationRepository.saveProcessingCursor(movedCursor)
+      .thenApply(r -> r.map(notUsed -> null));
   }
 
   private boolean shouldAgeLoanToLost(Loan loan) {
     return loan.getLostItemPolicy().canAgeLoanToLost(loan.getDueDate());
   }
 
-  private Result<CqlQuery> loanFetchQuery() {
+  private DateTime latestDueDateThatCanBeAgedToLost(MultipleRecords<LostItemPolicy> policies) {
+    final DateTime now = getClockManager().getDateTime();
+
+    return policies.getRecords().stream()
+      .filter(LostItemPolicy::canAgeLoansToLost)
+      .map(policy -> policy.latestDueDateThatCanBeAgedToLost(now))
+      .max(Comparator.naturalOrder())
+      .orElse(null);
+  }
+
+  private Result<CqlQuery> loanFetchQuery(DateTime latestDueDate) {
+    return overdueLoansQuery(latestDueDate)
+      .map(query -> query.sortBy(dueDateAndIdOrder()));
+  }
+
+  private Result<CqlQuery> loansDueWithLastProcessedQuery(ProcessingCursor cursor,
+    DateTime latestDueDate) {
+
+    return overdueLoansQuery(latestDueDate)
+      .combine(exactMatch(DUE_DATE, cursor.getLastDate()), CqlQuery::and)
+      .combine(greaterThan("id", cursor.getLastRecordId()), CqlQuery::and)
+      .map(query -> query.sortBy(dueDateAndIdOrder()));
+  }
+
+  private Result<CqlQuery> loansDueAfterLastProcessedQuery(ProcessingCursor cursor,
+    DateTime latestDueDate) {
+
+    return overdueLoansQuery(latestDueDate)
+      .combine(greaterThan(DUE_DATE, cursor.getLastDate()), CqlQuery::and)
+      .map(query -> query.sortBy(dueDateAndIdOrder()));
+  }
+
+  private Result<CqlQuery> overdueLoansQuery(DateTime latestDueDate) {
     final Result<CqlQuery> statusQuery = exactMatch("status.name", "Open");
-    final Result<CqlQuery> dueDateQuery = lessThan("dueDate", getClockManager().getDateTime());
+    final Result<CqlQuery> dueDateQuery = lessThanOrEqualTo(DUE_DATE, latestDueDate);
     final Result<CqlQuery> claimedReturnedQuery = notEqual("itemStatus", CLAIMED_RETURNED.getValue());
     final Result<CqlQuery> agedToLostQuery = notEqual("itemStatus", AGED_TO_LOST.getValue());
 
     return Result.combine(statusQuery, dueDateQuery, CqlQuery::and)
       .combine(claimedReturnedQuery, CqlQuery::and)
-      .combine(agedToLostQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending("dueDate")));
+      .combine(agedToLostQuery, CqlQuery::and);
+  }
+
+  private static CqlSortBy dueDateAndIdOrder() {
+    return CqlSortBy.sortBy(CqlSortClause.ascending(DUE_DATE), CqlSortClause.ascending("id"));
   }
 }
@@ -12,6 +12,7 @@ import lombok.Getter;
 @Builder(setterPrefix = "with")
 @Getter
 public final class CreateAccountCommand {
+  private final String accountId;
   private final Loan loan;
   private final Item item;
   private final FeeFine feeFine;
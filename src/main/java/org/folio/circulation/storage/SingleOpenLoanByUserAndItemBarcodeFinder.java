@@ -42,9 +42,9 @@ public class SingleOpenLoanByUserAndItemBarcodeFinder {
       this.userRepository, false);
 
     return itemFinder.findItemByBarcode(itemBarcode)
-      .thenComposeAsync(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
+      .thenCompose(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
       .thenApply(UserNotFoundValidator::refuseWhenUserNotFound)
-      .thenComposeAsync(loanResult -> loanResult.after(refuseWhenUserDoesNotMatch(userBarcode)));
+      .thenCompose(loanResult -> loanResult.after(refuseWhenUserDoesNotMatch(userBarcode)));
   }
 
   private Function<Loan, CompletableFuture<Result<Loan>>> refuseWhenUserDoesNotMatch(
@@ -47,7 +47,7 @@ public class SingleOpenLoanForItemInStorageFinder {
       .thenApply(loanResult -> loanResult.map(this::getFirstLoan))
       .thenApply(checkForNoLoanIfNeeded(noLoanValidator, allowNoLoanToBeFound))
       .thenApply(loanResult -> loanResult.map(loan -> mapPossibleSingleLoan(loan, item)))
-      .thenComposeAsync(this::fetchUser)
+      .thenCompose(this::fetchUser)
       .thenApply(loanResult -> loanResult.map(possibleLoan -> possibleLoan.orElse(null)));
   }
 
@@ -40,7 +40,7 @@ public class Clients {
   private final CollectionResourceClient patronGroupsStorageClient;
   private final CollectionResourceClient patronNoticePolicesStorageClient;
   private final CollectionResourceClient patronNoticeClient;
-  private final GetManyRecordsClient configurationStorageClient;
+  private final CollectionResourceClient configurationStorageClient;
   private final CollectionResourceClient scheduledNoticesStorageClient;
   private final CollectionResourceClient accountsStorageClient;
   private final CollectionResourceClient feeFineActionsStorageClient;
@@ -55,12 +55,15 @@ public class Clients {
   private final CollectionResourceClient automatedPatronBlocksClient;
   private final CollectionResourceClient notesClient;
   private final CollectionResourceClient noteTypesClient;
+  private final String tenantId;
 
   public static Clients create(WebContext context, HttpClient httpClient) {
     return new Clients(context.createHttpClient(httpClient), context);
   }
 
   private Clients(OkapiHttpClient client, WebContext context) {
+    tenantId = context.getTenantId();
+
     try {
       requestsStorageClient = createRequestsStorageClient(client, context);
       requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
@@ -211,7 +214,7 @@ public class Clients {
     return calendarStorageClient;
   }
 
-  public GetManyRecordsClient configurationStorageClient() {
+  public CollectionResourceClient configurationStorageClient() {
     return configurationStorageClient;
   }
 
@@ -299,6 +302,10 @@ public class Clients {
     return noteTypesClient;
   }
 
+  public String getTenantId() {
+    return tenantId;
+  }
+
   private static CollectionResourceClient getCollectionResourceClient(
     OkapiHttpClient client, WebContext context,
     String path)
@@ -564,7 +571,7 @@ public class Clients {
     return getCollectionResourceClient(client, context, "/patron-notice");
   }
 
-  private GetManyRecordsClient createConfigurationStorageClient(
+  private CollectionResourceClient createConfigurationStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
@@ -11,7 +11,7 @@ import org.joda.time.DateTimeZone;
 public class ClockManager {
   private static final ClockManager INSTANCE = new ClockManager();
 
-  private Clock clock = Clock.systemUTC();
+  private volatile Clock clock = Clock.systemUTC();
 
   private ClockManager() {
     super();
@@ -0,0 +1,52 @@
+package org.folio.circulation.support;
+
+import static org.folio.circulation.support.JsonPropertyFetcher.getDateTimeProperty;
+
+import org.joda.time.DateTime;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Remembers the date time last parsed from a property of a representation,
+ * so that the same value is not parsed again every time it is asked for.
+ *
+ * The representation is still the source of the value, so changes made to it
+ * (including by other objects sharing the same representation) are noticed.
+ */
+public class ParsedDateTimeProperty {
+  private final String propertyName;
+  private volatile Parsed lastParsed;
+
+  public ParsedDateTimeProperty(String propertyName) {
+    this.propertyName = propertyName;
+  }
+
+  public DateTime get(JsonObject representation) {
+    if (representation == null || !representation.containsKey(propertyName)) {
+      return null;
+    }
+
+    final String value = representation.getString(propertyName);
+    final Parsed parsed = lastParsed;
+
+    if (parsed != null && parsed.value.equals(value)) {
+      return parsed.dateTime;
+    }
+
+    final DateTime dateTime = getDateTimeProperty(representation, propertyName);
+
+    lastParsed = new Parsed(value, dateTime);
+
+    return dateTime;
+  }
+
+  private static class Parsed {
+    private final String value;
+    private final DateTime dateTime;
+
+    Parsed(String value, DateTime dateTime) {
+      this.value = value;
+      this.dateTime = dateTime;
+    }
+  }
+}
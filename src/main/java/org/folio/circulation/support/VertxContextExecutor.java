@@ -0,0 +1,40 @@
+package org.folio.circulation.support;
+
+import java.util.concurrent.Executor;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Executes tasks on the Vert.x context which was current when the executor was
+ * created, rather than on whichever thread happens to complete a future.
+ *
+ * Tasks are run immediately when already on that context, so that stages which
+ * do not need to move do not pay for a hop. When created outside of any context
+ * (for example, in unit tests) tasks are always run immediately.
+ */
+public class VertxContextExecutor implements Executor {
+  private final Context context;
+
+  private VertxContextExecutor(Context context) {
+    this.context = context;
+  }
+
+  public static Executor currentContextExecutor() {
+    final Context context = Vertx.currentContext();
+
+    return context == null
+      ? Runnable::run
+      : new VertxContextExecutor(context);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (Vertx.currentContext() == context) {
+      task.run();
+    }
+    else {
+      context.runOnContext(notUsed -> task.run());
+    }
+  }
+}
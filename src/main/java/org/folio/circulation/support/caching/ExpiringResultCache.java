@@ -0,0 +1,130 @@
+package org.folio.circulation.support.caching;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static org.folio.circulation.support.VertxContextExecutor.currentContextExecutor;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Remembers successfully loaded values for a limited time.
+ *
+ * Only one load is made for a key at a time, concurrent lookups wait for the
+ * same load. Once a value is older than the refresh age it is still used,
+ * whilst it is loaded again in the background, until it reaches the
+ * expiry age. Failures are never remembered.
+ *
+ * @param <K> type of the key values are remembered by
+ * @param <V> type of the values remembered
+ */
+public class ExpiringResultCache<K, V> {
+  private final long refreshAfterMilliseconds;
+  private final long expireAfterMilliseconds;
+  private final int maximumSize;
+
+  private final Map<K, CachedValue<V>> values = new ConcurrentHashMap<>();
+  private final Map<K, CompletableFuture<Result<V>>> loading = new ConcurrentHashMap<>();
+
+  public ExpiringResultCache(long refreshAfterMilliseconds,
+    long expireAfterMilliseconds, int maximumSize) {
+
+    this.refreshAfterMilliseconds = refreshAfterMilliseconds;
+    this.expireAfterMilliseconds = expireAfterMilliseconds;
+    this.maximumSize = maximumSize;
+  }
+
+  public CompletableFuture<Result<V>> get(K key,
+    Supplier<CompletableFuture<Result<V>>> loader) {
+
+    final long now = System.currentTimeMillis();
+    final CachedValue<V> cached = values.get(key);
+
+    if (cached != null && !cached.isOlderThan(expireAfterMilliseconds, now)) {
+      if (cached.isOlderThan(refreshAfterMilliseconds, now)) {
+        load(key, loader);
+      }
+
+      return completedFuture(succeeded(cached.value));
+    }
+
+    // The load may be completed on the context of another request
+    return load(key, loader)
+      .thenApplyAsync(identity(), currentContextExecutor());
+  }
+
+  public void invalidate(K key) {
+    values.remove(key);
+  }
+
+  public void clear() {
+    values.clear();
+  }
+
+  private CompletableFuture<Result<V>> load(K key,
+    Supplier<CompletableFuture<Result<V>>> loader) {
+
+    final CompletableFuture<Result<V>> load = new CompletableFuture<>();
+    final CompletableFuture<Result<V>> alreadyLoading = loading.putIfAbsent(key, load);
+
+    if (alreadyLoading != null) {
+      return alreadyLoading;
+    }
+
+    try {
+      loader.get().whenComplete((result, throwable) -> {
+        loading.remove(key, load);
+
+        if (throwable != null) {
+          load.completeExceptionally(throwable);
+          return;
+        }
+
+        if (result.succeeded()) {
+          remember(key, result.value());
+        }
+
+        load.complete(result);
+      });
+    }
+    catch (RuntimeException e) {
+      loading.remove(key, load);
+      load.completeExceptionally(e);
+    }
+
+    return load;
+  }
+
+  private void remember(K key, V value) {
+    final long now = System.currentTimeMillis();
+
+    if (values.size() >= maximumSize) {
+      values.values().removeIf(cached -> cached.isOlderThan(expireAfterMilliseconds, now));
+    }
+
+    if (values.size() >= maximumSize) {
+      values.clear();
+    }
+
+    values.put(key, new CachedValue<>(value, now));
+  }
+
+  private static class CachedValue<V> {
+    private final V value;
+    private final long loadedAt;
+
+    CachedValue(V value, long loadedAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+
+    boolean isOlderThan(long ageInMilliseconds, long now) {
+      return loadedAt + ageInMilliseconds < now;
+    }
+  }
+}
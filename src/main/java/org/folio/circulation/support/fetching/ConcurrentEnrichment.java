@@ -0,0 +1,125 @@
+package org.folio.circulation.support.fetching;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.results.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adds related records to a page of records using lookups which only depend
+ * upon the page itself. The lookups are made at the same time, rather than one
+ * after another, and what each of them added is then merged into the records.
+ *
+ * @param <T> type of the records being enriched
+ */
+public class ConcurrentEnrichment<T> {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String recordsName;
+  private final Function<T, String> idMapper;
+  private final List<Enrichment<T>> enrichments;
+
+  private ConcurrentEnrichment(String recordsName, Function<T, String> idMapper,
+    List<Enrichment<T>> enrichments) {
+
+    this.recordsName = recordsName;
+    this.idMapper = idMapper;
+    this.enrichments = enrichments;
+  }
+
+  /**
+   * @param recordsName name of the records, used when reporting how long lookups took
+   * @param idMapper used to match the records returned by each lookup to the original records
+   */
+  public static <T> ConcurrentEnrichment<T> forRecords(String recordsName,
+    Function<T, String> idMapper) {
+
+    return new ConcurrentEnrichment<>(recordsName, idMapper, new ArrayList<>());
+  }
+
+  /**
+   * @param name name of the related records, used when reporting how long the lookup took
+   * @param lookup adds the related records to the records
+   * @param merge adds what the lookup added to a record (the second argument)
+   * to the record being built up (the first argument)
+   */
+  public ConcurrentEnrichment<T> with(String name,
+    Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> lookup,
+    BinaryOperator<T> merge) {
+
+    final List<Enrichment<T>> newEnrichments = new ArrayList<>(enrichments);
+    newEnrichments.add(new Enrichment<>(name, lookup, merge));
+
+    return new ConcurrentEnrichment<>(recordsName, idMapper, newEnrichments);
+  }
+
+  public CompletableFuture<Result<MultipleRecords<T>>> enrich(MultipleRecords<T> records) {
+    if (records.isEmpty()) {
+      return completedFuture(succeeded(records));
+    }
+
+    final long startedAt = System.currentTimeMillis();
+
+    return allOf(enrichments, enrichment -> enrichment.lookup(records, recordsName))
+      .thenApply(r -> r.map(enriched -> merge(records, enriched)))
+      .whenComplete((result, throwable) -> log.debug("Enriching {} {} took {} ms",
+        records.getRecords().size(), recordsName, System.currentTimeMillis() - startedAt));
+  }
+
+  private MultipleRecords<T> merge(MultipleRecords<T> records,
+    List<MultipleRecords<T>> enriched) {
+
+    MultipleRecords<T> merged = records;
+
+    for (int index = 0; index < enrichments.size(); index++) {
+      final BinaryOperator<T> merge = enrichments.get(index).merge;
+      final Map<String, T> enrichedRecords = enriched.get(index).toMap(idMapper);
+
+      merged = merged.mapRecords(record -> {
+        final T enrichedRecord = enrichedRecords.get(idMapper.apply(record));
+
+        return enrichedRecord == null ? record : merge.apply(record, enrichedRecord);
+      });
+    }
+
+    return merged;
+  }
+
+  private static class Enrichment<T> {
+    private final String name;
+    private final Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> lookup;
+    private final BinaryOperator<T> merge;
+
+    Enrichment(String name,
+      Function<MultipleRecords<T>, CompletableFuture<Result<MultipleRecords<T>>>> lookup,
+      BinaryOperator<T> merge) {
+
+      this.name = name;
+      this.lookup = lookup;
+      this.merge = merge;
+    }
+
+    CompletableFuture<Result<MultipleRecords<T>>> lookup(MultipleRecords<T> records,
+      String recordsName) {
+
+      final long startedAt = System.currentTimeMillis();
+
+      return lookup.apply(records)
+        .whenComplete((result, throwable) -> log.debug("Looking up {} for {} {} took {} ms",
+          name, records.getRecords().size(), recordsName,
+          System.currentTimeMillis() - startedAt));
+    }
+  }
+}
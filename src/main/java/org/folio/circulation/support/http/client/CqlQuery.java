@@ -76,6 +76,10 @@ public class CqlQuery implements QueryParameter {
     return Result.of(() -> new CqlQuery(format("%s>\"%s\"", index, value), none()));
   }
 
+  public static Result<CqlQuery> greaterThanOrEqualTo(String index, Object value) {
+    return of(() -> new CqlQuery(format("%s>=\"%s\"", index, value), none()));
+  }
+
   public static Result<CqlQuery> lessThan(String index, Object value) {
     return Result.of(() -> new CqlQuery(format("%s<\"%s\"", index, value), none()));
   }
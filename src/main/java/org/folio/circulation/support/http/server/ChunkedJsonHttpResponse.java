@@ -0,0 +1,167 @@
+package org.folio.circulation.support.http.server;
+
+import static io.vertx.core.buffer.Buffer.buffer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes a collection of records to the response in chunks, representing each
+ * record as it is written. This means the whole collection is never held
+ * in memory as JSON at the same time.
+ *
+ * Records are written in the same shape as {@link MultipleRecords#asJson},
+ * with the total records after the records.
+ *
+ * When the connection is closed (or fails) before all of the records have been
+ * written, the remaining records are dropped rather than being represented.
+ *
+ * @param <T> type of the records being written
+ */
+public class ChunkedJsonHttpResponse<T> implements HttpResponse {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int CHUNK_SIZE = 16 * 1024;
+  private static final String TOTAL_RECORDS_PROPERTY_NAME = "totalRecords";
+
+  private final int statusCode;
+  private final Collection<T> records;
+  private final Function<T, JsonObject> mapper;
+  private final String recordsPropertyName;
+  private final int totalRecords;
+
+  public static <T> HttpResponse ok(MultipleRecords<T> records,
+    Function<T, JsonObject> mapper, String recordsPropertyName) {
+
+    return ok(records.getRecords(), mapper, recordsPropertyName,
+      records.getTotalRecords());
+  }
+
+  public static <T> HttpResponse ok(Collection<T> records,
+    Function<T, JsonObject> mapper, String recordsPropertyName, int totalRecords) {
+
+    return new ChunkedJsonHttpResponse<>(200, records, mapper,
+      recordsPropertyName, totalRecords);
+  }
+
+  private ChunkedJsonHttpResponse(int statusCode, Collection<T> records,
+    Function<T, JsonObject> mapper, String recordsPropertyName, int totalRecords) {
+
+    this.statusCode = statusCode;
+    this.records = records;
+    this.mapper = mapper;
+    this.recordsPropertyName = recordsPropertyName;
+    this.totalRecords = totalRecords;
+  }
+
+  @Override
+  public void writeTo(HttpServerResponse response) {
+    response.setStatusCode(statusCode);
+    response.setChunked(true);
+    response.putHeader("content-type", "application/json; charset=utf-8");
+
+    final Buffer opening = buffer("{\"")
+      .appendString(recordsPropertyName)
+      .appendString("\":[");
+
+    final RecordsWriter writer = new RecordsWriter(response, records.iterator());
+
+    response.closeHandler(v -> writer.abandon("connection was closed"));
+    response.exceptionHandler(e -> writer.abandon(e.getMessage()));
+
+    writer.write(opening);
+  }
+
+  private class RecordsWriter {
+    private final HttpServerResponse response;
+    private final Iterator<T> remainingRecords;
+    private boolean firstRecord = true;
+    private boolean abandoned = false;
+    private int recordsWritten = 0;
+
+    RecordsWriter(HttpServerResponse response, Iterator<T> remainingRecords) {
+      this.response = response;
+      this.remainingRecords = remainingRecords;
+    }
+
+    void write(Buffer chunk) {
+      if (abandoned) {
+        return;
+      }
+
+      try {
+        while (remainingRecords.hasNext()) {
+          appendRecord(chunk, remainingRecords.next());
+
+          if (chunk.length() >= CHUNK_SIZE) {
+            response.write(chunk);
+
+            // Writing can find that the client has gone away
+            if (abandoned) {
+              return;
+            }
+
+            // Wait for the client to catch up rather than queueing every chunk
+            if (response.writeQueueFull()) {
+              response.drainHandler(v -> write(buffer()));
+              return;
+            }
+
+            chunk = buffer();
+          }
+        }
+
+        response.end(chunk.appendString("],\"")
+          .appendString(TOTAL_RECORDS_PROPERTY_NAME)
+          .appendString("\":")
+          .appendString(Integer.toString(totalRecords))
+          .appendString("}"));
+      }
+      catch (Exception e) {
+        log.error("Failed to write {} to response", recordsPropertyName, e);
+
+        // Once the status has been sent, the response cannot be replaced
+        if (response.headWritten()) {
+          response.close();
+        }
+        else {
+          ServerErrorResponse.internalError(response, e.getMessage());
+        }
+      }
+    }
+
+    void abandon(String reason) {
+      if (abandoned) {
+        return;
+      }
+
+      abandoned = true;
+
+      log.warn("Stopped writing {} to response after {} of {} records: {}",
+        recordsPropertyName, recordsWritten, records.size(), reason);
+
+      response.drainHandler(null);
+    }
+
+    private void appendRecord(Buffer chunk, T record) {
+      if (!firstRecord) {
+        chunk.appendString(",");
+      }
+
+      firstRecord = false;
+
+      chunk.appendBuffer(mapper.apply(record).toBuffer());
+      recordsWritten++;
+    }
+  }
+}
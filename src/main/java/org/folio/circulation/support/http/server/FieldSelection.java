@@ -0,0 +1,110 @@
+package org.folio.circulation.support.http.server;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Selection of which related records are included and which properties are
+ * provided in a collection response, from the include and fields parameters.
+ *
+ * Related records are named after the property they are provided in.
+ * When only fields are selected, the related records for those fields are
+ * included. When neither are selected, everything is included.
+ */
+public class FieldSelection {
+  private static final String INCLUDE_PARAMETER = "include";
+  private static final String FIELDS_PARAMETER = "fields";
+  private static final String ID = "id";
+
+  private final Set<String> include;
+  private final Set<String> fields;
+
+  private FieldSelection(Set<String> include, Set<String> fields) {
+    this.include = include;
+    this.fields = fields;
+  }
+
+  public static FieldSelection everything() {
+    return new FieldSelection(null, null);
+  }
+
+  public static FieldSelection from(WebContext context) {
+    return fromParameters(context.getStringParameter(INCLUDE_PARAMETER, null),
+      context.getStringParameter(FIELDS_PARAMETER, null));
+  }
+
+  static FieldSelection fromParameters(String include, String fields) {
+    return new FieldSelection(parse(include), parse(fields));
+  }
+
+  /**
+   * @param propertyNames properties provided by the related records
+   * @return whether the related records should be looked up
+   */
+  public boolean includes(String... propertyNames) {
+    final Set<String> selected = include != null ? include : fields;
+
+    return selected == null || Arrays.stream(propertyNames).anyMatch(selected::contains);
+  }
+
+  /**
+   * @return the representation with only the selected properties (and the id)
+   */
+  public JsonObject select(JsonObject representation) {
+    if (fields == null || representation == null) {
+      return representation;
+    }
+
+    final JsonObject selected = new JsonObject();
+
+    representation.forEach(property -> {
+      if (property.getKey().equals(ID) || fields.contains(property.getKey())) {
+        selected.put(property.getKey(), property.getValue());
+      }
+    });
+
+    return selected;
+  }
+
+  /**
+   * Removes the selection parameters from a query string, so that it can be
+   * passed on to storage
+   */
+  public static String withoutSelectionParameters(String query) {
+    if (isBlank(query)) {
+      return query;
+    }
+
+    return Arrays.stream(query.split("&"))
+      .filter(parameter -> !isSelectionParameter(parameter))
+      .collect(joining("&"));
+  }
+
+  private static boolean isSelectionParameter(String parameter) {
+    final String name = parameter.split("=", 2)[0];
+
+    return name.equals(INCLUDE_PARAMETER) || name.equals(FIELDS_PARAMETER);
+  }
+
+  private static Set<String> parse(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    if (isBlank(value)) {
+      return Collections.emptySet();
+    }
+
+    return Arrays.stream(value.split(","))
+      .map(String::trim)
+      .filter(name -> !name.isEmpty())
+      .collect(toSet());
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.circulation.support.http.server;
 
 import static java.util.stream.Collectors.toMap;
+import static org.folio.circulation.support.VertxContextExecutor.currentContextExecutor;
 import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
 import static org.folio.circulation.support.http.OkapiHeader.REQUEST_ID;
 import static org.folio.circulation.support.http.OkapiHeader.TENANT;
@@ -10,6 +11,7 @@ import static org.folio.circulation.support.http.OkapiHeader.USER_ID;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.folio.circulation.support.InvalidOkapiLocationException;
 import org.folio.circulation.support.results.Result;
@@ -21,9 +23,12 @@ import io.vertx.ext.web.RoutingContext;
 
 public class WebContext {
   private final RoutingContext routingContext;
+  private final Executor responseExecutor;
 
   public WebContext(RoutingContext routingContext) {
     this.routingContext = routingContext;
+    // Responses must be written on the context the request arrived on
+    this.responseExecutor = currentContextExecutor();
   }
 
   public String getTenantId() {
@@ -87,7 +92,7 @@ public class WebContext {
   }
 
   public void write(HttpResponse response) {
-    response.writeTo(routingContext.response());
+    responseExecutor.execute(() -> response.writeTo(routingContext.response()));
   }
 
   public void writeResultToHttpResponse(Result<HttpResponse> httpResponseResult) {
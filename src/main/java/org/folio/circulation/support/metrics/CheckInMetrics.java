@@ -0,0 +1,63 @@
+package org.folio.circulation.support.metrics;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts check ins, and how many of them only needed the item to be updated,
+ * for all of the verticle instances within a module instance.
+ *
+ * The counts are available via JMX as org.folio.circulation:type=CheckInMetrics
+ */
+public class CheckInMetrics implements CheckInMetricsMBean {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final CheckInMetrics instance = register(new CheckInMetrics());
+
+  private final LongAdder checkIns = new LongAdder();
+  private final LongAdder itemOnlyCheckIns = new LongAdder();
+
+  CheckInMetrics() { }
+
+  public static CheckInMetrics checkInMetrics() {
+    return instance;
+  }
+
+  public void checkedIn(boolean itemOnly) {
+    checkIns.increment();
+
+    if (itemOnly) {
+      itemOnlyCheckIns.increment();
+    }
+  }
+
+  @Override
+  public long getCheckIns() {
+    return checkIns.sum();
+  }
+
+  @Override
+  public long getItemOnlyCheckIns() {
+    return itemOnlyCheckIns.sum();
+  }
+
+  private static CheckInMetrics register(CheckInMetrics metrics) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+        new ObjectName("org.folio.circulation:type=CheckInMetrics"));
+    }
+    catch (JMException e) {
+      // Check ins should not fail because the counts cannot be made available
+      log.warn("Unable to register check in metrics", e);
+    }
+
+    return metrics;
+  }
+}
@@ -0,0 +1,10 @@
+package org.folio.circulation.support.metrics;
+
+/**
+ * Attributes of {@link CheckInMetrics} available via JMX
+ */
+public interface CheckInMetricsMBean {
+  long getCheckIns();
+
+  long getItemOnlyCheckIns();
+}
@@ -2,11 +2,13 @@ package org.folio.circulation.support.results;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.circulation.support.VertxContextExecutor.currentContextExecutor;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -142,6 +144,9 @@ public interface Result<T> {
    * If the first result is a failure then it is returned, and the action is not invoked
    * otherwise if the result of the action is a failure it is returned
    *
+   * The values are combined on the Vert.x context this is called on, in the
+   * same way as {@link #after(Function)}
+   *
    * @param nextAction the action to invoke if the current result succeeded
    * @param combiner function to combine the values together
    * @return either failure from the first result, failure from the action
@@ -193,7 +198,7 @@ public interface Result<T> {
 
     return after(value ->
       conditionFunction.apply(value)
-        .thenComposeAsync(r -> r.after(condition -> isTrue(condition)
+        .thenCompose(r -> r.after(condition -> isTrue(condition)
           ? whenTrue.apply(value)
           : whenFalse.apply(value))));
   }
@@ -304,6 +309,17 @@ public interface Result<T> {
     return new FailedResult<>(cause);
   }
 
+  /**
+   * Apply the next asynchronous action to the value of the result
+   *
+   * The following stages continue on the Vert.x context this is called on
+   * (when there is one), even when the action completes on another thread,
+   * so that the rest of the processing does not move onto that thread
+   *
+   * @param action action to take after this result
+   * @return success when result succeeded and action completes successfully,
+   * failure otherwise
+   */
   default <R> CompletableFuture<Result<R>> after(
     Function<T, CompletableFuture<Result<R>>> action) {
 
@@ -311,9 +327,13 @@ public interface Result<T> {
       return completedFuture(failed(cause()));
     }
 
+    final Executor executor = currentContextExecutor();
+
     try {
       return action.apply(value())
-        .exceptionally(CommonFailures::failedDueToServerError);
+        .handleAsync((result, error) -> error == null
+          ? result
+          : CommonFailures.<R>failedDueToServerError(error), executor);
     } catch (Exception e) {
       return completedFuture(failedDueToServerError(e));
     }
@@ -0,0 +1,335 @@
+package org.folio.circulation.support.writebehind;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static org.folio.circulation.support.VertxContextExecutor.currentContextExecutor;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.folio.circulation.support.results.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Makes writes which do not affect the response after the response has been
+ * sent, rather than making the client wait for them.
+ *
+ * A limited number of writes are made at the same time, the rest wait in the
+ * queue. Failed writes are attempted again a few times before being given up
+ * on. When too many writes are waiting, callers wait for their write to be
+ * made instead of it being queued, so that storage can catch up.
+ *
+ * Writes that have been given up on are held rather than discarded. Whilst any
+ * are held, callers wait for their write to be made (and are told when it
+ * fails), as they were before writes were queued. Once one of those writes
+ * succeeds, the held writes are queued again.
+ *
+ * Writes are only held in memory, so any still waiting when a module instance
+ * stops abruptly are lost. When a verticle is stopped, it waits for the
+ * queued writes to be made, but not for held writes.
+ *
+ * Each module instance has its own queue, so waiting for the queued writes
+ * only waits for those made by this instance. Records which are read by the
+ * module (for example, patron action sessions which may be ended by any
+ * instance) should not be written using this queue.
+ *
+ * The number of waiting and held writes and how long the oldest has been
+ * waiting are available via JMX as org.folio.circulation:type=WriteBehindQueue
+ */
+public class WriteBehindQueue implements WriteBehindQueueMBean {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final int MAXIMUM_PENDING_WRITES = 10000;
+  private static final int MAXIMUM_CONCURRENT_WRITES = 10;
+  private static final int MAXIMUM_ATTEMPTS = 3;
+  private static final long RETRY_DELAY_MILLISECONDS = 1000;
+
+  private static final WriteBehindQueue instance = register(new WriteBehindQueue(
+    MAXIMUM_PENDING_WRITES, MAXIMUM_CONCURRENT_WRITES, MAXIMUM_ATTEMPTS));
+
+  private final int maximumPendingWrites;
+  private final int maximumConcurrentWrites;
+  private final int maximumAttempts;
+
+  private final Queue<PendingWrite> waiting = new ConcurrentLinkedQueue<>();
+  // Writes which failed every attempt, made again once storage accepts writes
+  private final Queue<PendingWrite> held = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger writing = new AtomicInteger();
+  // When each write that has not yet finished was queued, by the order they were queued in
+  private final ConcurrentSkipListMap<Long, Long> unfinished = new ConcurrentSkipListMap<>();
+  private final List<WrittenListener> writtenListeners = new ArrayList<>();
+  private final LongAdder completedWrites = new LongAdder();
+  private final LongAdder failedWrites = new LongAdder();
+  private long lastSequenceNumber = 0;
+
+  WriteBehindQueue(int maximumPendingWrites, int maximumConcurrentWrites,
+    int maximumAttempts) {
+
+    this.maximumPendingWrites = maximumPendingWrites;
+    this.maximumConcurrentWrites = maximumConcurrentWrites;
+    this.maximumAttempts = maximumAttempts;
+  }
+
+  public static WriteBehindQueue writeBehindQueue() {
+    return instance;
+  }
+
+  /**
+   * @param description used when reporting a write that failed
+   * @param write makes the write, may be called more than once if it fails
+   * @return succeeded once the write is queued, or the result of the write
+   * when too many writes are waiting or earlier writes have been given up on
+   */
+  public CompletableFuture<Result<Void>> write(String description,
+    Supplier<CompletableFuture<Result<Void>>> write) {
+
+    if (!held.isEmpty()) {
+      log.warn("Earlier writes failed, writing {} immediately", description);
+
+      return write.get().thenApply(result -> {
+        if (result.succeeded()) {
+          queueHeldWrites();
+        }
+
+        return result;
+      });
+    }
+
+    if (unfinished.size() >= maximumPendingWrites) {
+      log.warn("Too many writes waiting, writing {} immediately", description);
+
+      return write.get();
+    }
+
+    queue(description, write);
+
+    startWrites();
+
+    return completedFuture(succeeded(null));
+  }
+
+  /**
+   * @return completes once all of the writes queued so far have been made
+   * (or given up on), on the context of the caller
+   */
+  public CompletableFuture<Void> whenWritten() {
+    final CompletableFuture<Void> written = new CompletableFuture<>();
+
+    synchronized (this) {
+      writtenListeners.add(new WrittenListener(lastSequenceNumber, written));
+    }
+
+    notifyWrittenListeners();
+
+    return written.thenApplyAsync(identity(), currentContextExecutor());
+  }
+
+  @Override
+  public int getPendingWrites() {
+    return unfinished.size();
+  }
+
+  @Override
+  public long getOldestPendingWriteAgeMilliseconds() {
+    final Map.Entry<Long, Long> oldest = unfinished.firstEntry();
+
+    return oldest == null ? 0 : System.currentTimeMillis() - oldest.getValue();
+  }
+
+  @Override
+  public int getHeldWrites() {
+    return held.size();
+  }
+
+  @Override
+  public long getCompletedWrites() {
+    return completedWrites.sum();
+  }
+
+  @Override
+  public long getFailedWrites() {
+    return failedWrites.sum();
+  }
+
+  private void queue(String description, Supplier<CompletableFuture<Result<Void>>> write) {
+    synchronized (this) {
+      final long sequenceNumber = ++lastSequenceNumber;
+
+      unfinished.put(sequenceNumber, System.currentTimeMillis());
+      waiting.add(new PendingWrite(sequenceNumber, description, write));
+    }
+  }
+
+  private void queueHeldWrites() {
+    PendingWrite heldWrite;
+
+    while ((heldWrite = held.poll()) != null) {
+      log.info("Writing {} again", heldWrite.description);
+
+      queue(heldWrite.description, heldWrite.write);
+    }
+
+    startWrites();
+  }
+
+  private void hold(PendingWrite pendingWrite) {
+    if (held.size() >= maximumPendingWrites) {
+      log.error("Too many writes held, {} will not be written", pendingWrite.description);
+      return;
+    }
+
+    held.add(pendingWrite);
+  }
+
+  private void startWrites() {
+    while (!waiting.isEmpty()) {
+      final int currentlyWriting = writing.get();
+
+      if (currentlyWriting >= maximumConcurrentWrites) {
+        return;
+      }
+
+      if (writing.compareAndSet(currentlyWriting, currentlyWriting + 1)) {
+        final PendingWrite next = waiting.poll();
+
+        if (next == null) {
+          writing.decrementAndGet();
+        }
+        else {
+          attempt(next);
+        }
+      }
+    }
+  }
+
+  private void attempt(PendingWrite pendingWrite) {
+    pendingWrite.attempts++;
+
+    CompletableFuture<Result<Void>> write;
+
+    try {
+      write = pendingWrite.write.get();
+    }
+    catch (RuntimeException e) {
+      write = new CompletableFuture<>();
+      write.completeExceptionally(e);
+    }
+
+    write.whenComplete((result, throwable) -> {
+      if (throwable == null && result.succeeded()) {
+        completedWrites.increment();
+        finished(pendingWrite);
+      }
+      else if (pendingWrite.attempts < maximumAttempts) {
+        log.warn("Failed to write {}, attempt {} of {}", pendingWrite.description,
+          pendingWrite.attempts, maximumAttempts);
+
+        retry(pendingWrite);
+      }
+      else {
+        log.error("Failed to write {} after {} attempts, holding it until a write succeeds: {}",
+          pendingWrite.description, pendingWrite.attempts,
+          throwable != null ? throwable : result.cause());
+
+        failedWrites.increment();
+        hold(pendingWrite);
+        finished(pendingWrite);
+      }
+    });
+  }
+
+  private void retry(PendingWrite pendingWrite) {
+    final Context context = Vertx.currentContext();
+
+    if (context == null) {
+      attempt(pendingWrite);
+      return;
+    }
+
+    context.owner().setTimer(RETRY_DELAY_MILLISECONDS * pendingWrite.attempts,
+      timerId -> attempt(pendingWrite));
+  }
+
+  private void finished(PendingWrite pendingWrite) {
+    unfinished.remove(pendingWrite.sequenceNumber);
+    writing.decrementAndGet();
+
+    notifyWrittenListeners();
+    startWrites();
+  }
+
+  private void notifyWrittenListeners() {
+    final List<WrittenListener> notify = new ArrayList<>();
+
+    synchronized (this) {
+      final Long oldestUnfinished = unfinished.isEmpty() ? null : unfinished.firstKey();
+
+      writtenListeners.removeIf(listener -> {
+        if (oldestUnfinished == null || listener.sequenceNumber < oldestUnfinished) {
+          notify.add(listener);
+          return true;
+        }
+
+        return false;
+      });
+    }
+
+    notify.forEach(listener -> listener.written.complete(null));
+  }
+
+  private static WriteBehindQueue register(WriteBehindQueue queue) {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(queue,
+        new ObjectName("org.folio.circulation:type=WriteBehindQueue"));
+    }
+    catch (JMException e) {
+      // Writes should not fail because the queue cannot be monitored
+      log.warn("Unable to register write behind queue metrics", e);
+    }
+
+    return queue;
+  }
+
+  private static class PendingWrite {
+    private final long sequenceNumber;
+    private final String description;
+    private final Supplier<CompletableFuture<Result<Void>>> write;
+    private int attempts = 0;
+
+    PendingWrite(long sequenceNumber, String description,
+      Supplier<CompletableFuture<Result<Void>>> write) {
+
+      this.sequenceNumber = sequenceNumber;
+      this.description = description;
+      this.write = write;
+    }
+  }
+
+  private static class WrittenListener {
+    private final long sequenceNumber;
+    private final CompletableFuture<Void> written;
+
+    WrittenListener(long sequenceNumber, CompletableFuture<Void> written) {
+      this.sequenceNumber = sequenceNumber;
+      this.written = written;
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package org.folio.circulation.support.writebehind;
+
+/**
+ * Attributes of {@link WriteBehindQueue} available via JMX
+ */
+public interface WriteBehindQueueMBean {
+  int getPendingWrites();
+
+  long getOldestPendingWriteAgeMilliseconds();
+
+  int getHeldWrites();
+
+  long getCompletedWrites();
+
+  long getFailedWrites();
+}
@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.folio.circulation.support.http.client.IndividualResource;
 import org.folio.circulation.support.http.client.Response;
 import org.junit.Test;
 
@@ -403,6 +404,95 @@ public class CirculationRulesAPITests extends APITests {
     });
   }
 
+  @Test
+  public void cannotUpdateCirculationRulesWhenOnlySomeReferencedPoliciesExist() {
+    final Set<UUID> loanPolicyIds = getSetOfPolicyIds(5);
+    createLoanPolicies(loanPolicyIds);
+
+    final UUID unknownLoanPolicyId = UUID.randomUUID();
+    final Set<UUID> referencedLoanPolicyIds = new HashSet<>(loanPolicyIds);
+    referencedLoanPolicyIds.add(unknownLoanPolicyId);
+
+    final Response response = circulationRulesFixture.attemptUpdateCirculationRules(
+      rulesReferringToLoanPolicies(referencedLoanPolicyIds));
+
+    assertThat(response.getStatusCode(), is(422));
+    assertThat(response.getJson().getString("message"),
+      is("The policy l does not exist"));
+  }
+
+  @Test
+  public void canUpdateCirculationRulesReferringToMoreThanOneThousandPolicies() {
+    final Set<UUID> loanPolicyIds = getSetOfPolicyIds(1001);
+    createLoanPolicies(loanPolicyIds);
+
+    final Response response = circulationRulesFixture.attemptUpdateCirculationRules(
+      rulesReferringToLoanPolicies(loanPolicyIds));
+
+    assertThat(String.format(
+      "Failed to set circulation rules: %s", response.getBody()),
+      response.getStatusCode(), is(204));
+
+    // A missing policy is still found amongst more than a thousand existing ones
+    final Set<UUID> referencedLoanPolicyIds = new HashSet<>(loanPolicyIds);
+    referencedLoanPolicyIds.add(UUID.randomUUID());
+
+    final Response unknownPolicyResponse = circulationRulesFixture
+      .attemptUpdateCirculationRules(rulesReferringToLoanPolicies(referencedLoanPolicyIds));
+
+    assertThat(unknownPolicyResponse.getStatusCode(), is(422));
+  }
+
+  @Test
+  public void invalidCirculationRulesAreNotStored() {
+    final String validRules = circulationRulesFixture.soleFallbackPolicyRule(
+      loanPoliciesFixture.canCirculateFixed().getId(),
+      requestPoliciesFixture.allowAllRequestPolicy().getId(),
+      noticePoliciesFixture.activeNotice().getId(),
+      overdueFinePoliciesFixture.facultyStandard().getId(),
+      lostItemFeePoliciesFixture.facultyStandard().getId());
+
+    setRules(validRules);
+
+    final String rulesWithUnknownPolicy = circulationRulesFixture.soleFallbackPolicyRule(
+      UUID.randomUUID(),
+      requestPoliciesFixture.allowAllRequestPolicy().getId(),
+      noticePoliciesFixture.activeNotice().getId(),
+      overdueFinePoliciesFixture.facultyStandard().getId(),
+      lostItemFeePoliciesFixture.facultyStandard().getId());
+
+    assertThat(circulationRulesFixture.attemptUpdateCirculationRules(
+      rulesWithUnknownPolicy).getStatusCode(), is(422));
+
+    assertThat(circulationRulesFixture.attemptUpdateCirculationRules(
+      "priority: t, s, c, b, a, m, g\nfallback-policy: l").getStatusCode(), is(422));
+
+    assertThat(getRulesText(), is(validRules));
+  }
+
+  @Test
+  public void cannotUpdateCirculationRulesReferringToRecentlyDeletedPolicy() {
+    final IndividualResource loanPolicy = loanPoliciesFixture.create(
+      new LoanPolicyBuilder().withName("Soon to be deleted"));
+
+    final String rules = circulationRulesFixture.soleFallbackPolicyRule(
+      loanPolicy.getId(),
+      requestPoliciesFixture.allowAllRequestPolicy().getId(),
+      noticePoliciesFixture.activeNotice().getId(),
+      overdueFinePoliciesFixture.facultyStandard().getId(),
+      lostItemFeePoliciesFixture.facultyStandard().getId());
+
+    setRules(rules);
+
+    loanPoliciesFixture.delete(loanPolicy);
+
+    final Response response = circulationRulesFixture.attemptUpdateCirculationRules(rules);
+
+    assertThat(response.getStatusCode(), is(422));
+    assertThat(response.getJson().getString("message"),
+      is("The policy l does not exist"));
+  }
+
   @Test
   public void canReportInvalidJson() {
     final Response response = circulationRulesFixture.putRules("foo");
@@ -443,6 +533,27 @@ public class CirculationRulesAPITests extends APITests {
     circulationRulesFixture.updateCirculationRules(rules);
   }
 
+  /**
+   * @return rules with a rule for each loan policy, all other policies
+   * being the same for every rule
+   */
+  private String rulesReferringToLoanPolicies(Set<UUID> loanPolicyIds) {
+    final UUID requestPolicyId = requestPoliciesFixture.allowAllRequestPolicy().getId();
+    final UUID noticePolicyId = noticePoliciesFixture.activeNotice().getId();
+    final UUID overdueFinePolicyId = overdueFinePoliciesFixture.facultyStandard().getId();
+    final UUID lostItemFeePolicyId = lostItemFeePoliciesFixture.facultyStandard().getId();
+
+    final StringBuilder rules = new StringBuilder(String.format(CIRCULATION_RULE_TEMPLATE,
+      loanPoliciesFixture.canCirculateFixed().getId(), requestPolicyId, noticePolicyId,
+      overdueFinePolicyId, lostItemFeePolicyId));
+
+    loanPolicyIds.forEach(loanPolicyId -> rules.append(String.format(
+      "m %s: l %s r %s n %s o %s i %s \n", UUID.randomUUID(), loanPolicyId,
+      requestPolicyId, noticePolicyId, overdueFinePolicyId, lostItemFeePolicyId)));
+
+    return rules.toString();
+  }
+
   private Set<UUID> getSetOfPolicyIds(int numberOfPolicies) {
     Set<UUID> ids = new HashSet<>();
     for (int i = 0; i < numberOfPolicies; i++) {
@@ -0,0 +1,213 @@
+package api.load;
+
+import static api.support.APITestContext.defaultCirculationModuleInstances;
+import static api.support.APITestContext.redeployCirculationModule;
+import static api.support.APITestContext.waitForQueuedWrites;
+import static api.support.load.CirculationOperation.CHECK_IN;
+import static api.support.load.CirculationOperation.CHECK_OUT;
+import static api.support.load.CirculationOperation.RENEWAL;
+import static api.support.load.CirculationOperation.REQUEST;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.folio.circulation.support.http.client.IndividualResource;
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import api.support.APITests;
+import api.support.fakes.FakeOkapi;
+import api.support.load.CirculationOperation;
+import api.support.load.LoadClient;
+import api.support.load.LoadReport;
+
+/**
+ * Measures the throughput of the module, using the fake storage modules,
+ * by having many clients check out, renew, request and check in items at the
+ * same time
+ *
+ * This is not run as part of the build (the name does not match the test
+ * naming convention), it is run using mvn test -Dtest=CirculationLoadHarness
+ *
+ * The load is configured using system properties:
+ * load.clients - number of clients circulating items at the same time
+ * load.duration.seconds - how long the clients circulate items for
+ * load.renewal.percentage - chance of renewing a checked out item
+ * load.request.percentage - chance of requesting a checked out item
+ * load.storage.latency.milliseconds - delay added to every storage request
+ * load.instances - comma separated numbers of module verticle instances to
+ * run the load against, e.g. 1,2,4 (defaults to circulation.instances)
+ *
+ * When more than one number of instances is given, the module is redeployed
+ * with each number in turn, the same load is run against each deployment and
+ * the throughput of each run is logged together at the end, so that they can
+ * be compared
+ */
+public class CirculationLoadHarness extends APITests {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final int numberOfClients = Integer.getInteger("load.clients", 20);
+  private final int durationInSeconds = Integer.getInteger("load.duration.seconds", 60);
+  private final int renewalPercentage = Integer.getInteger("load.renewal.percentage", 30);
+  private final int requestPercentage = Integer.getInteger("load.request.percentage", 20);
+  private final long storageLatency = Long.getLong("load.storage.latency.milliseconds", 0L);
+  private final List<Integer> instanceCounts = instanceCounts(
+    System.getProperty("load.instances",
+      String.valueOf(defaultCirculationModuleInstances())));
+
+  private int deployedInstances = defaultCirculationModuleInstances();
+
+  @After
+  public void removeArtificialLatency() {
+    FakeOkapi.setArtificialLatency(0);
+  }
+
+  @After
+  public void restoreDefaultNumberOfInstances() {
+    deployWith(defaultCirculationModuleInstances());
+  }
+
+  @Test
+  public void measureCirculationThroughput() throws InterruptedException {
+    // Created up front, so that the clients only use records that already exist
+    servicePointsFixture.cd1();
+
+    final Map<Integer, LoadReport> reports = new LinkedHashMap<>();
+
+    for (Integer instances : instanceCounts) {
+      FakeOkapi.setArtificialLatency(0);
+      deployWith(instances);
+
+      final LoadReport report = runLoad(instances);
+
+      log.info("Load results for {} instance(s): {}", instances, report.describe());
+
+      assertThat("No operations were completed", report.getTotalSucceeded(), greaterThan(0L));
+
+      reports.put(instances, report);
+    }
+
+    if (comparesInstanceCounts()) {
+      log.info("Throughput by number of instances: {}", compare(reports));
+    }
+  }
+
+  private LoadReport runLoad(int instances) throws InterruptedException {
+    final List<LoadClient> clients = new ArrayList<>();
+
+    // Each run uses its own items and patrons, as items may be left checked out
+    for (int clientNumber = 0; clientNumber <= numberOfClients; clientNumber++) {
+      clients.add(createClient(instances + "-" + clientNumber));
+    }
+
+    final LoadReport report = new LoadReport();
+
+    FakeOkapi.setArtificialLatency(storageLatency);
+
+    measureStorageRequestsPerOperation(clients.remove(0), report);
+
+    log.info("Running {} clients for {} seconds with {} ms storage latency against {} instance(s)",
+      numberOfClients, durationInSeconds, storageLatency, instances);
+
+    final long storageRequestsBefore = FakeOkapi.getRequestsReceived();
+    final long start = System.nanoTime();
+    final long deadline = start + SECONDS.toNanos(durationInSeconds);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(numberOfClients);
+
+    clients.forEach(client -> executor.submit(() -> client.runUntil(deadline, report)));
+
+    executor.shutdown();
+    executor.awaitTermination(durationInSeconds + 60L, SECONDS);
+
+    waitForQueuedWrites();
+
+    report.finished(System.nanoTime() - start,
+      FakeOkapi.getRequestsReceived() - storageRequestsBefore);
+
+    return report;
+  }
+
+  private static String compare(Map<Integer, LoadReport> reports) {
+    final double baseline = reports.values().iterator().next().getOperationsPerSecond();
+
+    final StringBuilder comparison = new StringBuilder()
+      .append(format("%n%-10s %8s %8s %10s%n", "Instances", "Per sec", "Failed",
+        "Speed up"));
+
+    reports.forEach((instances, report) -> comparison.append(
+      format("%-10d %8.1f %8d %9.2fx%n", instances, report.getOperationsPerSecond(),
+        report.getTotalFailed(),
+        baseline == 0 ? 0 : report.getOperationsPerSecond() / baseline)));
+
+    return comparison.toString();
+  }
+
+  private void deployWith(int instances) {
+    if (instances != deployedInstances) {
+      redeployCirculationModule(instances);
+      deployedInstances = instances;
+    }
+  }
+
+  private boolean comparesInstanceCounts() {
+    return instanceCounts.size() > 1;
+  }
+
+  private static List<Integer> instanceCounts(String property) {
+    return Arrays.stream(property.split(","))
+      .map(String::trim)
+      .map(Integer::valueOf)
+      .collect(toList());
+  }
+
+  /**
+   * Storage requests cannot be attributed to operations when they are made at
+   * the same time, so each operation is first performed on its own
+   */
+  private void measureStorageRequestsPerOperation(LoadClient client, LoadReport report) {
+    final CirculationOperation[] operations = { CHECK_OUT, RENEWAL, REQUEST, CHECK_IN };
+
+    for (CirculationOperation operation : operations) {
+      waitForQueuedWrites();
+
+      final long before = FakeOkapi.getRequestsReceived();
+
+      client.perform(operation);
+
+      // Include the records written after responding
+      waitForQueuedWrites();
+
+      report.storageRequestsFor(operation, FakeOkapi.getRequestsReceived() - before);
+    }
+  }
+
+  private LoadClient createClient(String clientNumber) {
+    final IndividualResource item = itemsFixture.basedUponSmallAngryPlanet(
+      "load-item-" + clientNumber);
+
+    return new LoadClient(checkOutFixture, checkInFixture, loansFixture,
+      requestsFixture, item, patron("load-borrower-" + clientNumber),
+      patron("load-requester-" + clientNumber), renewalPercentage,
+      requestPercentage);
+  }
+
+  private IndividualResource patron(String name) {
+    return usersFixture.steve(user -> user
+      .withUsername(name)
+      .withBarcode(name));
+  }
+}
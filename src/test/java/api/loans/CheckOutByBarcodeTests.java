@@ -1304,6 +1304,27 @@ public class CheckOutByBarcodeTests extends APITests {
     assertThat(itemsClient.getById(smallAngryPlanet.getId()).getJson(), isCheckedOut());
   }
 
+  @Test
+  public void itemCheckedOutEventIsPublishedWhenFirstAttemptsToPublishFail() {
+    IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final IndividualResource steve = usersFixture.steve();
+
+    FakePubSub.failNextPublications(2);
+
+    final IndividualResource response = checkOutFixture.checkOutByBarcode(
+      new CheckOutByBarcodeRequestBuilder()
+        .forItem(smallAngryPlanet)
+        .to(steve)
+        .on(DateTime.now(UTC))
+        .at(UUID.randomUUID()));
+
+    List<JsonObject> publishedEvents = Awaitility.await()
+      .atMost(1, TimeUnit.SECONDS)
+      .until(FakePubSub::getPublishedEvents, hasSize(1));
+
+    assertThat(publishedEvents.get(0), isValidItemCheckedOutEvent(response.getJson()));
+  }
+
   private IndividualResource prepareLoanPolicyWithItemLimit(int itemLimit) {
     return loanPoliciesFixture.create(
       new LoanPolicyBuilder()
@@ -5,6 +5,7 @@ import static api.support.http.CqlQuery.queryFromTemplate;
 import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
 import static api.support.matchers.TextDateTimeMatcher.withinSecondsBeforeNow;
+import static org.folio.circulation.support.metrics.CheckInMetrics.checkInMetrics;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.core.Is.is;
@@ -44,6 +45,28 @@ public class InHouseUseCheckInTest extends APITests {
     verifyLastCheckInWasRecorded(nod.getId(), checkInServicePointId);
   }
 
+  @Test
+  public void onlyItemIsUpdatedWhenItIsInHouseUse() {
+    final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
+
+    final IndividualResource homeLocation = locationsFixture.basedUponExampleLocation(
+      builder -> builder.withPrimaryServicePoint(checkInServicePointId));
+
+    final IndividualResource nod = itemsFixture.basedUponNod(
+      item -> item.withTemporaryLocation(homeLocation.getId()));
+
+    final long itemOnlyCheckInsBefore = checkInMetrics().getItemOnlyCheckIns();
+
+    final CheckInByBarcodeResponse checkInResponse = checkInFixture
+      .checkInByBarcode(nod, checkInServicePointId);
+
+    assertThat(checkInResponse.getInHouseUse(), is(true));
+    assertThat(checkInResponse.getItem().getJsonObject("status").getString("name"),
+      is("Available"));
+    assertThat(checkInMetrics().getItemOnlyCheckIns(), is(itemOnlyCheckInsBefore + 1));
+    verifyLastCheckInWasRecorded(nod.getId(), checkInServicePointId);
+  }
+
   @Test
   public void isInHouseUseWhenItemHasClosedRequests() {
     final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
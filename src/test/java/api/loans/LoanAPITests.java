@@ -3,6 +3,8 @@ package api.loans;
 import static api.requests.RequestsAPICreationTests.setupMissingItem;
 import static api.support.http.AdditionalHttpStatusCodes.UNPROCESSABLE_ENTITY;
 import static api.support.http.CqlQuery.queryFromTemplate;
+import static api.support.http.FieldSelectionParameter.fields;
+import static api.support.http.FieldSelectionParameter.include;
 import static api.support.http.Limit.limit;
 import static api.support.http.Offset.offset;
 import static api.support.matchers.EventMatchers.isValidItemCheckedOutEvent;
@@ -18,12 +20,18 @@ import static java.lang.String.format;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static org.folio.circulation.domain.representations.ItemProperties.CALL_NUMBER_COMPONENTS;
 import static org.folio.circulation.domain.representations.LoanProperties.BORROWER;
+import static org.folio.circulation.domain.representations.LoanProperties.CHECKOUT_SERVICE_POINT;
+import static org.folio.circulation.domain.representations.LoanProperties.LOAN_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
+import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.support.JsonArrayHelper.toList;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -1714,6 +1722,76 @@ public class LoanAPITests extends APITests {
     loanHasPatronGroupProperties(fetchedLoan2, "undergrad");
   }
 
+  @Test
+  public void patronGroupAtCheckoutIsIncludedWhenLookedUpAlongsideOtherRecords() {
+    final IndividualResource firstLoan = checkOutFixture.checkOutByBarcode(
+      itemsFixture.basedUponSmallAngryPlanet(), usersFixture.jessica());
+
+    final IndividualResource secondLoan = checkOutFixture.checkOutByBarcode(
+      itemsFixture.basedUponNod(), usersFixture.undergradHenry());
+
+    // Each of these is looked up at the same time and then merged into the loans
+    final MultipleJsonRecords loans = loansFixture.getAllLoans(
+      include(PATRON_GROUP_AT_CHECKOUT, BORROWER, LOAN_POLICY, CHECKOUT_SERVICE_POINT));
+
+    final JsonObject fetchedFirstLoan = loans.getById(firstLoan.getId());
+    final JsonObject fetchedSecondLoan = loans.getById(secondLoan.getId());
+
+    loanHasPatronGroupProperties(fetchedFirstLoan, "Regular Group");
+    loanHasPatronGroupProperties(fetchedSecondLoan, "undergrad");
+
+    assertThat(fetchedFirstLoan.containsKey(BORROWER), is(true));
+    assertThat(fetchedFirstLoan.containsKey(LOAN_POLICY), is(true));
+    assertThat(fetchedSecondLoan.containsKey(BORROWER), is(true));
+    assertThat(fetchedSecondLoan.containsKey(LOAN_POLICY), is(true));
+  }
+
+  @Test
+  public void relatedRecordsAreNotProvidedWhenNoneAreIncluded() {
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(
+      itemsFixture.basedUponSmallAngryPlanet(), usersFixture.jessica());
+
+    final JsonObject fetchedLoan = loansFixture.getAllLoans(include())
+      .getById(loan.getId());
+
+    assertThat(fetchedLoan.getString("loanPolicyId"), is(notNullValue()));
+
+    Stream.of("item", BORROWER, LOAN_POLICY, OVERDUE_FINE_POLICY, LOST_ITEM_POLICY,
+      CHECKOUT_SERVICE_POINT, PATRON_GROUP_AT_CHECKOUT)
+      .forEach(property -> assertThat(
+        format("loan should not have %s: %s", property, fetchedLoan),
+        fetchedLoan.containsKey(property), is(false)));
+  }
+
+  @Test
+  public void onlyIncludedPoliciesAreProvided() {
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(
+      itemsFixture.basedUponSmallAngryPlanet(), usersFixture.jessica());
+
+    final JsonObject fetchedLoan = loansFixture.getAllLoans(include(LOAN_POLICY))
+      .getById(loan.getId());
+
+    hasProperty("name", fetchedLoan.getJsonObject(LOAN_POLICY), "loan policy");
+
+    assertThat(fetchedLoan.containsKey(OVERDUE_FINE_POLICY), is(false));
+    assertThat(fetchedLoan.containsKey(LOST_ITEM_POLICY), is(false));
+  }
+
+  @Test
+  public void onlySelectedFieldsAreProvided() {
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(
+      itemsFixture.basedUponSmallAngryPlanet(), usersFixture.jessica());
+
+    final JsonObject fetchedLoan = loansFixture.getAllLoans(
+      fields("status", "dueDate", LOAN_POLICY)).getById(loan.getId());
+
+    assertThat(fetchedLoan.fieldNames(),
+      containsInAnyOrder("id", "status", "dueDate", LOAN_POLICY));
+
+    // The records needed for the selected fields are still looked up
+    hasProperty("name", fetchedLoan.getJsonObject(LOAN_POLICY), "loan policy");
+  }
+
   @Test
   public void dueDateChangedEventIsPublishedOnCreate() {
     UUID id = UUID.randomUUID();
@@ -3,6 +3,8 @@ package api.requests;
 import static api.support.builders.ItemBuilder.CHECKED_OUT;
 import static api.support.http.CqlQuery.noQuery;
 import static api.support.http.CqlQuery.queryFromTemplate;
+import static api.support.http.FieldSelectionParameter.fields;
+import static api.support.http.FieldSelectionParameter.include;
 import static api.support.http.Limit.limit;
 import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
@@ -13,8 +15,11 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.function.Function.identity;
 import static org.folio.circulation.domain.representations.ItemProperties.CALL_NUMBER_COMPONENTS;
+import static org.folio.circulation.domain.representations.RequestProperties.LOAN;
+import static org.folio.circulation.domain.representations.RequestProperties.PICKUP_SERVICE_POINT;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.isEmptyString;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
@@ -261,6 +266,37 @@ public class RequestsAPIRetrievalTests extends APITests {
     assertThat(deliveryAddress.getString("countryId"), is("Fake country code"));
   }
 
+  @Test
+  public void relatedRecordsAreNotProvidedForRequestsWhenNoneAreIncluded() {
+    final IndividualResource request = placeRecallForCheckedOutItem();
+
+    final JsonObject fetchedRequest = requestsFixture.getAllRequests(include())
+      .getById(request.getId());
+
+    assertThat(fetchedRequest.getString("pickupServicePointId"), is(notNullValue()));
+
+    assertThat("request should not have a pickup service point",
+      fetchedRequest.containsKey(PICKUP_SERVICE_POINT), is(false));
+
+    assertThat("request should not have a loan",
+      fetchedRequest.containsKey(LOAN), is(false));
+  }
+
+  @Test
+  public void onlySelectedFieldsAreProvidedForRequests() {
+    final IndividualResource request = placeRecallForCheckedOutItem();
+
+    final JsonObject fetchedRequest = requestsFixture.getAllRequests(
+      fields("status", "position", PICKUP_SERVICE_POINT)).getById(request.getId());
+
+    assertThat(fetchedRequest.fieldNames(),
+      containsInAnyOrder("id", "status", "position", PICKUP_SERVICE_POINT));
+
+    // The records needed for the selected fields are still looked up
+    assertThat(fetchedRequest.getJsonObject(PICKUP_SERVICE_POINT).getString("name"),
+      is("Circ Desk 1"));
+  }
+
   @Test
   public void requestNotFoundForUnknownId() {
     Response getResponse = requestsFixture.getById(UUID.randomUUID());
@@ -722,4 +758,16 @@ public class RequestsAPIRetrievalTests extends APITests {
     assertThat(item.getString("chronology"), is(prefix + "chronology"));
     assertThat(item.getString("volume"), is(prefix + "vol.1"));
   }
+
+  private IndividualResource placeRecallForCheckedOutItem() {
+    final IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, usersFixture.james());
+
+    return requestsFixture.place(new RequestBuilder()
+      .recall()
+      .forItem(smallAngryPlanet)
+      .by(usersFixture.charlotte())
+      .withPickupServicePointId(servicePointsFixture.cd1().getId()));
+  }
 }
@@ -1,5 +1,7 @@
 package api.support;
 
+import static org.folio.circulation.support.writebehind.WriteBehindQueue.writeBehindQueue;
+
 import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -11,6 +13,12 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.folio.circulation.Launcher;
+import org.folio.circulation.infrastructure.storage.CalendarRepository;
+import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
+import org.folio.circulation.infrastructure.storage.notices.TemplateRepository;
+import org.folio.circulation.services.PubSubOutbox;
 import org.folio.circulation.support.VertxAssistant;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
 import org.folio.circulation.support.http.client.VertxWebClientOkapiHttpClient;
@@ -107,7 +115,8 @@ public class APITestContext {
 
     final CompletableFuture<String> fakeStorageModuleDeployed = deployFakeStorageModules();
 
-    final CompletableFuture<Void> circulationModuleStarted = launcher.start(port);
+    final CompletableFuture<Void> circulationModuleStarted = launcher.start(port,
+      defaultCirculationModuleInstances());
 
     fakeStorageModuleDeployed.thenAccept(result -> fakeOkapiDeploymentId = result);
 
@@ -138,6 +147,27 @@ public class APITestContext {
     return fakeStorageModuleDeployed;
   }
 
+  /**
+   * Replaces the deployed module with one using a different number of
+   * verticle instances, the fake storage modules are left as they are
+   */
+  public static void redeployCirculationModule(int instances) {
+    try {
+      launcher.undeploy()
+        .thenCompose(notUsed -> launcher.start(port, instances))
+        .get(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted redeploying the module", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Module could not be redeployed", e);
+    }
+  }
+
+  public static int defaultCirculationModuleInstances() {
+    return Integer.getInteger("circulation.instances", 1);
+  }
+
   static void undeployVerticles()
     throws InterruptedException,
     ExecutionException,
@@ -183,6 +213,35 @@ public class APITestContext {
     }
   }
 
+  /**
+   * Some records are written (and events published) by the module after it
+   * has responded, wait for those before looking at or removing what is in storage
+   */
+  public static void waitForQueuedWrites() {
+    try {
+      CompletableFuture.allOf(writeBehindQueue().whenWritten(),
+        PubSubOutbox.whenAllPublished())
+        .get(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for queued writes", e);
+    } catch (ExecutionException | TimeoutException e) {
+      throw new IllegalStateException("Queued writes were not made", e);
+    }
+  }
+
+  /**
+   * Settings, policies, schedules, templates and calendars are remembered by
+   * the module, so need to be forgotten whenever a test changes them
+   */
+  public static void clearCachedRecords() {
+    CalendarRepository.clearCache();
+    ConfigurationRepository.clearCache();
+    CirculationPolicyRepository.clearCache();
+    LoanPolicyRepository.clearSchedulesCache();
+    TemplateRepository.clearCache();
+  }
+
   public static OkapiHeaders getOkapiHeadersFromContext() {
     return new OkapiHeaders(okapiUrl(), getTenantId(), getToken(), getUserId());
   }
@@ -1,8 +1,10 @@
 package api.support;
 
+import static api.support.APITestContext.clearCachedRecords;
 import static api.support.APITestContext.deployVerticles;
 import static api.support.APITestContext.getOkapiHeadersFromContext;
 import static api.support.APITestContext.undeployVerticles;
+import static api.support.APITestContext.waitForQueuedWrites;
 import static api.support.fakes.LoanHistoryProcessor.setLoanHistoryEnabled;
 import static api.support.http.ResourceClient.forLoanHistoryStorage;
 import static api.support.http.ResourceClient.forTenantStorage;
@@ -303,13 +305,17 @@ public abstract class APITests {
     usersFixture.defaultAdmin();
     noteTypeFixture.generalNoteType();
 
+    waitForQueuedWrites();
     FakePubSub.clearPublishedEvents();
     FakePubSub.setFailPublishingWithNoSubscribersError(false);
+    FakePubSub.failNextPublications(0);
   }
 
   @After
   public void afterEach() {
+    waitForQueuedWrites();
     forTenantStorage().deleteAll();
+    clearCachedRecords();
 
     mockClockManagerToReturnDefaultDateTime();
   }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.folio.circulation.support.results.Result;
@@ -43,6 +44,10 @@ public class FakeOkapi extends AbstractVerticle {
   private static final String address =
     String.format("http://localhost:%s", PORT_TO_USE);
 
+  // Used to measure the module under load, see CirculationLoadHarness
+  private static final AtomicLong requestsReceived = new AtomicLong();
+  private static volatile long artificialLatencyMilliseconds = 0;
+
   private HttpServer server;
   private String circulationRules = "{ \"rulesAsText\": \"\" }";
 
@@ -50,6 +55,18 @@ public class FakeOkapi extends AbstractVerticle {
     return address;
   }
 
+  public static long getRequestsReceived() {
+    return requestsReceived.get();
+  }
+
+  /**
+   * Delays every request by this long before handling it, to imitate the
+   * time taken to make a request to a real storage module via Okapi
+   */
+  public static void setArtificialLatency(long milliseconds) {
+    artificialLatencyMilliseconds = milliseconds;
+  }
+
   @Override
   public void start(Promise<Void> startFuture) throws IOException {
     log.debug("Starting fake loan storage module");
@@ -58,6 +75,8 @@ public class FakeOkapi extends AbstractVerticle {
 
     this.server = vertx.createHttpServer();
 
+    countAndDelayRequests(router);
+
     forwardRequestsToApplyCirculationRulesBackToCirculationModule(router);
 
     new FakeStorageModuleBuilder()
@@ -395,6 +414,27 @@ public class FakeOkapi extends AbstractVerticle {
       });
   }
 
+  private void countAndDelayRequests(Router router) {
+    router.route().handler(context -> {
+      requestsReceived.incrementAndGet();
+
+      final long latency = artificialLatencyMilliseconds;
+
+      if (latency <= 0) {
+        context.next();
+        return;
+      }
+
+      // The body needs to be held until the body handler has been registered
+      context.request().pause();
+
+      vertx.setTimer(latency, notUsed -> {
+        context.next();
+        context.request().resume();
+      });
+    });
+  }
+
   private Result<Object> requestHasSamePosition(
     Collection<JsonObject> existingRequests, JsonObject newOrUpdatedRequest) {
 
@@ -8,6 +8,8 @@ import static org.folio.HttpStatus.HTTP_NO_CONTENT;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
@@ -16,7 +18,8 @@ import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 
 public class FakePubSub {
-  private static final List<JsonObject> publishedEvents = new ArrayList<>();
+  // Events may be published from more than one thread
+  private static final List<JsonObject> publishedEvents = new CopyOnWriteArrayList<>();
   private static final List<JsonObject> createdEventTypes = new ArrayList<>();
   private static final List<JsonObject> registeredPublishers = new ArrayList<>();
   private static final List<JsonObject> registeredSubscribers = new ArrayList<>();
@@ -25,13 +28,21 @@ public class FakePubSub {
   private static boolean failPubSubRegistration;
   private static boolean failPubSubUnregistering;
   private static boolean failPublishingWithNoSubscribersError;
+  private static final AtomicInteger publishingFailuresRemaining = new AtomicInteger();
 
   public static void register(Router router) {
     router.route().handler(BodyHandler.create());
 
     router.post("/pubsub/publish")
       .handler(routingContext -> {
-        if (failPublishingWithNoSubscribersError) {
+        if (publishingFailuresRemaining.getAndUpdate(
+          remaining -> Math.max(remaining - 1, 0)) > 0) {
+
+          routingContext.response()
+            .setStatusCode(HTTP_INTERNAL_SERVER_ERROR.toInt())
+            .end();
+        }
+        else if (failPublishingWithNoSubscribersError) {
           Buffer buffer = Buffer.buffer(
             "There is no SUBSCRIBERS registered for event type EVENT_TYPE", "UTF-8");
           routingContext.response()
@@ -137,4 +148,11 @@ public class FakePubSub {
 
     FakePubSub.failPublishingWithNoSubscribersError = failPublishingWithNoSubscribersError;
   }
+
+  /**
+   * The next publications will fail, as if pub-sub were unavailable
+   */
+  public static void failNextPublications(int numberOfPublications) {
+    publishingFailuresRemaining.set(numberOfPublications);
+  }
 }
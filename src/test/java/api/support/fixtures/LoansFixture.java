@@ -13,8 +13,11 @@ import static api.support.http.Limit.maximumLimit;
 import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Arrays.asList;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.folio.circulation.support.http.client.IndividualResource;
@@ -28,8 +31,10 @@ import api.support.builders.OverrideRenewalByBarcodeRequestBuilder;
 import api.support.builders.RenewByBarcodeRequestBuilder;
 import api.support.builders.RenewByIdRequestBuilder;
 import api.support.http.CqlQuery;
+import api.support.http.FieldSelectionParameter;
 import api.support.http.Limit;
 import api.support.http.Offset;
+import api.support.http.QueryStringParameter;
 import io.vertx.core.json.JsonObject;
 
 public class LoansFixture {
@@ -215,6 +220,15 @@ public class LoansFixture {
     return getLoans(noQuery(), maximumLimit(), noOffset());
   }
 
+  public MultipleJsonRecords getAllLoans(FieldSelectionParameter... selection) {
+    final List<QueryStringParameter> parameters = new ArrayList<>(asList(selection));
+
+    parameters.add(maximumLimit());
+
+    return multipleRecordsFrom(
+      restAssuredClient.get(loansUrl(), parameters, 200, "get-loans"), "loans");
+  }
+
   public void deleteLoan(UUID loanId) {
     restAssuredClient.delete(urlForLoan(loanId), 204, "delete-loan");
   }
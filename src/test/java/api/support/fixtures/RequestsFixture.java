@@ -9,6 +9,7 @@ import static api.support.http.Limit.noLimit;
 import static api.support.http.Offset.noOffset;
 import static java.net.HttpURLConnection.HTTP_NO_CONTENT;
 import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.Arrays.asList;
 import static java.util.function.Function.identity;
 
 import java.net.URL;
@@ -24,6 +25,7 @@ import api.support.RestAssuredClient;
 import api.support.builders.MoveRequestBuilder;
 import api.support.builders.RequestBuilder;
 import api.support.http.CqlQuery;
+import api.support.http.FieldSelectionParameter;
 import api.support.http.Limit;
 import api.support.http.Offset;
 import api.support.http.ResourceClient;
@@ -175,6 +177,11 @@ public class RequestsFixture {
     return getRequests(noQuery(), noLimit(), noOffset());
   }
 
+  public MultipleJsonRecords getAllRequests(FieldSelectionParameter... selection) {
+    return multipleRecordsFrom(restAssuredClient.get(requestsUrl(), asList(selection),
+      HTTP_OK, "get-requests"), REQUESTS_COLLECTION_PROPERTY_NAME);
+  }
+
   public MultipleJsonRecords getRequests(CqlQuery query, Limit limit, Offset offset) {
     return multipleRecordsFrom(restAssuredClient.get(requestsUrl(), query,
       limit, offset, HTTP_OK, "get-requests"), REQUESTS_COLLECTION_PROPERTY_NAME);
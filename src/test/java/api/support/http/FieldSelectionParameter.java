@@ -0,0 +1,25 @@
+package api.support.http;
+
+import java.util.Map;
+
+public class FieldSelectionParameter implements QueryStringParameter {
+  private final String name;
+  private final String properties;
+
+  public static FieldSelectionParameter include(String... properties) {
+    return new FieldSelectionParameter("include", properties);
+  }
+
+  public static FieldSelectionParameter fields(String... properties) {
+    return new FieldSelectionParameter("fields", properties);
+  }
+
+  private FieldSelectionParameter(String name, String... properties) {
+    this.name = name;
+    this.properties = String.join(",", properties);
+  }
+
+  public void collectInto(Map<String, String> queryStringParameters) {
+    queryStringParameters.put(name, properties);
+  }
+}
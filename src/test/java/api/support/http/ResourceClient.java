@@ -1,6 +1,8 @@
 package api.support.http;
 
+import static api.support.APITestContext.clearCachedRecords;
 import static api.support.APITestContext.getOkapiHeadersFromContext;
+import static api.support.APITestContext.waitForQueuedWrites;
 import static api.support.http.CqlQuery.noQuery;
 import static api.support.http.Limit.limit;
 import static api.support.http.Limit.noLimit;
@@ -257,8 +259,8 @@ public class ResourceClient {
 
   public Response attemptCreate(JsonObject representation) {
 
-    return restAssuredClient.post(representation, rootUrl(),
-        "attempt-create-record");
+    return changed(restAssuredClient.post(representation, rootUrl(),
+        "attempt-create-record"));
   }
 
   public IndividualResource create(Builder builder) {
@@ -267,8 +269,8 @@ public class ResourceClient {
 
   public IndividualResource create(JsonObject representation) {
 
-    return  new IndividualResource(restAssuredClient.post(representation,
-      rootUrl(), 201, "create-record"));
+    return  new IndividualResource(changed(restAssuredClient.post(representation,
+      rootUrl(), 201, "create-record")));
   }
 
   public Response attemptCreateAtSpecificLocation(Builder builder) {
@@ -276,8 +278,8 @@ public class ResourceClient {
     final JsonObject representation = builder.create();
     final URL location = recordUrl(representation.getString("id"));
 
-    return restAssuredClient.put(representation, location,
-      "attempt-create-record-at-specific-location");
+    return changed(restAssuredClient.put(representation, location,
+      "attempt-create-record-at-specific-location"));
   }
 
   public IndividualResource createAtSpecificLocation(Builder builder) {
@@ -285,8 +287,8 @@ public class ResourceClient {
     final JsonObject representation = builder.create();
     final URL location = recordUrl(representation.getString("id"));
 
-    restAssuredClient.put(representation, location, HTTP_NO_CONTENT,
-      "create-record-at-specific-location");
+    changed(restAssuredClient.put(representation, location, HTTP_NO_CONTENT,
+      "create-record-at-specific-location"));
 
     return get(location);
   }
@@ -298,8 +300,8 @@ public class ResourceClient {
 
   public Response attemptReplace(UUID id, JsonObject representation) {
 
-    return restAssuredClient.put(representation, recordUrl(id),
-      "attempt-replace-record");
+    return changed(restAssuredClient.put(representation, recordUrl(id),
+      "attempt-replace-record"));
   }
 
   public void replace(UUID id, Builder builder) {
@@ -308,11 +310,13 @@ public class ResourceClient {
 
   public void replace(UUID id, JsonObject representation) {
 
-    restAssuredClient.put(representation, recordUrl(id), HTTP_NO_CONTENT,
-      "create-record-at-specific-location");
+    changed(restAssuredClient.put(representation, recordUrl(id), HTTP_NO_CONTENT,
+      "create-record-at-specific-location"));
   }
 
   public Response getById(UUID id) {
+    waitForQueuedWrites();
+
     return restAssuredClient.get(recordUrl(id), "get-record");
   }
 
@@ -326,10 +330,14 @@ public class ResourceClient {
   }
 
   public IndividualResource get(URL url) {
+    waitForQueuedWrites();
+
     return new IndividualResource(restAssuredClient.get(url, 200, "get-record"));
   }
 
   public MultipleJsonRecords getMany(CqlQuery query) {
+    waitForQueuedWrites();
+
     Response response = restAssuredClient.get(urlMaker.combine(""), query,
       noLimit(), noOffset(), 200, "get-many");
 
@@ -342,7 +350,7 @@ public class ResourceClient {
   }
 
   public void delete(UUID id) {
-    restAssuredClient.delete(recordUrl(id), HTTP_NO_CONTENT, "delete-record");
+    changed(restAssuredClient.delete(recordUrl(id), HTTP_NO_CONTENT, "delete-record"));
   }
 
   public void delete(IndividualResource resource) {
@@ -350,7 +358,7 @@ public class ResourceClient {
   }
 
   public void deleteAll() {
-    restAssuredClient.delete(rootUrl(), HTTP_NO_CONTENT, "delete-all-records");
+    changed(restAssuredClient.delete(rootUrl(), HTTP_NO_CONTENT, "delete-all-records"));
   }
 
   public void deleteAllIndividually() {
@@ -361,11 +369,22 @@ public class ResourceClient {
 
   //TODO: Replace return valu[e with MultipleJsonRecords
   public List<JsonObject> getAll() {
+    waitForQueuedWrites();
+
     return mapToList(restAssuredClient
       .get(rootUrl(), noQuery(), limit(1000), noOffset(), 200, "get-all")
       .getJson(), collectionArrayPropertyName);
   }
 
+  /**
+   * The module may remember the records that have been changed
+   */
+  private static Response changed(Response response) {
+    clearCachedRecords();
+
+    return response;
+  }
+
   private URL recordUrl(Object id) {
     return urlMaker.combine(String.format("/%s", id));
   }
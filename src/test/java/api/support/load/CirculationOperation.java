@@ -0,0 +1,18 @@
+package api.support.load;
+
+public enum CirculationOperation {
+  CHECK_OUT("Check out"),
+  RENEWAL("Renewal"),
+  REQUEST("Hold request"),
+  CHECK_IN("Check in");
+
+  private final String description;
+
+  CirculationOperation(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+}
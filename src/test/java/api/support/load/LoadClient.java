@@ -0,0 +1,169 @@
+package api.support.load;
+
+import static api.support.load.CirculationOperation.CHECK_IN;
+import static api.support.load.CirculationOperation.CHECK_OUT;
+import static api.support.load.CirculationOperation.RENEWAL;
+import static api.support.load.CirculationOperation.REQUEST;
+
+import java.util.Random;
+
+import org.folio.circulation.support.http.client.IndividualResource;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import api.support.CheckInByBarcodeResponse;
+import api.support.fixtures.CheckInFixture;
+import api.support.fixtures.CheckOutFixture;
+import api.support.fixtures.LoansFixture;
+import api.support.fixtures.RequestsFixture;
+
+/**
+ * Imitates a circulation desk repeatedly circulating a single item between
+ * two patrons: the item is checked out, may be renewed or requested by the
+ * other patron, and is checked in. A requested item is then checked out to
+ * the requester.
+ *
+ * Each client only uses its own item, so that clients do not interfere
+ * with each other, and should only be used by a single thread.
+ */
+public class LoadClient {
+  private enum ItemState {
+    AVAILABLE,
+    CHECKED_OUT,
+    CHECKED_OUT_AND_REQUESTED,
+    AWAITING_PICKUP
+  }
+
+  private final CheckOutFixture checkOutFixture;
+  private final CheckInFixture checkInFixture;
+  private final LoansFixture loansFixture;
+  private final RequestsFixture requestsFixture;
+
+  private final IndividualResource item;
+  private final int renewalPercentage;
+  private final int requestPercentage;
+  private final Random random = new Random();
+
+  private IndividualResource borrower;
+  private IndividualResource requester;
+  private ItemState state = ItemState.AVAILABLE;
+
+  public LoadClient(CheckOutFixture checkOutFixture, CheckInFixture checkInFixture,
+    LoansFixture loansFixture, RequestsFixture requestsFixture,
+    IndividualResource item, IndividualResource borrower,
+    IndividualResource requester, int renewalPercentage, int requestPercentage) {
+
+    this.checkOutFixture = checkOutFixture;
+    this.checkInFixture = checkInFixture;
+    this.loansFixture = loansFixture;
+    this.requestsFixture = requestsFixture;
+    this.item = item;
+    this.borrower = borrower;
+    this.requester = requester;
+    this.renewalPercentage = renewalPercentage;
+    this.requestPercentage = requestPercentage;
+  }
+
+  /**
+   * Performs operations until the deadline has passed, recording how long
+   * each took, or that it failed
+   *
+   * @param deadline in terms of {@link System#nanoTime()}
+   */
+  public void runUntil(long deadline, LoadReport report) {
+    while (System.nanoTime() < deadline) {
+      final CirculationOperation operation = nextOperation();
+      final long start = System.nanoTime();
+
+      try {
+        perform(operation);
+        report.succeeded(operation, System.nanoTime() - start);
+      }
+      catch (AssertionError | RuntimeException e) {
+        report.failed(operation);
+        recover();
+      }
+    }
+  }
+
+  public CirculationOperation nextOperation() {
+    switch (state) {
+      case AVAILABLE:
+      case AWAITING_PICKUP:
+        return CHECK_OUT;
+
+      case CHECKED_OUT:
+        final int chance = random.nextInt(100);
+
+        if (chance < renewalPercentage) {
+          return RENEWAL;
+        }
+
+        return chance < renewalPercentage + requestPercentage
+          ? REQUEST
+          : CHECK_IN;
+
+      default:
+        return CHECK_IN;
+    }
+  }
+
+  public void perform(CirculationOperation operation) {
+    switch (operation) {
+      case CHECK_OUT:
+        if (state == ItemState.AWAITING_PICKUP) {
+          swapBorrowerAndRequester();
+        }
+
+        checkOutFixture.checkOutByBarcode(item, borrower);
+        state = ItemState.CHECKED_OUT;
+        break;
+
+      case RENEWAL:
+        loansFixture.renewLoan(item, borrower);
+        break;
+
+      case REQUEST:
+        requestsFixture.placeHoldShelfRequest(item, requester,
+          DateTime.now(DateTimeZone.UTC));
+        state = ItemState.CHECKED_OUT_AND_REQUESTED;
+        break;
+
+      case CHECK_IN:
+        checkIn();
+        break;
+
+      default:
+        throw new IllegalArgumentException("Unexpected operation: " + operation);
+    }
+  }
+
+  private void checkIn() {
+    final CheckInByBarcodeResponse response = checkInFixture.checkInByBarcode(item);
+
+    state = "Awaiting pickup".equals(response.getItem()
+      .getJsonObject("status").getString("name"))
+      ? ItemState.AWAITING_PICKUP
+      : ItemState.AVAILABLE;
+  }
+
+  /**
+   * Checking in the item brings it back to a known state after an
+   * operation has failed
+   */
+  private void recover() {
+    try {
+      checkIn();
+    }
+    catch (AssertionError | RuntimeException e) {
+      state = ItemState.AVAILABLE;
+    }
+  }
+
+  private void swapBorrowerAndRequester() {
+    final IndividualResource previousBorrower = borrower;
+
+    borrower = requester;
+    requester = previousBorrower;
+  }
+}
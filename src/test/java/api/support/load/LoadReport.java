@@ -0,0 +1,93 @@
+package api.support.load;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Results of a load run: throughput and latency percentiles for each kind of
+ * operation, and how many requests each kind of operation made to storage
+ */
+public class LoadReport {
+  private final Map<CirculationOperation, OperationTimings> timings =
+    new EnumMap<>(CirculationOperation.class);
+
+  private final Map<CirculationOperation, Long> storageRequestsPerOperation =
+    new EnumMap<>(CirculationOperation.class);
+
+  private long elapsedNanoseconds;
+  private long storageRequests;
+
+  public LoadReport() {
+    for (CirculationOperation operation : CirculationOperation.values()) {
+      timings.put(operation, new OperationTimings());
+    }
+  }
+
+  public void succeeded(CirculationOperation operation, long durationInNanoseconds) {
+    timings.get(operation).succeeded(durationInNanoseconds);
+  }
+
+  public void failed(CirculationOperation operation) {
+    timings.get(operation).failed();
+  }
+
+  public void storageRequestsFor(CirculationOperation operation, long requests) {
+    storageRequestsPerOperation.put(operation, requests);
+  }
+
+  public void finished(long elapsedNanoseconds, long storageRequests) {
+    this.elapsedNanoseconds = elapsedNanoseconds;
+    this.storageRequests = storageRequests;
+  }
+
+  public long getTotalSucceeded() {
+    return timings.values().stream()
+      .mapToLong(OperationTimings::getSucceeded)
+      .sum();
+  }
+
+  public long getTotalFailed() {
+    return timings.values().stream()
+      .mapToLong(OperationTimings::getFailed)
+      .sum();
+  }
+
+  public double getOperationsPerSecond() {
+    return perSecond(getTotalSucceeded(), NANOSECONDS.toMillis(elapsedNanoseconds) / 1000.0);
+  }
+
+  public String describe() {
+    final double elapsedSeconds = NANOSECONDS.toMillis(elapsedNanoseconds) / 1000.0;
+    final long totalSucceeded = getTotalSucceeded();
+
+    final StringBuilder description = new StringBuilder()
+      .append(format("%nCompleted %d operations (%d failed) in %.1f seconds, %.1f operations per second%n",
+        totalSucceeded, getTotalFailed(), elapsedSeconds, perSecond(totalSucceeded, elapsedSeconds)))
+      .append(format("%d storage requests, %.1f per operation%n",
+        storageRequests, totalSucceeded == 0 ? 0 : (double) storageRequests / totalSucceeded))
+      .append(format("%-14s %10s %8s %8s %9s %9s %9s %9s %9s%n", "Operation",
+        "Succeeded", "Failed", "Per sec", "p50 ms", "p90 ms", "p99 ms", "Max ms",
+        "Storage"));
+
+    timings.forEach((operation, operationTimings) -> description.append(
+      format("%-14s %10d %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9s%n",
+        operation.getDescription(),
+        operationTimings.getSucceeded(),
+        operationTimings.getFailed(),
+        perSecond(operationTimings.getSucceeded(), elapsedSeconds),
+        operationTimings.percentileInMilliseconds(50),
+        operationTimings.percentileInMilliseconds(90),
+        operationTimings.percentileInMilliseconds(99),
+        operationTimings.percentileInMilliseconds(100),
+        storageRequestsPerOperation.getOrDefault(operation, 0L))));
+
+    return description.toString();
+  }
+
+  private static double perSecond(long count, double elapsedSeconds) {
+    return elapsedSeconds == 0 ? 0 : count / elapsedSeconds;
+  }
+}
@@ -0,0 +1,56 @@
+package api.support.load;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How long each attempt at an operation took, shared by all of the clients
+ * performing that operation
+ */
+public class OperationTimings {
+  private final List<Long> durationsInNanoseconds = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicLong failures = new AtomicLong();
+
+  void succeeded(long durationInNanoseconds) {
+    durationsInNanoseconds.add(durationInNanoseconds);
+  }
+
+  void failed() {
+    failures.incrementAndGet();
+  }
+
+  public int getSucceeded() {
+    return durationsInNanoseconds.size();
+  }
+
+  public long getFailed() {
+    return failures.get();
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return the duration in milliseconds that this percentage of the
+   * successful attempts took no longer than
+   */
+  public double percentileInMilliseconds(double percentile) {
+    final List<Long> sorted;
+
+    synchronized (durationsInNanoseconds) {
+      sorted = new ArrayList<>(durationsInNanoseconds);
+    }
+
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+
+    Collections.sort(sorted);
+
+    final int index = (int) Math.ceil(percentile / 100 * sorted.size()) - 1;
+
+    return NANOSECONDS.toMicros(sorted.get(Math.max(index, 0))) / 1000.0;
+  }
+}
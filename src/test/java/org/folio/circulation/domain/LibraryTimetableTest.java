@@ -0,0 +1,57 @@
+package org.folio.circulation.domain;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.domain.OpeningDay.createOpeningDay;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class LibraryTimetableTest {
+  private static final LocalDate FIRST_DATE = new LocalDate(2020, 4, 1);
+  private static final LocalDate LAST_DATE = new LocalDate(2020, 4, 30);
+
+  @Test
+  public void coversDatesWithinTimetable() {
+    final LibraryTimetable timetable = new LibraryTimetable(FIRST_DATE, LAST_DATE,
+      emptyList());
+
+    assertThat(timetable.covers(FIRST_DATE, LAST_DATE), is(true));
+    assertThat(timetable.covers(new LocalDate(2020, 4, 10), new LocalDate(2020, 4, 12)),
+      is(true));
+  }
+
+  @Test
+  public void doesNotCoverDatesOutsideOfTimetable() {
+    final LibraryTimetable timetable = new LibraryTimetable(FIRST_DATE, LAST_DATE,
+      emptyList());
+
+    assertThat(timetable.covers(FIRST_DATE.minusDays(1), LAST_DATE), is(false));
+    assertThat(timetable.covers(FIRST_DATE, LAST_DATE.plusDays(1)), is(false));
+  }
+
+  @Test
+  public void providesOpeningDaysBetweenDatesInclusively() {
+    final LibraryTimetable timetable = new LibraryTimetable(FIRST_DATE, LAST_DATE,
+      asList(openOn(2020, 4, 7), openOn(2020, 4, 8), openOn(2020, 4, 9),
+        openOn(2020, 4, 10), openOn(2020, 4, 11)));
+
+    final List<LocalDate> dates = timetable
+      .openingDaysBetween(new LocalDate(2020, 4, 8), new LocalDate(2020, 4, 10))
+      .stream()
+      .map(OpeningDay::getDate)
+      .collect(toList());
+
+    assertThat(dates, is(asList(new LocalDate(2020, 4, 8), new LocalDate(2020, 4, 9),
+      new LocalDate(2020, 4, 10))));
+  }
+
+  private static OpeningDay openOn(int year, int month, int day) {
+    return createOpeningDay(emptyList(), new LocalDate(year, month, day), true, true);
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.circulation.domain;
+
+import static api.support.fixtures.OpeningHourExamples.afternoon;
+import static api.support.fixtures.OpeningHourExamples.morning;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.joda.time.DateTimeZone.UTC;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.LocalDate;
+import org.joda.time.LocalDateTime;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class OpenMinutesIndexTest {
+  // Morning is 7:00 to 12:00 and afternoon is 13:30 to 18:30
+  private static final int MINUTES_OPEN_PER_DAY = 600;
+
+  @Parameters({
+    "2020-04-08T06:00:00, 2020-04-08T19:00:00, 600",
+    "2020-04-08T08:00:00, 2020-04-08T09:30:00, 90",
+    "2020-04-08T11:00:00, 2020-04-08T14:00:00, 90",
+    "2020-04-08T12:15:00, 2020-04-08T13:15:00, 0",
+    "2020-04-08T14:00:00, 2020-04-10T15:00:00, 1260",
+    "2020-04-07T00:00:00, 2020-04-11T00:00:00, 1800",
+    "2020-04-10T19:00:00, 2020-04-12T00:00:00, 0",
+  })
+  @Test
+  public void calculatesMinutesOpenBetweenDates(String from, String to, int expectedMinutes) {
+    final OpenMinutesIndex index = new OpenMinutesIndex(asList(
+      openOn("2020-04-08", UTC), openOn("2020-04-09", UTC), openOn("2020-04-10", UTC)));
+
+    assertEquals(expectedMinutes, index.minutesOpenBetween(
+      new LocalDateTime(from), new LocalDateTime(to)));
+  }
+
+  @Test
+  public void calculatesMinutesOpenForDaysInOtherTimeZones() {
+    final DateTimeZone newYork = DateTimeZone.forID("America/New_York");
+
+    final OpenMinutesIndex index = new OpenMinutesIndex(asList(
+      openOn("2020-04-08", newYork), openOn("2020-04-09", newYork)));
+
+    // Morning of the 8th in New York is 11:00 to 16:00 UTC
+    assertEquals(60, index.minutesOpenBetween(
+      new LocalDateTime("2020-04-08T15:00:00"), new LocalDateTime("2020-04-08T17:00:00")));
+  }
+
+  @Test
+  public void calculatesMinutesOpenForItemsOverdueForAVeryLongTime() {
+    final List<OpeningDay> openingDays = new ArrayList<>();
+    final LocalDate firstDay = new LocalDate(2017, 1, 1);
+
+    for (int day = 0; day < 1000; day++) {
+      openingDays.add(openOn(firstDay.plusDays(day).toString(), UTC));
+    }
+
+    final OpenMinutesIndex index = new OpenMinutesIndex(openingDays);
+
+    assertEquals(998 * MINUTES_OPEN_PER_DAY + 300 + 300, index.minutesOpenBetween(
+      new LocalDateTime("2017-01-01T13:30:00"), new LocalDateTime("2019-09-27T12:00:00")));
+  }
+
+  @Test
+  public void ignoresDaysWithoutOpeningHours() {
+    final OpenMinutesIndex index = new OpenMinutesIndex(asList(
+      OpeningDay.createOpeningDay(emptyList(), new LocalDate("2020-04-08"), false, false),
+      openOn("2020-04-09", UTC)));
+
+    assertEquals(MINUTES_OPEN_PER_DAY, index.minutesOpenBetween(
+      new LocalDateTime("2020-04-08T00:00:00"), new LocalDateTime("2020-04-10T00:00:00")));
+  }
+
+  private static OpeningDay openOn(String date, DateTimeZone zone) {
+    return OpeningDay.createOpeningDay(asList(morning(), afternoon()),
+      new LocalDate(date), false, true, zone);
+  }
+}
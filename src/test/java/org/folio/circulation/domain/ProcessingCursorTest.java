@@ -0,0 +1,64 @@
+package org.folio.circulation.domain;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class ProcessingCursorTest {
+  @Test
+  public void cursorIsAtStartWhenNoConfigurationIsStored() {
+    final ProcessingCursor cursor = ProcessingCursor.from("age_to_lost_cursor", null);
+
+    assertThat(cursor.isAtStart(), is(true));
+    assertThat(cursor.isStored(), is(false));
+  }
+
+  @Test
+  public void cursorCanBeReadFromStoredConfiguration() {
+    final ProcessingCursor cursor = ProcessingCursor.from("age_to_lost_cursor",
+      configuration("46d5d6e6-6bd4-4a2b-b1c5-c7ac4c7a2d7e",
+        new JsonObject()
+          .put("lastDate", "2020-03-11T23:59:59.000Z")
+          .put("lastRecordId", "0e8cf0ab-1b7e-42d6-8d4b-33a2b4ee1f56")));
+
+    assertThat(cursor.isAtStart(), is(false));
+    assertThat(cursor.isStored(), is(true));
+    assertThat(cursor.getLastDate(), is("2020-03-11T23:59:59.000Z"));
+    assertThat(cursor.getLastRecordId(), is("0e8cf0ab-1b7e-42d6-8d4b-33a2b4ee1f56"));
+  }
+
+  @Test
+  public void cursorMovedBackToStartKeepsConfigurationId() {
+    final ProcessingCursor cursor = ProcessingCursor.from("age_to_lost_cursor",
+      configuration("46d5d6e6-6bd4-4a2b-b1c5-c7ac4c7a2d7e",
+        new JsonObject()
+          .put("lastDate", "2020-03-11T23:59:59.000Z")
+          .put("lastRecordId", "0e8cf0ab-1b7e-42d6-8d4b-33a2b4ee1f56")))
+      .backToStart();
+
+    assertThat(cursor.isAtStart(), is(true));
+    assertThat(cursor.getConfigurationId(), is("46d5d6e6-6bd4-4a2b-b1c5-c7ac4c7a2d7e"));
+    assertThat(cursor.valueAsJson().getString("lastDate"), nullValue());
+  }
+
+  @Test
+  public void cursorCanBeMovedToRecordWithoutDate() {
+    final ProcessingCursor cursor = ProcessingCursor.atStart("anonymization_cursor")
+      .moveTo("0e8cf0ab-1b7e-42d6-8d4b-33a2b4ee1f56");
+
+    assertThat(cursor.isAtStart(), is(false));
+    assertThat(cursor.getLastDate(), nullValue());
+    assertThat(cursor.valueAsJson().getString("lastRecordId"),
+      is("0e8cf0ab-1b7e-42d6-8d4b-33a2b4ee1f56"));
+  }
+
+  private Configuration configuration(String id, JsonObject value) {
+    return new Configuration(new JsonObject()
+      .put("id", id)
+      .put("value", value.encode()));
+  }
+}
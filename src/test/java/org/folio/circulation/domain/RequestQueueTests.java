@@ -3,7 +3,10 @@ package org.folio.circulation.domain;
 import api.support.builders.RequestBuilder;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
@@ -156,6 +159,64 @@ public class RequestQueueTests {
       requestQueue.getRequestsWithChangedPosition(), contains(fourthRequest, thirdRequest));
   }
 
+  @Test
+  public void requestsMovedBackToTheirOriginalPositionHaveNotChangedPosition() {
+    final UUID itemId = UUID.randomUUID();
+
+    Request firstRequest = requestAtPosition(itemId, 1);
+    Request secondRequest = requestAtPosition(itemId, 2);
+
+    final RequestQueue requestQueue = new RequestQueue(
+      asList(firstRequest, secondRequest));
+
+    firstRequest.changePosition(2);
+    secondRequest.changePosition(1);
+
+    firstRequest.changePosition(1);
+    secondRequest.changePosition(2);
+
+    assertThat("No requests have changed position",
+      requestQueue.getRequestsWithChangedPosition(), is(empty()));
+  }
+
+  @Test
+  public void onlyRequestsAfterRemovedRequestInLongQueueHaveChangedPosition() {
+    final UUID itemId = UUID.randomUUID();
+
+    final List<Request> requests = IntStream.rangeClosed(1, 500)
+      .mapToObj(position -> requestAtPosition(itemId, position))
+      .collect(Collectors.toList());
+
+    final RequestQueue requestQueue = new RequestQueue(requests);
+
+    requestQueue.remove(requests.get(497));
+
+    assertThat("Last two requests have changed position",
+      requestQueue.getRequestsWithChangedPosition(),
+      contains(requests.get(499), requests.get(498)));
+  }
+
+  @Test
+  public void onlyAddedRequestInLongQueueHasChangedPosition() {
+    final UUID itemId = UUID.randomUUID();
+
+    final List<Request> requests = IntStream.rangeClosed(1, 500)
+      .mapToObj(position -> requestAtPosition(itemId, position))
+      .collect(Collectors.toList());
+
+    final RequestQueue requestQueue = new RequestQueue(requests);
+
+    final Request newRequest = requestAtPosition(itemId, null);
+
+    requestQueue.add(newRequest);
+
+    assertThat("Added request should be at the end of the queue",
+      newRequest.getPosition(), is(501));
+
+    assertThat("Only added request has changed position",
+      requestQueue.getRequestsWithChangedPosition(), contains(newRequest));
+  }
+
   private Request requestAtPosition(UUID itemId, Integer position) {
     return Request.from(new RequestBuilder()
       .withId(UUID.randomUUID())
@@ -0,0 +1,102 @@
+package org.folio.circulation.domain.anonymization;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Optional;
+
+import org.folio.circulation.domain.anonymization.config.LoanAnonymizationConfiguration;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class LoanAnonymizationConfigurationTest {
+  private static final DateTime NOW = new DateTime(2020, 3, 11, 15, 30, DateTimeZone.UTC);
+
+  @Test
+  public void noLoansCanBeAnonymizedWhenNeverAnonymizing() {
+    final LoanAnonymizationConfiguration config = configuration("never", "never", true);
+
+    assertThat(config.canAnonymizeAnyLoans(), is(false));
+  }
+
+  @Test
+  public void noLoansCanBeAnonymizedWithoutSettings() {
+    final LoanAnonymizationConfiguration config =
+      LoanAnonymizationConfiguration.from(new JsonObject());
+
+    assertThat(config.canAnonymizeAnyLoans(), is(false));
+  }
+
+  @Test
+  public void loansWithFeesAndFinesCanBeAnonymizedWhenTreatedDifferently() {
+    final LoanAnonymizationConfiguration config = configuration("never", "immediately", true);
+
+    assertThat(config.canAnonymizeAnyLoans(), is(true));
+  }
+
+  @Test
+  public void loansWithFeesAndFinesSettingIsIgnoredWhenNotTreatedDifferently() {
+    final LoanAnonymizationConfiguration config = configuration("never", "immediately", false);
+
+    assertThat(config.canAnonymizeAnyLoans(), is(false));
+  }
+
+  @Test
+  public void latestReturnDateIsClosePeriodBeforeNow() {
+    final LoanAnonymizationConfiguration config = configuration("interval", "never", true);
+
+    assertThat(config.latestReturnDateThatCanBeAnonymized(NOW),
+      is(Optional.of(NOW.minusDays(3))));
+  }
+
+  @Test
+  public void noLatestReturnDateWhenAnonymizingImmediately() {
+    final LoanAnonymizationConfiguration config = configuration("immediately", "never", false);
+
+    assertThat(config.latestReturnDateThatCanBeAnonymized(NOW), is(Optional.empty()));
+  }
+
+  @Test
+  public void latestReturnDateIsStillUsedWhenLoansWithFeesAndFinesAreAnonymizedSeparately() {
+    final LoanAnonymizationConfiguration config = configuration("interval", "interval", true);
+
+    assertThat(config.latestReturnDateThatCanBeAnonymized(NOW),
+      is(Optional.of(NOW.minusDays(3))));
+    assertThat(config.anonymizesRecentlyReturnedLoansWithFeesAndFines(), is(true));
+    assertThat(config.anonymizesLoansWithFeesAndFinesAfterInterval(), is(true));
+  }
+
+  @Test
+  public void recentlyReturnedLoansAreNotFoundWhenFeesAndFinesAreNotTreatedDifferently() {
+    final LoanAnonymizationConfiguration config = configuration("interval", "immediately", false);
+
+    assertThat(config.anonymizesRecentlyReturnedLoansWithFeesAndFines(), is(false));
+  }
+
+  @Test
+  public void noLatestReturnDateWhenOnlyLoansWithFeesAndFinesAreAnonymized() {
+    final LoanAnonymizationConfiguration config = configuration("never", "interval", true);
+
+    assertThat(config.latestReturnDateThatCanBeAnonymized(NOW), is(Optional.empty()));
+    assertThat(config.anonymizesRecentlyReturnedLoansWithFeesAndFines(), is(false));
+  }
+
+  private LoanAnonymizationConfiguration configuration(String loanClosingType,
+    String feeFineClosingType, boolean treatEnabled) {
+
+    final JsonObject period = new JsonObject()
+      .put("duration", 3)
+      .put("intervalId", "Days");
+
+    return LoanAnonymizationConfiguration.from(new JsonObject()
+      .put("closingType", new JsonObject()
+        .put("loan", loanClosingType)
+        .put("feeFine", feeFineClosingType))
+      .put("loan", period)
+      .put("feeFine", period.copy())
+      .put("treatEnabled", treatEnabled));
+  }
+}
@@ -0,0 +1,47 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.HashSet;
+
+import org.junit.Test;
+
+public class LoanAnonymizationRecordsTest {
+  @Test
+  public void combiningRecordsKeepsLoansFromBoth() {
+    final LoanAnonymizationRecords firstPage = new LoanAnonymizationRecords()
+      .withAnonymizedLoans(asList("loan-1", "loan-2"))
+      .withNotAnonymizedLoans(singletonMap("haveAssociatedFeesAndFines",
+        new HashSet<>(asList("loan-3"))));
+
+    final LoanAnonymizationRecords secondPage = new LoanAnonymizationRecords()
+      .withAnonymizedLoans(asList("loan-4"))
+      .withNotAnonymizedLoans(singletonMap("haveAssociatedFeesAndFines",
+        new HashSet<>(asList("loan-5"))));
+
+    final LoanAnonymizationRecords combined = firstPage.combine(secondPage);
+
+    assertThat(combined.getAnonymizedLoans(),
+      containsInAnyOrder("loan-1", "loan-2", "loan-4"));
+    assertThat(combined.getNotAnonymizedLoans().get("haveAssociatedFeesAndFines"),
+      containsInAnyOrder("loan-3", "loan-5"));
+    assertThat(combined.getLoansFound(), is(empty()));
+  }
+
+  @Test
+  public void combiningWithEmptyRecordsChangesNothing() {
+    final LoanAnonymizationRecords records = new LoanAnonymizationRecords()
+      .withAnonymizedLoans(asList("loan-1"));
+
+    final LoanAnonymizationRecords combined = records
+      .combine(new LoanAnonymizationRecords());
+
+    assertThat(combined.getAnonymizedLoans(), containsInAnyOrder("loan-1"));
+    assertThat(combined.getNotAnonymizedLoans().isEmpty(), is(true));
+  }
+}
@@ -0,0 +1,271 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.ANONYMIZATION_CURSOR_NAME;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.FETCH_LOANS_PAGE_SIZE;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.RECENTLY_RETURNED_ANONYMIZATION_CURSOR_NAME;
+import static org.folio.circulation.domain.anonymization.LoanAnonymizationRecords.CAN_BE_ANONYMIZED_KEY;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.ProcessingCursor;
+import org.folio.circulation.domain.anonymization.service.AnonymizationCheckersService;
+import org.folio.circulation.domain.anonymization.service.LoansForTenantFinder;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.loans.AnonymizeStorageLoansRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.vertx.core.json.JsonObject;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TenantLoanAnonymizationServiceTest {
+  private static final int LOANS_IN_LAST_PAGE = 100;
+
+  // Each run uses its own tenant, so runs in other tests are never in progress
+  private final String tenantId = UUID.randomUUID().toString();
+
+  @Mock
+  private AnonymizationCheckersService anonymizationCheckersService;
+  @Mock
+  private LoansForTenantFinder loansFinder;
+  @Mock
+  private ConfigurationRepository configurationRepository;
+  @Mock
+  private Clients clients;
+  @Mock
+  private CollectionResourceClient anonymizeStorageLoansClient;
+
+  @Test
+  public void runStopsAfterMaximumNumberOfPagesAndRemembersLastLoan() {
+    cursorIs(ProcessingCursor.atStart(ANONYMIZATION_CURSOR_NAME));
+    closedLoansAreInThreePages();
+    allLoansCanBeAnonymized();
+    anonymizingInStorageSucceeds();
+    savingCursorSucceeds();
+
+    final Result<LoanAnonymizationRecords> result = service(2).anonymizeLoans().join();
+
+    assertThat(result.succeeded(), is(true));
+
+    // The page after the last one processed is not prefetched
+    verify(loansFinder, times(2)).findLoansToAnonymize(any(ProcessingCursor.class));
+
+    // Each page is sent to storage in batches of 500 loans
+    verify(anonymizeStorageLoansClient, times(20)).post(any(JsonObject.class));
+
+    assertThat(savedCursors(2), contains(loanId(FETCH_LOANS_PAGE_SIZE - 1),
+      loanId(2 * FETCH_LOANS_PAGE_SIZE - 1)));
+
+    // Only the IDs from the first page are kept for the outcome
+    assertThat(result.value().getAnonymizedLoans(), hasSize(FETCH_LOANS_PAGE_SIZE));
+  }
+
+  @Test
+  public void runContinuesFromCursorAndGoesBackToStartAfterLastPage() {
+    cursorIs(ProcessingCursor.atStart(ANONYMIZATION_CURSOR_NAME)
+      .moveTo(loanId(2 * FETCH_LOANS_PAGE_SIZE - 1)));
+
+    closedLoansAreInThreePages();
+    allLoansCanBeAnonymized();
+    anonymizingInStorageSucceeds();
+    savingCursorSucceeds();
+
+    final Result<LoanAnonymizationRecords> result = service(20).anonymizeLoans().join();
+
+    assertThat(result.succeeded(), is(true));
+
+    verify(loansFinder, times(1)).findLoansToAnonymize(any(ProcessingCursor.class));
+    verify(anonymizeStorageLoansClient, times(1)).post(any(JsonObject.class));
+
+    assertThat(result.value().getAnonymizedLoans(), hasSize(LOANS_IN_LAST_PAGE));
+
+    final ArgumentCaptor<ProcessingCursor> captor = ArgumentCaptor.forClass(ProcessingCursor.class);
+
+    verify(configurationRepository).saveProcessingCursor(captor.capture());
+
+    assertThat(captor.getValue().isAtStart(), is(true));
+  }
+
+  @Test
+  public void runIsSkippedWhilstAnotherRunForTheSameTenantIsInProgress() {
+    cursorIs(ProcessingCursor.atStart(ANONYMIZATION_CURSOR_NAME));
+    allLoansCanBeAnonymized();
+
+    final CompletableFuture<Result<Collection<Loan>>> firstPage = new CompletableFuture<>();
+
+    when(loansFinder.findLoansToAnonymize(any(ProcessingCursor.class)))
+      .thenReturn(firstPage)
+      .thenReturn(completedFuture(succeeded(emptyList())));
+
+    final CompletableFuture<Result<LoanAnonymizationRecords>> firstRun =
+      service(20).anonymizeLoans();
+
+    final Result<LoanAnonymizationRecords> overlappingRun =
+      service(20).anonymizeLoans().join();
+
+    assertThat(overlappingRun.succeeded(), is(true));
+    assertThat(overlappingRun.value().getAnonymizedLoans(), is(empty()));
+
+    verify(loansFinder, times(1)).findLoansToAnonymize(any(ProcessingCursor.class));
+
+    firstPage.complete(succeeded(emptyList()));
+
+    assertThat(firstRun.join().succeeded(), is(true));
+
+    // Once the first run has finished, the next one can start
+    service(20).anonymizeLoans().join();
+
+    verify(loansFinder, times(2)).findLoansToAnonymize(any(ProcessingCursor.class));
+    verify(configurationRepository, never()).saveProcessingCursor(any());
+  }
+
+  @Test
+  public void recentlyReturnedLoansAreAnonymizedFromTheirOwnCursor() {
+    cursorIs(ProcessingCursor.atStart(ANONYMIZATION_CURSOR_NAME));
+    cursorIs(ProcessingCursor.atStart(RECENTLY_RETURNED_ANONYMIZATION_CURSOR_NAME));
+    allLoansCanBeAnonymized();
+    anonymizingInStorageSucceeds();
+
+    when(loansFinder.findsRecentlyReturnedLoansWithFeesAndFines()).thenReturn(true);
+
+    when(loansFinder.findLoansToAnonymize(any(ProcessingCursor.class)))
+      .thenReturn(completedFuture(succeeded(asList(loan(1), loan(2)))));
+
+    when(loansFinder.findRecentlyReturnedLoansToAnonymize(any(ProcessingCursor.class)))
+      .thenReturn(completedFuture(succeeded(asList(loan(3)))));
+
+    final Result<LoanAnonymizationRecords> result = service(20).anonymizeLoans().join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(result.value().getAnonymizedLoans(),
+      containsInAnyOrder(loanId(1), loanId(2), loanId(3)));
+
+    verify(configurationRepository).findProcessingCursor(ANONYMIZATION_CURSOR_NAME);
+    verify(configurationRepository).findProcessingCursor(
+      RECENTLY_RETURNED_ANONYMIZATION_CURSOR_NAME);
+  }
+
+  private TenantLoanAnonymizationService service(int maximumPagesPerRun) {
+    when(clients.anonymizeStorageLoansClient()).thenReturn(anonymizeStorageLoansClient);
+
+    return new TenantLoanAnonymizationService(tenantId, anonymizationCheckersService,
+      loansFinder, new AnonymizeStorageLoansRepository(clients), configurationRepository,
+      maximumPagesPerRun);
+  }
+
+  private void cursorIs(ProcessingCursor cursor) {
+    when(configurationRepository.findProcessingCursor(ANONYMIZATION_CURSOR_NAME))
+      .thenReturn(completedFuture(succeeded(cursor)));
+  }
+
+  /**
+   * Two full pages of loans, followed by a shorter last page
+   */
+  private void closedLoansAreInThreePages() {
+    when(loansFinder.findLoansToAnonymize(any(ProcessingCursor.class)))
+      .thenAnswer(invocation -> {
+        final ProcessingCursor cursor = invocation.getArgument(0);
+
+        final int firstLoan = cursor.isAtStart()
+          ? 0
+          : loanNumber(cursor.getLastRecordId()) + 1;
+
+        final int lastLoan = Math.min(firstLoan + FETCH_LOANS_PAGE_SIZE,
+          2 * FETCH_LOANS_PAGE_SIZE + LOANS_IN_LAST_PAGE);
+
+        return completedFuture(succeeded(IntStream.range(firstLoan, lastLoan)
+          .mapToObj(TenantLoanAnonymizationServiceTest::loan)
+          .collect(toList())));
+      });
+  }
+
+  private void allLoansCanBeAnonymized() {
+    when(anonymizationCheckersService.segregateLoans(anyCollection()))
+      .thenAnswer(invocation -> {
+        final Collection<Loan> loans = invocation.getArgument(0);
+        final Map<String, Set<String>> segregatedLoans = new HashMap<>();
+
+        segregatedLoans.put(CAN_BE_ANONYMIZED_KEY, loans.stream()
+          .map(Loan::getId)
+          .collect(toSet()));
+
+        return segregatedLoans;
+      });
+  }
+
+  private void anonymizingInStorageSucceeds() {
+    when(anonymizeStorageLoansClient.post(any(JsonObject.class)))
+      .thenAnswer(invocation -> {
+        final JsonObject request = invocation.getArgument(0);
+
+        final JsonObject response = new JsonObject()
+          .put("anonymizedLoans", request.getJsonArray("loanIds"));
+
+        return completedFuture(succeeded(
+          new Response(200, response.encode(), "application/json")));
+      });
+  }
+
+  private void savingCursorSucceeds() {
+    when(configurationRepository.saveProcessingCursor(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  private List<String> savedCursors(int expectedNumberOfSaves) {
+    final ArgumentCaptor<ProcessingCursor> captor = ArgumentCaptor.forClass(ProcessingCursor.class);
+
+    verify(configurationRepository, times(expectedNumberOfSaves))
+      .saveProcessingCursor(captor.capture());
+
+    return captor.getAllValues().stream()
+      .map(ProcessingCursor::getLastRecordId)
+      .collect(toList());
+  }
+
+  private static Loan loan(int number) {
+    return Loan.from(new JsonObject()
+      .put("id", loanId(number))
+      .put("status", new JsonObject().put("name", "Closed")));
+  }
+
+  private static String loanId(int number) {
+    return String.format("00000000-0000-4000-8000-%012d", number);
+  }
+
+  private static int loanNumber(String loanId) {
+    return Integer.parseInt(loanId.substring(loanId.lastIndexOf('-') + 1));
+  }
+}
@@ -0,0 +1,99 @@
+package org.folio.circulation.domain.notice;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.UUID;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.User;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class LoanNoticeContextBuilderTests {
+  @Test
+  public void userAndItemContextsAreOnlyBuiltOnceForManyLoans() {
+    final LoanNoticeContextBuilder builder = new LoanNoticeContextBuilder();
+
+    final User user = user("Jessica");
+    final Item item = item("036000291452");
+
+    final JsonObject firstContext = builder.createLoanNoticeContext(loan(user, item));
+    final JsonObject secondContext = builder.createLoanNoticeContext(loan(user, item));
+
+    assertThat(secondContext.getJsonObject("user"),
+      sameInstance(firstContext.getJsonObject("user")));
+
+    assertThat(secondContext.getJsonObject("item"),
+      sameInstance(firstContext.getJsonObject("item")));
+
+    assertThat(secondContext.getJsonObject("loan"),
+      not(sameInstance(firstContext.getJsonObject("loan"))));
+  }
+
+  @Test
+  public void contextsAreTheSameAsThoseBuiltIndividually() {
+    final LoanNoticeContextBuilder builder = new LoanNoticeContextBuilder();
+
+    final Loan loan = loan(user("Jessica"), item("036000291452"));
+
+    // Builds the user and item contexts, so they are reused for the next context
+    builder.createLoanNoticeContext(loan);
+
+    assertThat(builder.createLoanNoticeContext(loan),
+      is(TemplateContextUtil.createLoanNoticeContext(loan)));
+
+    assertThat(builder.createLoanNoticeContextWithoutUser(loan),
+      is(TemplateContextUtil.createLoanNoticeContextWithoutUser(loan)));
+  }
+
+  @Test
+  public void contextsForDifferentUsersAreBuiltSeparately() {
+    final LoanNoticeContextBuilder builder = new LoanNoticeContextBuilder();
+
+    final Item item = item("036000291452");
+
+    final JsonObject jessicasContext = builder.createLoanNoticeContext(
+      loan(user("Jessica"), item));
+
+    final JsonObject stevesContext = builder.createLoanNoticeContext(
+      loan(user("Steve"), item));
+
+    assertThat(jessicasContext.getJsonObject("user").getString("firstName"),
+      is("Jessica"));
+
+    assertThat(stevesContext.getJsonObject("user").getString("firstName"),
+      is("Steve"));
+  }
+
+  private static Loan loan(User user, Item item) {
+    return Loan.from(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("userId", user.getId())
+      .put("itemId", item.getItemId())
+      .put("loanDate", "2020-11-01T10:00:00.000Z")
+      .put("dueDate", "2020-11-15T10:00:00.000Z"))
+      .withUser(user)
+      .withItem(item);
+  }
+
+  private static User user(String firstName) {
+    return new User(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("barcode", "5694596854")
+      .put("personal", new JsonObject()
+        .put("firstName", firstName)
+        .put("lastName", "Jones")));
+  }
+
+  private static Item item(String barcode) {
+    return Item.from(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("barcode", barcode)
+      .put("status", new JsonObject().put("name", "Checked out")));
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.circulation.domain.notice.schedule;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.folio.circulation.domain.notice.NoticeTiming.BEFORE;
+import static org.folio.circulation.domain.notice.NoticeTiming.UPON_AT;
+import static org.folio.circulation.domain.notice.schedule.TriggeringEvent.DUE_DATE;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.UUID;
+
+import org.folio.circulation.domain.notice.NoticeFormat;
+import org.folio.circulation.domain.notice.NoticeTiming;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class ScheduledNoticeChangesTests {
+  private static final String LOAN_ID = UUID.randomUUID().toString();
+  private static final DateTime DUE_DATE_TIME = new DateTime(2020, 11, 5, 10, 0, UTC);
+
+  @Test
+  public void unchangedNoticesAreLeftAlone() {
+    final ScheduledNotice existing = notice(UPON_AT, DUE_DATE_TIME);
+
+    final ScheduledNoticeChanges changes = ScheduledNoticeChanges.between(
+      singletonList(existing), singletonList(notice(UPON_AT, DUE_DATE_TIME)));
+
+    assertThat(changes.isEmpty(), is(true));
+  }
+
+  @Test
+  public void rescheduledNoticesAreUpdatedInPlace() {
+    final ScheduledNotice existing = notice(UPON_AT, DUE_DATE_TIME);
+    final DateTime newDueDate = DUE_DATE_TIME.plusWeeks(1);
+
+    final ScheduledNoticeChanges changes = ScheduledNoticeChanges.between(
+      singletonList(existing), singletonList(notice(UPON_AT, newDueDate)));
+
+    assertThat(changes.getToCreate(), is(empty()));
+    assertThat(changes.getToDelete(), is(empty()));
+    assertThat(changes.getToUpdate().size(), is(1));
+
+    final ScheduledNotice updated = changes.getToUpdate().get(0);
+
+    assertThat(updated.getId(), is(existing.getId()));
+    assertThat(updated.getNextRunTime().isEqual(newDueDate), is(true));
+  }
+
+  @Test
+  public void noticesNoLongerNeededAreDeletedAndNewOnesCreated() {
+    final ScheduledNotice noLongerNeeded = notice(UPON_AT, DUE_DATE_TIME);
+    final ScheduledNotice newlyNeeded = notice(BEFORE, DUE_DATE_TIME.minusDays(1));
+
+    final ScheduledNoticeChanges changes = ScheduledNoticeChanges.between(
+      singletonList(noLongerNeeded), singletonList(newlyNeeded));
+
+    assertThat(changes.getToUpdate(), is(empty()));
+    assertThat(changes.getToCreate(), contains(newlyNeeded));
+    assertThat(changes.getToDelete(), contains(noLongerNeeded));
+  }
+
+  @Test
+  public void duplicateExistingNoticesAreDeleted() {
+    final ScheduledNotice first = notice(UPON_AT, DUE_DATE_TIME);
+    final ScheduledNotice duplicate = notice(UPON_AT, DUE_DATE_TIME);
+
+    final ScheduledNoticeChanges changes = ScheduledNoticeChanges.between(
+      asList(first, duplicate), singletonList(notice(UPON_AT, DUE_DATE_TIME)));
+
+    assertThat(changes.getToCreate(), is(empty()));
+    assertThat(changes.getToUpdate(), is(empty()));
+    assertThat(changes.getToDelete(), contains(duplicate));
+  }
+
+  @Test
+  public void allExistingNoticesAreDeletedWhenNoneAreNeeded() {
+    final ScheduledNotice existing = notice(UPON_AT, DUE_DATE_TIME);
+
+    final ScheduledNoticeChanges changes = ScheduledNoticeChanges.between(
+      singletonList(existing), emptyList());
+
+    assertThat(changes.getToDelete(), contains(existing));
+  }
+
+  private static ScheduledNotice notice(NoticeTiming timing, DateTime nextRunTime) {
+    return new ScheduledNoticeBuilder()
+      .setId(UUID.randomUUID().toString())
+      .setLoanId(LOAN_ID)
+      .setRecipientUserId("user-id")
+      .setTriggeringEvent(DUE_DATE)
+      .setNextRunTime(nextRunTime)
+      .setNoticeConfig(new ScheduledNoticeConfigBuilder()
+        .setTemplateId("template-id")
+        .setTiming(timing)
+        .setFormat(NoticeFormat.EMAIL)
+        .setSendInRealTime(false)
+        .build())
+      .build();
+  }
+}
@@ -0,0 +1,187 @@
+package org.folio.circulation.domain.notice.session;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.domain.notice.session.PatronActionType.CHECK_IN;
+import static org.folio.circulation.domain.notice.session.PatronActionType.CHECK_OUT;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.folio.circulation.domain.ProcessingCursor;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.sessions.PatronExpiredSessionRepository;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExpiredSessionProcessingServiceTest {
+  private static final String CURSOR_NAME = "expired_session_cursor";
+
+  @Mock
+  private PatronExpiredSessionRepository expiredSessionRepository;
+  @Mock
+  private PatronActionSessionService patronActionSessionService;
+  @Mock
+  private ConfigurationRepository configurationRepository;
+
+  @Test
+  public void sessionsAreEndedInGroupsOfPatronsWithTheSameActionType() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME));
+
+    expiredSessionsAre(session("a", CHECK_OUT), session("b", CHECK_OUT),
+      session("c", CHECK_OUT), session("d", CHECK_IN));
+
+    endingSessionsSucceeds();
+
+    final Result<Void> result = service(10, 2, 5)
+      .endExpiredSessions(DateTime.now()).join();
+
+    assertThat(result.succeeded(), is(true));
+
+    assertThat(endedGroups(3), containsInAnyOrder(
+      asList("a", "b"), asList("c"), asList("d")));
+
+    // Nothing is left to process, and the cursor was already at the start
+    verify(configurationRepository, never()).saveProcessingCursor(any());
+  }
+
+  @Test
+  public void runStopsAfterMaximumNumberOfPagesAndRemembersLastPatron() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME));
+
+    expiredSessionsAre(session("d", CHECK_OUT), session("c", CHECK_OUT),
+      session("b", CHECK_OUT), session("a", CHECK_OUT));
+
+    endingSessionsSucceeds();
+    savingCursorSucceeds();
+
+    service(2, 2, 1).endExpiredSessions(DateTime.now()).join();
+
+    assertThat(endedGroups(1), contains(asList("a", "b")));
+    assertThat(savedCursor().getLastRecordId(), is("b"));
+  }
+
+  @Test
+  public void runContinuesAfterLastPatronReachedByPreviousRun() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME).moveTo("b"));
+
+    expiredSessionsAre(session("a", CHECK_OUT), session("b", CHECK_OUT),
+      session("c", CHECK_OUT), session("d", CHECK_OUT));
+
+    endingSessionsSucceeds();
+    savingCursorSucceeds();
+
+    service(2, 2, 1).endExpiredSessions(DateTime.now()).join();
+
+    assertThat(endedGroups(1), contains(asList("c", "d")));
+    assertThat(savedCursor().getLastRecordId(), is("d"));
+  }
+
+  @Test
+  public void failureToEndOneGroupDoesNotStopOtherGroups() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME));
+
+    expiredSessionsAre(session("a", CHECK_OUT), session("b", CHECK_OUT));
+
+    when(patronActionSessionService.endSession(anyList()))
+      .thenReturn(completedFuture(failed(new ServerErrorFailure("Failed"))))
+      .thenReturn(completedFuture(succeeded(null)));
+
+    final Result<Void> result = service(10, 1, 5)
+      .endExpiredSessions(DateTime.now()).join();
+
+    assertThat(result.succeeded(), is(true));
+
+    verify(patronActionSessionService, times(2)).endSession(anyList());
+  }
+
+  @Test
+  public void sessionsWithoutPatronAreIgnored() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME));
+
+    expiredSessionsAre(session("", CHECK_OUT));
+
+    final Result<Void> result = service(10, 2, 5)
+      .endExpiredSessions(DateTime.now()).join();
+
+    assertThat(result.succeeded(), is(true));
+
+    verify(patronActionSessionService, never()).endSession(anyList());
+  }
+
+  private ExpiredSessionProcessingService service(int pageSize,
+    int patronsPerGroup, int maximumPages) {
+
+    return new ExpiredSessionProcessingService(expiredSessionRepository,
+      patronActionSessionService, configurationRepository, pageSize,
+      patronsPerGroup, maximumPages);
+  }
+
+  private void cursorIs(ProcessingCursor cursor) {
+    when(configurationRepository.findProcessingCursor(CURSOR_NAME))
+      .thenReturn(completedFuture(succeeded(cursor)));
+  }
+
+  // Sessions are never removed, as if none of them could be ended
+  private void expiredSessionsAre(ExpiredSession... sessions) {
+    when(expiredSessionRepository.findPatronExpiredSessions(any(), anyString(), anyInt()))
+      .thenReturn(completedFuture(succeeded(asList(sessions))));
+  }
+
+  private void endingSessionsSucceeds() {
+    when(patronActionSessionService.endSession(anyList()))
+      .thenReturn(completedFuture(succeeded(null)));
+  }
+
+  private void savingCursorSucceeds() {
+    when(configurationRepository.saveProcessingCursor(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<List<String>> endedGroups(int expectedNumberOfGroups) {
+    final ArgumentCaptor<List<ExpiredSession>> captor = ArgumentCaptor.forClass(List.class);
+
+    verify(patronActionSessionService, times(expectedNumberOfGroups))
+      .endSession(captor.capture());
+
+    return captor.getAllValues().stream()
+      .map(group -> group.stream()
+        .map(ExpiredSession::getPatronId)
+        .collect(toList()))
+      .collect(toList());
+  }
+
+  private ProcessingCursor savedCursor() {
+    final ArgumentCaptor<ProcessingCursor> captor = ArgumentCaptor.forClass(ProcessingCursor.class);
+
+    verify(configurationRepository).saveProcessingCursor(captor.capture());
+
+    return captor.getValue();
+  }
+
+  private static ExpiredSession session(String patronId, PatronActionType actionType) {
+    return new ExpiredSession(patronId, actionType);
+  }
+}
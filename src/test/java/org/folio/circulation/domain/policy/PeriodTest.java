@@ -6,6 +6,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import org.joda.time.DateTime;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -143,4 +144,32 @@ public class PeriodTest {
       // additional check to make the test stable
       || period.hasPassedSinceDateTillNow(startDate));
   }
+
+  @Test
+  @Parameters( {
+    "Minutes, 30",
+    "Hours, 6",
+    "Days, 3",
+    "Weeks, 2"
+  })
+  public void latestStartDateHavingPassedByIsPeriodBeforeEndDate(String interval,
+    int duration) {
+
+    val period = Period.from(duration, interval);
+    val endDate = new DateTime(2020, 3, 15, 10, 0, UTC);
+
+    assertEquals(endDate.minus(period.timePeriod()),
+      period.latestStartDateHavingPassedBy(endDate));
+  }
+
+  @Test
+  public void latestStartDateHavingPassedByAllowsForShorterMonths() {
+    val period = Period.months(1);
+    val endDate = new DateTime(2021, 2, 28, 10, 0, UTC);
+    val startDateAtEndOfLongerMonth = new DateTime(2021, 1, 31, 10, 0, UTC);
+
+    assertFalse(startDateAtEndOfLongerMonth.plus(period.timePeriod()).isAfter(endDate));
+    assertFalse(startDateAtEndOfLongerMonth.isAfter(
+      period.latestStartDateHavingPassedBy(endDate)));
+  }
 }
@@ -1,15 +1,37 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import java.util.ArrayList;
 import java.util.Collection;
 import org.folio.circulation.domain.Configuration;
 import org.folio.circulation.domain.anonymization.config.LoanAnonymizationConfiguration;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTimeZone;
+import org.junit.After;
 import org.junit.Test;
 
 public class ConfigurationRepositoryTest {
+  private final CollectionResourceClient configurationClient = mock(CollectionResourceClient.class);
+
+  @After
+  public void forgetSettings() {
+    ConfigurationRepository.clearCache();
+  }
+
   private LoanAnonymizationConfiguration getFirstConfiguration(String... values) {
     Collection<Configuration> collection = new ArrayList<>(values.length);
     for (String value : values) {
@@ -28,4 +50,39 @@ public class ConfigurationRepositoryTest {
     JsonObject actual = getFirstConfiguration("{\"foo\":1}", "{\"bar\":2}").getRepresentation();
     assertEquals(new JsonObject().put("foo", 1), actual);
   }
+
+  @Test
+  public void timeZoneIsRememberedForEachTenant() {
+    when(configurationClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(Result.succeeded(timeZoneResponse("America/New_York"))));
+
+    assertEquals(DateTimeZone.forID("America/New_York"), findTimeZone("tenant-a"));
+    assertEquals(DateTimeZone.forID("America/New_York"), findTimeZone("tenant-a"));
+    assertEquals(DateTimeZone.forID("America/New_York"), findTimeZone("tenant-b"));
+
+    verify(configurationClient, times(2)).getMany(any(CqlQuery.class), any(PageLimit.class));
+  }
+
+  private DateTimeZone findTimeZone(String tenantId) {
+    final Clients clients = mock(Clients.class);
+    when(clients.getTenantId()).thenReturn(tenantId);
+    when(clients.configurationStorageClient()).thenReturn(configurationClient);
+
+    return new ConfigurationRepository(clients).findTimeZoneConfiguration()
+      .join().value();
+  }
+
+  private static Response timeZoneResponse(String timeZone) {
+    final JsonObject value = new JsonObject()
+      .put("locale", "en-US")
+      .put("timezone", timeZone);
+
+    final JsonObject body = new JsonObject()
+      .put("configs", new JsonArray().add(new JsonObject()
+        .put("id", "1")
+        .put("value", value.encode())))
+      .put("totalRecords", 1);
+
+    return new Response(200, body.encode(), "application/json");
+  }
 }
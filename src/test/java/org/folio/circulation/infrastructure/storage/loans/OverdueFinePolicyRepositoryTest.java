@@ -0,0 +1,61 @@
+package org.folio.circulation.infrastructure.storage.loans;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class OverdueFinePolicyRepositoryTest {
+  private static final String POLICY_ID = "cd3f6cac-fa17-4079-9fae-2fb28e521412";
+
+  private final CollectionResourceClient policyStorageClient = mock(CollectionResourceClient.class);
+
+  @After
+  public void forgetPolicies() {
+    CirculationPolicyRepository.clearCache();
+  }
+
+  @Test
+  public void policyIsRememberedForEachTenant() {
+    when(policyStorageClient.get(anyString()))
+      .thenReturn(completedFuture(Result.succeeded(policyResponse("Overdue fines"))));
+
+    assertEquals("Overdue fines", findPolicyName("tenant-a"));
+    assertEquals("Overdue fines", findPolicyName("tenant-a"));
+    assertEquals("Overdue fines", findPolicyName("tenant-b"));
+
+    verify(policyStorageClient, times(2)).get(POLICY_ID);
+  }
+
+  private String findPolicyName(String tenantId) {
+    final Clients clients = mock(Clients.class);
+    when(clients.getTenantId()).thenReturn(tenantId);
+    when(clients.overdueFinesPoliciesStorage()).thenReturn(policyStorageClient);
+
+    return new OverdueFinePolicyRepository(clients)
+      .lookupPolicy(POLICY_ID, new AppliedRuleConditions(false, false, false))
+      .join().value().getName();
+  }
+
+  private static Response policyResponse(String name) {
+    final JsonObject body = new JsonObject()
+      .put("id", POLICY_ID)
+      .put("name", name);
+
+    return new Response(200, body.encode(), "application/json");
+  }
+}
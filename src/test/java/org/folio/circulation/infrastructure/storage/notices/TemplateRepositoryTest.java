@@ -0,0 +1,88 @@
+package org.folio.circulation.infrastructure.storage.notices;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.ForwardOnFailure;
+import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TemplateRepositoryTest {
+  // Templates are remembered for all repositories, so each test uses its own tenant
+  private final String tenantId = UUID.randomUUID().toString();
+  private final String templateId = UUID.randomUUID().toString();
+
+  @Mock
+  private CollectionResourceClient templateNoticesClient;
+
+  @Test
+  public void templateFoundIsRemembered() {
+    when(templateNoticesClient.get(templateId))
+      .thenReturn(completedFuture(succeeded(response(200))));
+
+    final TemplateRepository repository = repository();
+
+    repository.failIfTemplateNotFound(templateId).join();
+
+    final Result<String> result = repository.failIfTemplateNotFound(templateId).join();
+
+    assertThat(result.value(), is(templateId));
+    verify(templateNoticesClient, times(1)).get(templateId);
+  }
+
+  @Test
+  public void templateNotFoundIsNotRemembered() {
+    when(templateNoticesClient.get(templateId))
+      .thenReturn(completedFuture(succeeded(response(404))));
+
+    final TemplateRepository repository = repository();
+
+    repository.failIfTemplateNotFound(templateId).join();
+
+    final Result<String> result = repository.failIfTemplateNotFound(templateId).join();
+
+    assertThat(result.cause(), instanceOf(RecordNotFoundFailure.class));
+    verify(templateNoticesClient, times(2)).get(templateId);
+  }
+
+  @Test
+  public void failureToFetchTemplateIsNotRemembered() {
+    when(templateNoticesClient.get(templateId))
+      .thenReturn(completedFuture(succeeded(response(500))))
+      .thenReturn(completedFuture(succeeded(response(200))));
+
+    final TemplateRepository repository = repository();
+
+    final Result<String> failedResult = repository.failIfTemplateNotFound(templateId).join();
+
+    assertThat(failedResult.cause(), instanceOf(ForwardOnFailure.class));
+
+    final Result<String> result = repository.failIfTemplateNotFound(templateId).join();
+
+    assertThat(result.value(), is(templateId));
+    verify(templateNoticesClient, times(2)).get(templateId);
+  }
+
+  private TemplateRepository repository() {
+    return new TemplateRepository(templateNoticesClient, tenantId);
+  }
+
+  private static Response response(int statusCode) {
+    return new Response(statusCode, "", "application/json");
+  }
+}
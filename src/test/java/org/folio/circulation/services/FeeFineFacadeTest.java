@@ -11,6 +11,9 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -40,6 +43,7 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -64,17 +68,16 @@ public class FeeFineFacadeTest {
     when(clients.servicePointsStorage()).thenReturn(servicePointClient);
 
     feeFineFacade = new FeeFineFacade(clients);
-
-    when(userClient.get(anyString()))
-      .thenReturn(completedFuture(succeeded(emptyJsonResponse(200))));
-    when(servicePointClient.get(anyString()))
-      .thenReturn(completedFuture(succeeded(emptyJsonResponse(200))));
   }
 
   @Test
   public void shouldForwardFailureIfAnAccountIsNotCreated() {
     final String expectedError = "Fee fine account failed to be created";
 
+    when(userClient.get(anyString()))
+      .thenReturn(completedFuture(succeeded(emptyJsonResponse(200))));
+    when(servicePointClient.get(anyString()))
+      .thenReturn(completedFuture(succeeded(emptyJsonResponse(200))));
     when(accountClient.post(any())).thenAnswer(postRespondWithRequestAndFail());
 
     when(accountActionsClient.post(any(JsonObject.class)))
@@ -96,6 +99,7 @@ public class FeeFineFacadeTest {
   public void shouldForwardFailureIfAnAccountIsNotRefunded() throws Exception {
     final String expectedError = "Fee fine account failed to be refunded";
 
+    stubUsersAndServicePoints();
     when(accountClient.put(anyString(), any())).thenAnswer(putRespondAndFail());
 
     when(accountActionsClient.post(any(JsonObject.class)))
@@ -111,6 +115,66 @@ public class FeeFineFacadeTest {
     assertThat(((ServerErrorFailure) result.cause()).getReason(), is(expectedError));
   }
 
+  @Test
+  public void shouldFetchUsersAndServicePointsOnceForAllRefunds() throws Exception {
+    stubUsersAndServicePoints();
+
+    when(accountClient.put(anyString(), any()))
+      .thenReturn(completedFuture(succeeded(emptyJsonResponse(204))));
+
+    when(accountActionsClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(emptyJsonResponse(201))));
+
+    final Result<Void> result = feeFineFacade.refundAndCloseAccounts(Arrays.asList(
+      refundCommand(), refundCommand(), refundCommand())).get(5, TimeUnit.SECONDS);
+
+    assertThat(result.succeeded(), is(true));
+
+    verify(userClient, times(1)).getMany(any(), any());
+    verify(servicePointClient, times(1)).getMany(any(), any());
+    verify(userClient, never()).get(anyString());
+    verify(servicePointClient, never()).get(anyString());
+
+    verify(accountClient, times(3)).put(anyString(), any());
+  }
+
+  @Test
+  public void shouldNotRefundAnyAccountWhenOneCannotBeRefunded() throws Exception {
+    stubUsersAndServicePoints();
+
+    final JsonObject overdueFine = new JsonObject()
+      .put("feeFineType", "Overdue fine")
+      .put("amount", 10.0)
+      .put("remaining", 10.0)
+      .put("id", UUID.randomUUID().toString());
+
+    final Result<Void> result = feeFineFacade.refundAndCloseAccounts(Arrays.asList(
+      refundCommand(), new RefundAccountCommand(Account.from(overdueFine)
+        .withFeeFineActions(emptyList()), "user-id", "sp-id")))
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.failed(), is(true));
+    assertThat(result.cause(), instanceOf(ServerErrorFailure.class));
+
+    verify(accountActionsClient, never()).post(any(JsonObject.class));
+    verify(accountClient, never()).put(anyString(), any());
+  }
+
+  private void stubUsersAndServicePoints() {
+    final JsonObject users = new JsonObject()
+      .put("users", new JsonArray().add(new JsonObject().put("id", "user-id")))
+      .put("totalRecords", 1);
+
+    final JsonObject servicePoints = new JsonObject()
+      .put("servicepoints", new JsonArray().add(new JsonObject().put("id", "sp-id")))
+      .put("totalRecords", 1);
+
+    when(userClient.getMany(any(), any()))
+      .thenReturn(completedFuture(succeeded(jsonResponse(200, users))));
+    when(servicePointClient.getMany(any(), any()))
+      .thenReturn(completedFuture(succeeded(jsonResponse(200, servicePoints))));
+  }
+
   private CreateAccountCommand.CreateAccountCommandBuilder createCommandBuilder() {
     final Item item = Item.from(new JsonObject())
       .withLocation(Location.from(new JsonObject().put("name", "Main library")));
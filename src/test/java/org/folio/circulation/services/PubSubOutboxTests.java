@@ -0,0 +1,157 @@
+package org.folio.circulation.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.rest.jaxrs.model.Event;
+import org.junit.Test;
+
+import io.vertx.core.Vertx;
+
+public class PubSubOutboxTests {
+  @Test
+  public void eventsForTheSameLoanArePublishedInOrder() {
+    final PubSubOutbox outbox = new PubSubOutbox(10, 3);
+
+    final List<String> published = new ArrayList<>();
+    final CompletableFuture<Boolean> firstPublication = new CompletableFuture<>();
+
+    outbox.add("loan-1", event("first"), event -> {
+      published.add(event.getEventType());
+      return firstPublication;
+    });
+
+    outbox.add("loan-1", event("second"), event -> {
+      published.add(event.getEventType());
+      return completedFuture(true);
+    });
+
+    assertThat(published, contains("first"));
+
+    firstPublication.complete(true);
+
+    assertThat(published, contains("first", "second"));
+    assertThat(outbox.getUnpublishedEvents(), is(0));
+  }
+
+  @Test
+  public void eventsForDifferentLoansInTheSameBatchArePublishedTogether() {
+    final PubSubOutbox outbox = new PubSubOutbox(10, 3);
+
+    final CompletableFuture<Boolean> blockingPublication = new CompletableFuture<>();
+    final List<String> published = new ArrayList<>();
+
+    // Holds up the first batch, so that the next events are taken together
+    outbox.add("loan-0", event("blocking"), event -> blockingPublication);
+
+    outbox.add("loan-1", event("first loan"), event -> {
+      published.add(event.getEventType());
+      return new CompletableFuture<>();
+    });
+
+    outbox.add("loan-2", event("second loan"), event -> {
+      published.add(event.getEventType());
+      return new CompletableFuture<>();
+    });
+
+    blockingPublication.complete(true);
+
+    assertThat(published, contains("first loan", "second loan"));
+  }
+
+  @Test
+  public void failedEventsArePublishedAgain() {
+    final PubSubOutbox outbox = new PubSubOutbox(10, 3);
+
+    final AtomicInteger attempts = new AtomicInteger();
+
+    outbox.add("loan-1", event("retried"), event -> attempts.incrementAndGet() < 3
+      ? failedPublication()
+      : completedFuture(true));
+
+    assertThat(attempts.get(), is(3));
+    assertThat(outbox.getUnpublishedEvents(), is(0));
+  }
+
+  @Test
+  public void failedEventsArePublishedAgainAfterADelayOnAContext() throws Exception {
+    final Vertx vertx = Vertx.vertx();
+
+    try {
+      final PubSubOutbox outbox = new PubSubOutbox(10, 3);
+
+      final AtomicInteger attempts = new AtomicInteger();
+      final CompletableFuture<Integer> attemptsStraightAfterFailure = new CompletableFuture<>();
+
+      vertx.getOrCreateContext().runOnContext(notUsed -> {
+        outbox.add("loan-1", event("retried"), event -> attempts.incrementAndGet() < 2
+          ? failedPublication()
+          : completedFuture(true));
+
+        attemptsStraightAfterFailure.complete(attempts.get());
+      });
+
+      // The next attempt waits for a timer, rather than being made immediately
+      assertThat(attemptsStraightAfterFailure.get(5, SECONDS), is(1));
+
+      outbox.whenPublished().get(5, SECONDS);
+
+      assertThat(attempts.get(), is(2));
+    }
+    finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void eventsAreGivenUpOnAfterTooManyAttempts() {
+    final PubSubOutbox outbox = new PubSubOutbox(10, 2);
+
+    final AtomicInteger attempts = new AtomicInteger();
+
+    outbox.add("loan-1", event("failing"), event -> {
+      attempts.incrementAndGet();
+      return failedPublication();
+    });
+
+    assertThat(attempts.get(), is(2));
+    assertThat(outbox.whenPublished().isDone(), is(true));
+  }
+
+  @Test
+  public void publishedOnceAllEventsHaveBeenPublished() {
+    final PubSubOutbox outbox = new PubSubOutbox(10, 3);
+
+    final CompletableFuture<Boolean> publication = new CompletableFuture<>();
+
+    outbox.add("loan-1", event("waiting"), event -> publication);
+
+    final CompletableFuture<Void> published = outbox.whenPublished();
+
+    assertThat(published.isDone(), is(false));
+
+    publication.complete(true);
+
+    assertThat(published.isDone(), is(true));
+  }
+
+  private static Event event(String eventType) {
+    return new Event().withEventType(eventType);
+  }
+
+  private static CompletableFuture<Boolean> failedPublication() {
+    final CompletableFuture<Boolean> publication = new CompletableFuture<>();
+
+    publication.completeExceptionally(new RuntimeException("Publishing failed"));
+
+    return publication;
+  }
+}
@@ -0,0 +1,205 @@
+package org.folio.circulation.services.agedtolost;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.domain.FeeFine.LOST_ITEM_FEE_TYPE;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.StoreLoanAndItem;
+import org.folio.circulation.domain.FeeFine;
+import org.folio.circulation.domain.FeeFineOwner;
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.folio.circulation.infrastructure.storage.feesandfines.FeeFineOwnerRepository;
+import org.folio.circulation.infrastructure.storage.feesandfines.FeeFineRepository;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyRepository;
+import org.folio.circulation.services.FeeFineFacade;
+import org.folio.circulation.services.support.CreateAccountCommand;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import api.support.builders.LostItemFeePolicyBuilder;
+import io.vertx.core.json.JsonObject;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChargeLostFeesWhenAgedToLostServiceTest {
+  private final String servicePointWithOwner = UUID.randomUUID().toString();
+  private final String servicePointWithoutOwner = UUID.randomUUID().toString();
+
+  private final LostItemPolicy setCostPolicy = LostItemPolicy.from(
+    new LostItemFeePolicyBuilder()
+      .billPatronImmediatelyWhenAgedToLost()
+      .withSetCost(11.00)
+      .create());
+
+  @Mock
+  private LostItemPolicyRepository lostItemPolicyRepository;
+  @Mock
+  private FeeFineOwnerRepository feeFineOwnerRepository;
+  @Mock
+  private FeeFineRepository feeFineRepository;
+  @Mock
+  private FeeFineFacade feeFineFacade;
+  @Mock
+  private LoanRepository loanRepository;
+  @Mock
+  private ItemRepository itemRepository;
+  @Mock
+  private StoreLoanAndItem storeLoanAndItem;
+
+  @Test
+  public void otherLoansAreBilledWhenCreatingAccountsForOneLoanFails() {
+    final Loan failingLoan = agedToLostLoan(servicePointWithOwner);
+    final Loan firstLoan = agedToLostLoan(servicePointWithOwner);
+    final Loan secondLoan = agedToLostLoan(servicePointWithOwner);
+
+    loansToBillAre(firstLoan, failingLoan, secondLoan);
+
+    existingAccountsAreFound();
+
+    when(feeFineFacade.createAccountsIdempotently(anyCollection(), anyMap()))
+      .thenAnswer(invocation -> {
+        final Collection<CreateAccountCommand> accounts = invocation.getArgument(0);
+
+        return completedFuture(accounts.stream()
+          .anyMatch(account -> account.getLoan().getId().equals(failingLoan.getId()))
+          ? failed(new ServerErrorFailure("Unable to create account"))
+          : succeeded(null));
+      });
+
+    updatingLoansSucceeds();
+
+    final Result<Void> result = service().chargeFees().join();
+
+    // The failure is still reported, after the other loans have been billed
+    assertThat(result.failed(), is(true));
+
+    // The existing accounts for all of the loans are looked up together
+    verify(feeFineFacade, times(1)).findExistingAccounts(anyCollection());
+    verify(feeFineFacade, times(3)).createAccountsIdempotently(anyCollection(), anyMap());
+
+    assertThat(billedLoanIds(2), containsInAnyOrder(firstLoan.getId(), secondLoan.getId()));
+  }
+
+  @Test
+  public void otherLoansAreBilledWhenOneLoanHasNoFeeFineOwner() {
+    final Loan loanWithoutOwner = agedToLostLoan(servicePointWithoutOwner);
+    final Loan loanWithOwner = agedToLostLoan(servicePointWithOwner);
+
+    loansToBillAre(loanWithoutOwner, loanWithOwner);
+
+    existingAccountsAreFound();
+
+    when(feeFineFacade.createAccountsIdempotently(anyCollection(), anyMap()))
+      .thenReturn(completedFuture(succeeded(null)));
+
+    updatingLoansSucceeds();
+
+    final Result<Void> result = service().chargeFees().join();
+
+    assertThat(result.failed(), is(true));
+
+    // Accounts are only created for the loan which has an owner
+    verify(feeFineFacade, times(1)).createAccountsIdempotently(anyCollection(), anyMap());
+
+    assertThat(billedLoanIds(1), containsInAnyOrder(loanWithOwner.getId()));
+  }
+
+  private ChargeLostFeesWhenAgedToLostService service() {
+    return new ChargeLostFeesWhenAgedToLostService(lostItemPolicyRepository,
+      feeFineOwnerRepository, feeFineRepository, feeFineFacade, loanRepository,
+      itemRepository, storeLoanAndItem);
+  }
+
+  private void loansToBillAre(Loan... loans) {
+    when(loanRepository.findByQuery(any(), any()))
+      .thenReturn(completedFuture(succeeded(
+        new MultipleRecords<>(asList(loans), loans.length))));
+
+    // Loans already have their items and policies
+    when(itemRepository.fetchItemsFor(any(), any()))
+      .thenAnswer(invocation -> completedFuture(invocation.getArgument(0)));
+
+    when(lostItemPolicyRepository.findLostItemPoliciesForLoans(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+
+    when(feeFineOwnerRepository.findOwnersForServicePoints(any()))
+      .thenReturn(completedFuture(succeeded(singletonList(new FeeFineOwner(
+        UUID.randomUUID().toString(), "Main library", singletonList(servicePointWithOwner))))));
+
+    when(feeFineRepository.getAutomaticFeeFines(any()))
+      .thenReturn(completedFuture(succeeded(singletonList(new FeeFine(
+        UUID.randomUUID().toString(), UUID.randomUUID().toString(), LOST_ITEM_FEE_TYPE)))));
+  }
+
+  private void existingAccountsAreFound() {
+    when(feeFineFacade.findExistingAccounts(anyCollection()))
+      .thenReturn(completedFuture(succeeded(emptyMap())));
+  }
+
+  private void updatingLoansSucceeds() {
+    when(loanRepository.updateLoan(any(Loan.class)))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  private List<String> billedLoanIds(int expectedNumberOfLoans) {
+    final ArgumentCaptor<Loan> captor = ArgumentCaptor.forClass(Loan.class);
+
+    verify(loanRepository, times(expectedNumberOfLoans)).updateLoan(captor.capture());
+
+    return captor.getAllValues().stream()
+      .map(Loan::getId)
+      .collect(toList());
+  }
+
+  private Loan agedToLostLoan(String primaryServicePointId) {
+    final Loan loan = Loan.from(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("itemId", UUID.randomUUID().toString())
+      .put("userId", UUID.randomUUID().toString())
+      .put("status", new JsonObject().put("name", "Open"))
+      .put("itemStatus", "Aged to lost")
+      .put("lostItemPolicyId", setCostPolicy.getId()));
+
+    loan.setAgedToLostDelayedBilling(false,
+      new DateTime(2020, 11, 2, 10, 0, DateTimeZone.UTC));
+
+    final Item item = Item.from(new JsonObject()
+      .put("id", loan.getItemId())
+      .put("status", new JsonObject().put("name", "Aged to lost")))
+      .withLocation(Location.from(new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("primaryServicePoint", primaryServicePointId)));
+
+    return loan.withItem(item).withLostItemPolicy(setCostPolicy);
+  }
+}
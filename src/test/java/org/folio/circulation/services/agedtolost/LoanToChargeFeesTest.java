@@ -1,12 +1,19 @@
 package org.folio.circulation.services.agedtolost;
 
 import static org.folio.circulation.services.agedtolost.LoanToChargeFees.usingLoan;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.UUID;
+
+import org.folio.circulation.domain.FeeFine;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.policy.Period;
 import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.junit.Test;
 
 import api.support.builders.LostItemFeePolicyBuilder;
@@ -60,6 +67,44 @@ public class LoanToChargeFeesTest {
     assertFalse(loanForLostItemPolicy(lostItemPolicy).shouldCloseLoan());
   }
 
+  @Test
+  public void idempotentAccountIdIsTheSameForSameLoanAndFeeType() {
+    val lostItemFeeType = new FeeFine(randomId(), randomId(), "Lost item fee");
+    val loan = agedToLostLoan(randomId());
+
+    assertEquals(loan.getIdempotentAccountId(lostItemFeeType),
+      loan.getIdempotentAccountId(lostItemFeeType));
+  }
+
+  @Test
+  public void idempotentAccountIdDiffersForDifferentFeeTypes() {
+    val lostItemFeeType = new FeeFine(randomId(), randomId(), "Lost item fee");
+    val processingFeeType = new FeeFine(randomId(), randomId(), "Lost item processing fee");
+    val loan = agedToLostLoan(randomId());
+
+    assertNotEquals(loan.getIdempotentAccountId(lostItemFeeType),
+      loan.getIdempotentAccountId(processingFeeType));
+  }
+
+  @Test
+  public void idempotentAccountIdDiffersForDifferentLoans() {
+    val lostItemFeeType = new FeeFine(randomId(), randomId(), "Lost item fee");
+
+    assertNotEquals(agedToLostLoan(randomId()).getIdempotentAccountId(lostItemFeeType),
+      agedToLostLoan(randomId()).getIdempotentAccountId(lostItemFeeType));
+  }
+
+  private LoanToChargeFees agedToLostLoan(String loanId) {
+    final Loan loan = Loan.from(new JsonObject().put("id", loanId));
+    loan.setAgedToLostDelayedBilling(false, new DateTime(2020, 5, 10, 12, 0, DateTimeZone.UTC));
+
+    return usingLoan(loan);
+  }
+
+  private String randomId() {
+    return UUID.randomUUID().toString();
+  }
+
   private LoanToChargeFees loanForLostItemPolicy(LostItemFeePolicyBuilder builder) {
     final Loan loan = Loan.from(new JsonObject())
       .withLostItemPolicy(LostItemPolicy.from(builder.create()));
@@ -0,0 +1,283 @@
+package org.folio.circulation.services.agedtolost;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.StoreLoanAndItem;
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ProcessingCursor;
+import org.folio.circulation.domain.policy.Period;
+import org.folio.circulation.domain.policy.lostitem.LostItemPolicy;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.infrastructure.storage.loans.LostItemPolicyRepository;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import api.support.builders.LostItemFeePolicyBuilder;
+import io.vertx.core.json.JsonObject;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MarkOverdueLoansAsAgedLostServiceTest {
+  private static final String CURSOR_NAME = "age_to_lost_cursor";
+
+  private final LostItemPolicy agedAfterOneWeek = lostItemPolicy(Period.weeks(1));
+  private final LostItemPolicy agedAfterFourWeeks = lostItemPolicy(Period.weeks(4));
+
+  private final DateTime twoWeeksAgo = DateTime.now(DateTimeZone.UTC).minusWeeks(2);
+
+  @Mock
+  private LoanRepository loanRepository;
+  @Mock
+  private LostItemPolicyRepository lostItemPolicyRepository;
+  @Mock
+  private ItemRepository itemRepository;
+  @Mock
+  private ConfigurationRepository configurationRepository;
+  @Mock
+  private StoreLoanAndItem storeLoanAndItem;
+
+  @Test
+  public void runResumesWithLoansDueAtTheSameTimeAsTheLastLoanProcessed() {
+    final String lastLoanId = "00000000-0000-4000-8000-000000000001";
+    final String lastDueDate = twoWeeksAgo.toString();
+
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME).moveTo(lastDueDate, lastLoanId));
+    policiesAre(agedAfterOneWeek);
+
+    final Loan dueAtTheSameTime = loan(twoWeeksAgo, agedAfterOneWeek);
+    final Loan dueLater = loan(twoWeeksAgo.plusHours(1), agedAfterOneWeek);
+
+    overdueLoansAre(dueAtTheSameTime, dueLater);
+    itemsAreFound();
+    storingSucceeds();
+    savingCursorSucceeds();
+
+    final Result<Void> result = service(2).processAgeToLost().join();
+
+    assertThat(result.succeeded(), is(true));
+
+    final ArgumentCaptor<CqlQuery> queries = ArgumentCaptor.forClass(CqlQuery.class);
+    final ArgumentCaptor<PageLimit> limits = ArgumentCaptor.forClass(PageLimit.class);
+
+    verify(loanRepository, times(2)).findByQuery(queries.capture(), limits.capture());
+
+    final String sameDueDateQuery = queries.getAllValues().get(0).toString();
+
+    assertThat(sameDueDateQuery, containsString(
+      String.format("dueDate==\"%s\"", lastDueDate)));
+    assertThat(sameDueDateQuery, containsString(
+      String.format("id>\"%s\"", lastLoanId)));
+    assertThat(limits.getAllValues().get(0).toString(), is("A page limit of \"2\""));
+
+    final String laterDueDateQuery = queries.getAllValues().get(1).toString();
+
+    assertThat(laterDueDateQuery, containsString(
+      String.format("dueDate>\"%s\"", lastDueDate)));
+    assertThat(laterDueDateQuery, not(containsString("id>")));
+
+    // Only the space left by the loans due at the same time is fetched
+    assertThat(limits.getAllValues().get(1).toString(), is("A page limit of \"1\""));
+
+    assertThat(storedLoanIds(2), contains(dueAtTheSameTime.getId(), dueLater.getId()));
+
+    // A full page was fetched so the next run continues after the last loan
+    final ProcessingCursor savedCursor = savedCursor();
+
+    assertThat(savedCursor.getLastDate(), is(dueLater.asJson().getString("dueDate")));
+    assertThat(savedCursor.getLastRecordId(), is(dueLater.getId()));
+  }
+
+  @Test
+  public void cursorMovesBackToStartWhenFewerLoansThanTheLimitAreFetched() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME)
+      .moveTo(twoWeeksAgo.toString(), UUID.randomUUID().toString()));
+
+    policiesAre(agedAfterOneWeek);
+
+    final Loan onlyLoanLeft = loan(twoWeeksAgo.plusHours(1), agedAfterOneWeek);
+
+    overdueLoansAre(onlyLoanLeft);
+    itemsAreFound();
+    storingSucceeds();
+    savingCursorSucceeds();
+
+    final Result<Void> result = service(10).processAgeToLost().join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(storedLoanIds(1), contains(onlyLoanLeft.getId()));
+    assertThat(savedCursor().isAtStart(), is(true));
+  }
+
+  @Test
+  public void cursorAtStartIsNotSavedWhenAllOverdueLoansAreFetched() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME));
+    policiesAre(agedAfterOneWeek);
+
+    overdueLoansAre(loan(twoWeeksAgo, agedAfterOneWeek));
+    itemsAreFound();
+    storingSucceeds();
+
+    final Result<Void> result = service(10).processAgeToLost().join();
+
+    assertThat(result.succeeded(), is(true));
+
+    // Starting from the beginning only needs a single query
+    verify(loanRepository).findByQuery(any(), any());
+    verify(configurationRepository, never()).saveProcessingCursor(any());
+  }
+
+  @Test
+  public void loansAreSkippedUntilTheirOwnPolicyIntervalHasPassed() {
+    cursorIs(ProcessingCursor.atStart(CURSOR_NAME));
+    policiesAre(agedAfterOneWeek, agedAfterFourWeeks);
+
+    final Loan agedAfterOneWeekLoan = loan(twoWeeksAgo, agedAfterOneWeek);
+    final Loan agedAfterFourWeeksLoan = loan(twoWeeksAgo, agedAfterFourWeeks);
+
+    overdueLoansAre(agedAfterOneWeekLoan, agedAfterFourWeeksLoan);
+    itemsAreFound();
+    storingSucceeds();
+
+    final Result<Void> result = service(10).processAgeToLost().join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(storedLoanIds(1), contains(agedAfterOneWeekLoan.getId()));
+  }
+
+  @Test
+  public void noLoansAreFetchedWhenNoPolicyAgesLoansToLost() {
+    policiesAre(lostItemPolicy(null));
+
+    final Result<Void> result = service(10).processAgeToLost().join();
+
+    assertThat(result.succeeded(), is(true));
+
+    verify(loanRepository, never()).findByQuery(any(), any());
+    verify(configurationRepository, never()).findProcessingCursor(any());
+  }
+
+  private MarkOverdueLoansAsAgedLostService service(int maximumNumberOfLoans) {
+    return new MarkOverdueLoansAsAgedLostService(loanRepository,
+      lostItemPolicyRepository, itemRepository, configurationRepository,
+      storeLoanAndItem, maximumNumberOfLoans);
+  }
+
+  private void cursorIs(ProcessingCursor cursor) {
+    when(configurationRepository.findProcessingCursor(CURSOR_NAME))
+      .thenReturn(completedFuture(succeeded(cursor)));
+  }
+
+  private void policiesAre(LostItemPolicy... policies) {
+    when(lostItemPolicyRepository.findAllLostItemPolicies())
+      .thenReturn(completedFuture(succeeded(
+        new MultipleRecords<>(asList(policies), policies.length))));
+  }
+
+  /**
+   * Loans due at the same time as the cursor are returned by the query for
+   * that due date, the others by the query for loans due later
+   */
+  private void overdueLoansAre(Loan... loans) {
+    when(loanRepository.findByQuery(any(), any())).thenAnswer(invocation -> {
+      final String query = invocation.getArgument(0).toString();
+
+      final List<Loan> matchingLoans = asList(loans).stream()
+        .filter(loan -> !query.contains("dueDate==")
+          || query.contains(loan.asJson().getString("dueDate")))
+        .filter(loan -> !query.contains("dueDate>\"")
+          || !query.contains(loan.asJson().getString("dueDate")))
+        .collect(toList());
+
+      return completedFuture(succeeded(
+        new MultipleRecords<>(matchingLoans, matchingLoans.size())));
+    });
+  }
+
+  private void itemsAreFound() {
+    when(itemRepository.fetchItemsFor(any(), any())).thenAnswer(invocation -> {
+      final Result<MultipleRecords<Loan>> loans = invocation.getArgument(0);
+
+      return completedFuture(loans.map(records -> records.mapRecords(
+        loan -> loan.withItem(checkedOutItem(loan)))));
+    });
+  }
+
+  private void storingSucceeds() {
+    when(storeLoanAndItem.updateLoanAndItemInStorage(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  private void savingCursorSucceeds() {
+    when(configurationRepository.saveProcessingCursor(any()))
+      .thenAnswer(invocation -> completedFuture(succeeded(invocation.getArgument(0))));
+  }
+
+  private List<String> storedLoanIds(int expectedNumberOfLoans) {
+    final ArgumentCaptor<Loan> captor = ArgumentCaptor.forClass(Loan.class);
+
+    verify(storeLoanAndItem, times(expectedNumberOfLoans))
+      .updateLoanAndItemInStorage(captor.capture());
+
+    return captor.getAllValues().stream()
+      .map(Loan::getId)
+      .collect(toList());
+  }
+
+  private ProcessingCursor savedCursor() {
+    final ArgumentCaptor<ProcessingCursor> captor = ArgumentCaptor.forClass(ProcessingCursor.class);
+
+    verify(configurationRepository).saveProcessingCursor(captor.capture());
+
+    return captor.getValue();
+  }
+
+  private static Loan loan(DateTime dueDate, LostItemPolicy lostItemPolicy) {
+    return Loan.from(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("itemId", UUID.randomUUID().toString())
+      .put("userId", UUID.randomUUID().toString())
+      .put("status", new JsonObject().put("name", "Open"))
+      .put("dueDate", dueDate.toString())
+      .put("lostItemPolicyId", lostItemPolicy.getId()));
+  }
+
+  private static Item checkedOutItem(Loan loan) {
+    return Item.from(new JsonObject()
+      .put("id", loan.getItemId())
+      .put("status", new JsonObject().put("name", "Checked out")));
+  }
+
+  private static LostItemPolicy lostItemPolicy(Period agedToLostAfterOverdue) {
+    return LostItemPolicy.from(new LostItemFeePolicyBuilder()
+      .withItemAgedToLostAfterOverdue(agedToLostAfterOverdue)
+      .billPatronImmediatelyWhenAgedToLost()
+      .create());
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.circulation.support;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.joda.time.DateTimeZone.UTC;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class ParsedDateTimePropertyTests {
+  @Test
+  public void sameValueIsOnlyParsedOnce() {
+    final ParsedDateTimeProperty dueDate = new ParsedDateTimeProperty("dueDate");
+
+    final JsonObject loan = new JsonObject().put("dueDate", "2020-11-05T10:00:00.000Z");
+
+    final DateTime firstParsed = dueDate.get(loan);
+
+    assertThat(firstParsed.isEqual(new DateTime(2020, 11, 5, 10, 0, UTC)), is(true));
+    assertThat(dueDate.get(loan), sameInstance(firstParsed));
+  }
+
+  @Test
+  public void changedValueIsParsedAgain() {
+    final ParsedDateTimeProperty dueDate = new ParsedDateTimeProperty("dueDate");
+
+    final JsonObject loan = new JsonObject().put("dueDate", "2020-11-05T10:00:00.000Z");
+
+    dueDate.get(loan);
+
+    loan.put("dueDate", "2020-12-01T15:30:00.000Z");
+
+    assertThat(dueDate.get(loan).isEqual(new DateTime(2020, 12, 1, 15, 30, UTC)),
+      is(true));
+  }
+
+  @Test
+  public void missingValueIsNull() {
+    final ParsedDateTimeProperty dueDate = new ParsedDateTimeProperty("dueDate");
+
+    assertThat(dueDate.get(new JsonObject()), is(nullValue()));
+    assertThat(dueDate.get(null), is(nullValue()));
+  }
+}
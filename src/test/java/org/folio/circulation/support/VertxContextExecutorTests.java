@@ -0,0 +1,69 @@
+package org.folio.circulation.support;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.folio.circulation.support.VertxContextExecutor.currentContextExecutor;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class VertxContextExecutorTests {
+  private Vertx vertx;
+
+  @Before
+  public void startVertx() {
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void stopVertx() {
+    vertx.close();
+  }
+
+  @Test
+  public void runsTaskImmediatelyWhenCreatedOutsideOfContext() {
+    final Thread currentThread = Thread.currentThread();
+    final CompletableFuture<Thread> executedOn = new CompletableFuture<>();
+
+    currentContextExecutor().execute(() -> executedOn.complete(Thread.currentThread()));
+
+    assertThat(executedOn.getNow(null), is(currentThread));
+  }
+
+  @Test
+  public void runsTaskOnContextWhenExecutedFromAnotherThread() throws Exception {
+    final Context context = vertx.getOrCreateContext();
+    final CompletableFuture<Executor> executor = new CompletableFuture<>();
+
+    context.runOnContext(notUsed -> executor.complete(currentContextExecutor()));
+
+    final CompletableFuture<Context> executedOn = CompletableFuture.supplyAsync(
+      Vertx::currentContext, executor.get(5, SECONDS));
+
+    assertThat(executedOn.get(5, SECONDS), is(context));
+  }
+
+  @Test
+  public void runsTaskImmediatelyWhenAlreadyOnContext() throws Exception {
+    final Context context = vertx.getOrCreateContext();
+    final CompletableFuture<Boolean> ranImmediately = new CompletableFuture<>();
+
+    context.runOnContext(notUsed -> {
+      final boolean[] ran = { false };
+
+      currentContextExecutor().execute(() -> ran[0] = true);
+
+      ranImmediately.complete(ran[0]);
+    });
+
+    assertThat(ranImmediately.get(5, SECONDS), is(true));
+  }
+}
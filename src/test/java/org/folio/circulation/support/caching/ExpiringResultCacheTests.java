@@ -0,0 +1,100 @@
+package org.folio.circulation.support.caching;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class ExpiringResultCacheTests {
+  @Test
+  public void remembersSuccessfullyLoadedValue() {
+    final ExpiringResultCache<String, Integer> cache = new ExpiringResultCache<>(
+      60000, 60000, 10);
+
+    final AtomicInteger loads = new AtomicInteger();
+
+    cache.get("key", () -> completedFuture(succeeded(loads.incrementAndGet())));
+
+    final Result<Integer> result = cache.get("key",
+      () -> completedFuture(succeeded(loads.incrementAndGet()))).join();
+
+    assertThat(result.value(), is(1));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  public void concurrentLookupsShareTheSameLoad() {
+    final ExpiringResultCache<String, Integer> cache = new ExpiringResultCache<>(
+      60000, 60000, 10);
+
+    final AtomicInteger loads = new AtomicInteger();
+    final CompletableFuture<Result<Integer>> load = new CompletableFuture<>();
+
+    final CompletableFuture<Result<Integer>> first = cache.get("key", () -> {
+      loads.incrementAndGet();
+      return load;
+    });
+
+    final CompletableFuture<Result<Integer>> second = cache.get("key", () -> {
+      loads.incrementAndGet();
+      return load;
+    });
+
+    load.complete(succeeded(5));
+
+    assertThat(first.join().value(), is(5));
+    assertThat(second.join().value(), is(5));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  public void doesNotRememberFailures() {
+    final ExpiringResultCache<String, Integer> cache = new ExpiringResultCache<>(
+      60000, 60000, 10);
+
+    final Result<Integer> failure = cache.get("key",
+      () -> completedFuture(failed(new ServerErrorFailure("Something went wrong"))))
+      .join();
+
+    final Result<Integer> result = cache.get("key",
+      () -> completedFuture(succeeded(3))).join();
+
+    assertThat(failure.failed(), is(true));
+    assertThat(result.value(), is(3));
+  }
+
+  @Test
+  public void loadsAgainWhenValueHasExpired() {
+    final ExpiringResultCache<String, Integer> cache = new ExpiringResultCache<>(
+      -1, -1, 10);
+
+    cache.get("key", () -> completedFuture(succeeded(1))).join();
+
+    final Result<Integer> result = cache.get("key",
+      () -> completedFuture(succeeded(2))).join();
+
+    assertThat(result.value(), is(2));
+  }
+
+  @Test
+  public void forgetsValuesWhenCleared() {
+    final ExpiringResultCache<String, Integer> cache = new ExpiringResultCache<>(
+      60000, 60000, 10);
+
+    cache.get("key", () -> completedFuture(succeeded(1))).join();
+    cache.clear();
+
+    final Result<Integer> result = cache.get("key",
+      () -> completedFuture(succeeded(2))).join();
+
+    assertThat(result.value(), is(2));
+  }
+}
@@ -0,0 +1,89 @@
+package org.folio.circulation.support.fetching;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class ConcurrentEnrichmentTests {
+  @Test
+  public void startsAllLookupsBeforeAnyHaveCompleted() {
+    final List<String> started = new ArrayList<>();
+    final CompletableFuture<Result<MultipleRecords<JsonObject>>> colours = new CompletableFuture<>();
+    final CompletableFuture<Result<MultipleRecords<JsonObject>>> sizes = new CompletableFuture<>();
+
+    final CompletableFuture<Result<MultipleRecords<JsonObject>>> enriched =
+      ConcurrentEnrichment.<JsonObject>forRecords("things", json -> json.getString("id"))
+        .with("colours", records -> { started.add("colours"); return colours; },
+          (record, withColour) -> record.copy().put("colour", withColour.getString("colour")))
+        .with("sizes", records -> { started.add("sizes"); return sizes; },
+          (record, withSize) -> record.copy().put("size", withSize.getString("size")))
+        .enrich(records(thing("1"), thing("2")));
+
+    assertThat(started, is(asList("colours", "sizes")));
+
+    sizes.complete(succeeded(records(
+      thing("2").put("size", "small"), thing("1").put("size", "large"))));
+
+    colours.complete(succeeded(records(
+      thing("1").put("colour", "red"), thing("2").put("colour", "blue"))));
+
+    final List<JsonObject> things = new ArrayList<>(enriched.join().value().getRecords());
+
+    assertThat(things.get(0), is(thing("1").put("colour", "red").put("size", "large")));
+    assertThat(things.get(1), is(thing("2").put("colour", "blue").put("size", "small")));
+  }
+
+  @Test
+  public void failsWhenAnyLookupFails() {
+    final Result<MultipleRecords<JsonObject>> result =
+      ConcurrentEnrichment.<JsonObject>forRecords("things", json -> json.getString("id"))
+        .with("colours", records -> completedFuture(succeeded(records)),
+          (record, withColour) -> record)
+        .with("sizes", records -> completedFuture(
+          failed(new ServerErrorFailure("Something went wrong"))),
+          (record, withSize) -> record)
+        .enrich(records(thing("1")))
+        .join();
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test
+  public void doesNotLookUpAnythingForNoRecords() {
+    final List<String> started = new ArrayList<>();
+
+    final Result<MultipleRecords<JsonObject>> result =
+      ConcurrentEnrichment.<JsonObject>forRecords("things", json -> json.getString("id"))
+        .with("colours", records -> {
+            started.add("colours");
+            return completedFuture(succeeded(records));
+          }, (record, withColour) -> record)
+        .enrich(records())
+        .join();
+
+    assertThat(result.value().isEmpty(), is(true));
+    assertThat(started.isEmpty(), is(true));
+  }
+
+  private static JsonObject thing(String id) {
+    return new JsonObject().put("id", id);
+  }
+
+  private static MultipleRecords<JsonObject> records(JsonObject... records) {
+    return new MultipleRecords<>(asList(records), records.length);
+  }
+}
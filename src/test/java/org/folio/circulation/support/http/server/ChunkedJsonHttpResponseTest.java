@@ -0,0 +1,156 @@
+package org.folio.circulation.support.http.server;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChunkedJsonHttpResponseTest {
+  @Mock
+  private HttpServerResponse response;
+
+  @Test
+  public void shouldWriteRecordsInTheSameShapeAsCollectionRepresentation() {
+    ChunkedJsonHttpResponse.ok(names(3), this::toJson, "names", 10)
+      .writeTo(response);
+
+    final JsonObject body = new JsonObject(writtenBody());
+
+    assertThat(body.getJsonArray("names"), is(new JsonArray()
+      .add(toJson("name-0")).add(toJson("name-1")).add(toJson("name-2"))));
+    assertThat(body.getInteger("totalRecords"), is(10));
+
+    verify(response).setStatusCode(200);
+    verify(response).setChunked(true);
+  }
+
+  @Test
+  public void shouldWriteNoRecords() {
+    ChunkedJsonHttpResponse.ok(new ArrayList<String>(), this::toJson, "names", 0)
+      .writeTo(response);
+
+    assertThat(new JsonObject(writtenBody()), is(new JsonObject()
+      .put("names", new JsonArray(emptyList()))
+      .put("totalRecords", 0)));
+  }
+
+  @Test
+  public void shouldWaitForResponseToDrainWhenWriteQueueIsFull() {
+    when(response.writeQueueFull()).thenReturn(true, false);
+
+    ChunkedJsonHttpResponse.ok(names(2000), this::toJson, "names", 2000)
+      .writeTo(response);
+
+    verify(response, never()).end(any(Buffer.class));
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).drainHandler(drainHandler.capture());
+
+    drainHandler.getValue().handle(null);
+
+    assertThat(new JsonObject(writtenBody()).getJsonArray("names").size(), is(2000));
+  }
+
+  @Test
+  public void shouldStopWritingWhenConnectionIsClosedWhilstWaitingToDrain() {
+    when(response.writeQueueFull()).thenReturn(true);
+
+    ChunkedJsonHttpResponse.ok(names(2000), this::toJson, "names", 2000)
+      .writeTo(response);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Handler<Void>> closeHandler = ArgumentCaptor.forClass(Handler.class);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).closeHandler(closeHandler.capture());
+    verify(response).drainHandler(drainHandler.capture());
+
+    closeHandler.getValue().handle(null);
+
+    // The drain handler is removed, but could already have been queued
+    verify(response).drainHandler(null);
+
+    drainHandler.getValue().handle(null);
+
+    verify(response, times(1)).write(any(Buffer.class));
+    verify(response, never()).end(any(Buffer.class));
+  }
+
+  @Test
+  public void shouldStopWritingWhenConnectionFailsWhilstWaitingToDrain() {
+    when(response.writeQueueFull()).thenReturn(true);
+
+    ChunkedJsonHttpResponse.ok(names(2000), this::toJson, "names", 2000)
+      .writeTo(response);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Handler<Throwable>> exceptionHandler =
+      ArgumentCaptor.forClass(Handler.class);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).exceptionHandler(exceptionHandler.capture());
+    verify(response).drainHandler(drainHandler.capture());
+
+    exceptionHandler.getValue().handle(new IllegalStateException("Connection reset"));
+
+    drainHandler.getValue().handle(null);
+
+    verify(response, times(1)).write(any(Buffer.class));
+    verify(response, never()).end(any(Buffer.class));
+  }
+
+  private String writtenBody() {
+    final ArgumentCaptor<Buffer> chunks = ArgumentCaptor.forClass(Buffer.class);
+    final ArgumentCaptor<Buffer> lastChunk = ArgumentCaptor.forClass(Buffer.class);
+
+    verify(response, atLeast(0)).write(chunks.capture());
+    verify(response).end(lastChunk.capture());
+
+    final Buffer body = Buffer.buffer();
+
+    chunks.getAllValues().forEach(body::appendBuffer);
+    body.appendBuffer(lastChunk.getValue());
+
+    return body.toString();
+  }
+
+  private JsonObject toJson(String name) {
+    return new JsonObject().put("name", name);
+  }
+
+  private static List<String> names(int count) {
+    final List<String> names = new ArrayList<>();
+
+    IntStream.range(0, count).forEach(index -> names.add("name-" + index));
+
+    return names;
+  }
+}
@@ -0,0 +1,72 @@
+package org.folio.circulation.support.http.server;
+
+import static org.folio.circulation.support.http.server.FieldSelection.withoutSelectionParameters;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class FieldSelectionTests {
+  @Test
+  public void includesEverythingWhenNothingIsSelected() {
+    final FieldSelection selection = FieldSelection.everything();
+
+    assertThat(selection.includes("item"), is(true));
+    assertThat(selection.select(loan()), is(loan()));
+  }
+
+  @Test
+  public void includesOnlyRelatedRecordsForSelectedFields() {
+    final FieldSelection selection = FieldSelection.fromParameters(null, "status,item");
+
+    assertThat(selection.includes("item"), is(true));
+    assertThat(selection.includes("borrower"), is(false));
+  }
+
+  @Test
+  public void includeTakesPrecedenceOverFields() {
+    final FieldSelection selection = FieldSelection.fromParameters("borrower", "item");
+
+    assertThat(selection.includes("borrower"), is(true));
+    assertThat(selection.includes("item"), is(false));
+  }
+
+  @Test
+  public void includesNoRelatedRecordsWhenIncludeIsEmpty() {
+    final FieldSelection selection = FieldSelection.fromParameters("", null);
+
+    assertThat(selection.includes("item", "borrower"), is(false));
+    assertThat(selection.select(loan()), is(loan()));
+  }
+
+  @Test
+  public void selectsOnlyTheIdAndSelectedFields() {
+    final FieldSelection selection = FieldSelection.fromParameters(null, " status , item");
+
+    assertThat(selection.select(loan()), is(new JsonObject()
+      .put("id", "1")
+      .put("status", new JsonObject().put("name", "Open"))));
+  }
+
+  @Test
+  public void removesSelectionParametersFromQuery() {
+    assertThat(withoutSelectionParameters(
+      "query=status.name%3DOpen&include=item&limit=10&fields=id%2Citem"),
+      is("query=status.name%3DOpen&limit=10"));
+  }
+
+  @Test
+  public void leavesQueryWithoutSelectionParametersAlone() {
+    assertThat(withoutSelectionParameters("limit=10"), is("limit=10"));
+    assertThat(withoutSelectionParameters(null), is((String) null));
+  }
+
+  private static JsonObject loan() {
+    return new JsonObject()
+      .put("id", "1")
+      .put("status", new JsonObject().put("name", "Open"))
+      .put("borrower", new JsonObject().put("barcode", "12345"));
+  }
+}
@@ -3,6 +3,7 @@ package org.folio.circulation.support.results;
 import static api.support.matchers.FailureMatcher.isErrorFailureContaining;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultExamples.alreadyFailed;
 import static org.folio.circulation.support.results.ResultExamples.shouldNotExecute;
@@ -10,10 +11,15 @@ import static org.folio.circulation.support.results.ResultExamples.somethingWent
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.Test;
 
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
 public class ResultAfterTests {
   @Test
   public void shouldSucceedWhenNextStepIsSuccessful()
@@ -63,4 +69,27 @@ public class ResultAfterTests {
 
     assertThat(result, isErrorFailureContaining("Something went wrong"));
   }
+
+  @Test
+  public void shouldContinueOnCallingContextWhenNextStepCompletesElsewhere()
+    throws ExecutionException,
+    InterruptedException,
+    TimeoutException {
+
+    final Vertx vertx = Vertx.vertx();
+
+    try {
+      final Context context = vertx.getOrCreateContext();
+      final CompletableFuture<Context> continuedOn = new CompletableFuture<>();
+
+      context.runOnContext(notUsed -> succeeded(10)
+        .after(value -> supplyAsync(() -> succeeded(value + 10)))
+        .thenAccept(result -> continuedOn.complete(Vertx.currentContext())));
+
+      assertThat(continuedOn.get(5, SECONDS), is(context));
+    }
+    finally {
+      vertx.close();
+    }
+  }
 }
@@ -2,6 +2,8 @@ package org.folio.circulation.support.results;
 
 import static api.support.matchers.FailureMatcher.isErrorFailureContaining;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultExamples.actionFailed;
 import static org.folio.circulation.support.results.ResultExamples.alreadyFailed;
@@ -10,10 +12,15 @@ import static org.folio.circulation.support.results.ResultExamples.somethingWent
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.Test;
 
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
 public class ResultCombineAfterTests {
   @Test
   public void shouldSucceedWhenNextStepIsSuccessful()
@@ -95,4 +102,30 @@ public class ResultCombineAfterTests {
     assertThat(result.succeeded(), is(true));
     assertThat(result.value(), is(30));
   }
+
+  @Test
+  public void shouldCombineOnCallingContextWhenNextStepCompletesElsewhere()
+    throws ExecutionException,
+    InterruptedException,
+    TimeoutException {
+
+    final Vertx vertx = Vertx.vertx();
+
+    try {
+      final Context context = vertx.getOrCreateContext();
+      final CompletableFuture<Context> combinedOn = new CompletableFuture<>();
+
+      context.runOnContext(notUsed -> succeeded(10)
+        .combineAfter(value -> supplyAsync(() -> succeeded(20)),
+          (v1, v2) -> {
+            combinedOn.complete(Vertx.currentContext());
+            return v1 + v2;
+          }));
+
+      assertThat(combinedOn.get(5, SECONDS), is(context));
+    }
+    finally {
+      vertx.close();
+    }
+  }
 }
@@ -0,0 +1,175 @@
+package org.folio.circulation.support.writebehind;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class WriteBehindQueueTests {
+  @Test
+  public void writeSucceedsBeforeItIsMade() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 3);
+
+    final CompletableFuture<Result<Void>> write = new CompletableFuture<>();
+
+    final Result<Void> result = queue.write("record", () -> write).getNow(null);
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(queue.getPendingWrites(), is(1));
+
+    write.complete(succeeded(null));
+
+    assertThat(queue.getPendingWrites(), is(0));
+    assertThat(queue.getCompletedWrites(), is(1L));
+  }
+
+  @Test
+  public void writesWaitForEarlierWritesWhenTooManyAreBeingMade() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 3);
+
+    final CompletableFuture<Result<Void>> firstWrite = new CompletableFuture<>();
+    final AtomicInteger secondWriteAttempts = new AtomicInteger();
+
+    queue.write("first record", () -> firstWrite);
+    queue.write("second record", () -> {
+      secondWriteAttempts.incrementAndGet();
+      return completedFuture(succeeded(null));
+    });
+
+    assertThat(secondWriteAttempts.get(), is(0));
+
+    firstWrite.complete(succeeded(null));
+
+    assertThat(secondWriteAttempts.get(), is(1));
+    assertThat(queue.getPendingWrites(), is(0));
+  }
+
+  @Test
+  public void failedWritesAreAttemptedAgain() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 3);
+
+    final AtomicInteger attempts = new AtomicInteger();
+
+    queue.write("record", () -> attempts.incrementAndGet() < 2
+      ? completedFuture(failed(new ServerErrorFailure("Unavailable")))
+      : completedFuture(succeeded(null)));
+
+    assertThat(attempts.get(), is(2));
+    assertThat(queue.getCompletedWrites(), is(1L));
+    assertThat(queue.getFailedWrites(), is(0L));
+  }
+
+  @Test
+  public void writesAreGivenUpOnAfterTooManyAttempts() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 3);
+
+    final AtomicInteger attempts = new AtomicInteger();
+
+    queue.write("record", () -> {
+      attempts.incrementAndGet();
+      return completedFuture(failed(new ServerErrorFailure("Unavailable")));
+    });
+
+    assertThat(attempts.get(), is(3));
+    assertThat(queue.getFailedWrites(), is(1L));
+    assertThat(queue.getPendingWrites(), is(0));
+    assertThat(queue.getHeldWrites(), is(1));
+  }
+
+  @Test
+  public void writeIsMadeBeforeSucceedingWhilstEarlierWritesAreHeld() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 1);
+
+    queue.write("failed record",
+      () -> completedFuture(failed(new ServerErrorFailure("Unavailable"))));
+
+    final CompletableFuture<Result<Void>> secondWrite = new CompletableFuture<>();
+
+    final CompletableFuture<Result<Void>> result
+      = queue.write("second record", () -> secondWrite);
+
+    assertThat(result.isDone(), is(false));
+
+    secondWrite.complete(failed(new ServerErrorFailure("Still unavailable")));
+
+    // The caller is told about the failure, rather than the write being held
+    assertThat(result.getNow(null).failed(), is(true));
+    assertThat(queue.getHeldWrites(), is(1));
+  }
+
+  @Test
+  public void heldWritesAreMadeAgainOnceAWriteSucceeds() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 1);
+
+    final AtomicInteger heldWriteAttempts = new AtomicInteger();
+
+    queue.write("held record", () -> heldWriteAttempts.incrementAndGet() < 2
+      ? completedFuture(failed(new ServerErrorFailure("Unavailable")))
+      : completedFuture(succeeded(null)));
+
+    assertThat(queue.getHeldWrites(), is(1));
+
+    final Result<Void> result = queue.write("second record",
+      () -> completedFuture(succeeded(null))).getNow(null);
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(heldWriteAttempts.get(), is(2));
+    assertThat(queue.getHeldWrites(), is(0));
+    assertThat(queue.getPendingWrites(), is(0));
+    assertThat(queue.getCompletedWrites(), is(1L));
+  }
+
+  @Test
+  public void writtenOnceAllEarlierWritesHaveBeenMade() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 2, 3);
+
+    final CompletableFuture<Result<Void>> firstWrite = new CompletableFuture<>();
+    final CompletableFuture<Result<Void>> secondWrite = new CompletableFuture<>();
+
+    queue.write("first record", () -> firstWrite);
+    queue.write("second record", () -> secondWrite);
+
+    final CompletableFuture<Void> written = queue.whenWritten();
+
+    secondWrite.complete(succeeded(null));
+
+    assertThat(written.isDone(), is(false));
+
+    firstWrite.complete(succeeded(null));
+
+    assertThat(written.isDone(), is(true));
+  }
+
+  @Test
+  public void writtenImmediatelyWhenNothingIsQueued() {
+    final WriteBehindQueue queue = new WriteBehindQueue(10, 1, 3);
+
+    assertThat(queue.whenWritten().isDone(), is(true));
+  }
+
+  @Test
+  public void writeIsMadeBeforeSucceedingWhenTooManyAreWaiting() {
+    final WriteBehindQueue queue = new WriteBehindQueue(1, 1, 3);
+
+    queue.write("first record", CompletableFuture::new);
+
+    final CompletableFuture<Result<Void>> secondWrite = new CompletableFuture<>();
+
+    final CompletableFuture<Result<Void>> result
+      = queue.write("second record", () -> secondWrite);
+
+    assertThat(result.isDone(), is(false));
+
+    secondWrite.complete(succeeded(null));
+
+    assertThat(result.isDone(), is(true));
+  }
+}